@@ -0,0 +1,58 @@
+package emu.jpoly;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import com.badlogic.gdx.Gdx;
+
+import emu.jpoly.memory.RomSource;
+
+/**
+ * A ROM image that is packaged in the application's assets and read through libGDX, for
+ * passing to the Memory's init methods on Android, where the assets are inside the APK
+ * rather than in files that a MappedRomFile could map. The image is read into an array on
+ * the first call to getData.
+ *
+ * @author Lance Ewing
+ */
+public class GdxRomFile implements RomSource {
+
+  /**
+   * The path of the ROM image, relative to the application's internal files.
+   */
+  private String path;
+
+  /**
+   * The ROM image, or null if it hasn't been read yet.
+   */
+  private byte[] data;
+
+  /**
+   * Constructor for GdxRomFile.
+   *
+   * @param path The path of the ROM image, relative to the application's internal files.
+   */
+  public GdxRomFile(String path) {
+    this.path = path;
+  }
+
+  /**
+   * Gets the ROM image, reading it if this is the first call. The buffer wraps the whole
+   * of the array that the image was read into, so that the Memory can load the image into
+   * a shared array from RomImages and read it directly.
+   *
+   * @return The ROM image.
+   *
+   * @throws IOException If the image couldn't be read.
+   */
+  public synchronized ByteBuffer getData() throws IOException {
+    if (data == null) {
+      try {
+        data = Gdx.files.internal(path).readBytes();
+      } catch (RuntimeException e) {
+        throw new IOException("Could not read ROM image " + path + ".", e);
+      }
+    }
+    return ByteBuffer.wrap(data);
+  }
+}
@@ -0,0 +1,72 @@
+package emu.jpoly.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import emu.jpoly.cpu.Cpu6809;
+import emu.jpoly.cpu.Cpu6809SingleCycle;
+
+/**
+ * Measures how many emulated cycles per microsecond each of the CPU engines manages on
+ * each of the instruction mixes in Programs. The baselineSingleCycle engine is
+ * Cpu6809SingleCycle from before its emulateCycle switch was split up, for comparison.
+ *
+ * @author Lance Ewing
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CpuBenchmark {
+
+  private static final int CYCLES_PER_INVOCATION = 10000;
+
+  @Param({ "singleCycle", "microcoded", "singleInstruction", "recompiler", "baselineSingleCycle" })
+  public String engine;
+
+  @Param({ "alu", "memory", "branch" })
+  public String mix;
+
+  private Cpu6809 cpu;
+
+  private BaselineCpu6809SingleCycle baselineCpu;
+
+  @Setup
+  public void setUp() {
+    if ("baselineSingleCycle".equals(engine)) {
+      baselineCpu = new BaselineCpu6809SingleCycle();
+      baselineCpu.setMemory(Programs.load(new Cpu6809SingleCycle(), Programs.getProgram(mix)));
+    } else {
+      cpu = Programs.createCpu(engine);
+      Programs.load(cpu, Programs.getProgram(mix));
+    }
+  }
+
+  /**
+   * Each operation is one emulated cycle.
+   */
+  @Benchmark
+  @OperationsPerInvocation(CYCLES_PER_INVOCATION)
+  public long emulateCycles() {
+    if (baselineCpu != null) {
+      baselineCpu.emulateCycles(CYCLES_PER_INVOCATION);
+      return baselineCpu.getProgramCounter();
+    }
+    cpu.emulateCycles(CYCLES_PER_INVOCATION);
+    return cpu.getCycleCount();
+  }
+}
@@ -0,0 +1,122 @@
+package emu.jpoly.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import emu.jpoly.cpu.Cpu6809SingleInstruction;
+import emu.jpoly.io.Acia6850;
+import emu.jpoly.io.Via6522;
+import emu.jpoly.memory.Memory;
+import emu.jpoly.memory.MemoryMappedChip;
+import emu.jpoly.memory.NibbleRamChip;
+import emu.jpoly.memory.NotFullyDecodedMemory;
+import emu.jpoly.memory.RamChip;
+import emu.jpoly.memory.RomChip;
+import emu.jpoly.memory.UnconnectedMemory;
+
+/**
+ * Measures Memory.readMemory and Memory.writeMemory over a page of each type of chip, and
+ * the block versions, Memory.readBlock and Memory.writeBlock, over the same page.
+ *
+ * @author Lance Ewing
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MemoryBenchmark {
+
+  private static final int BASE_ADDRESS = 0x4000;
+
+  @Param({ "ram", "rom", "nibbleRam", "unconnected", "notFullyDecoded", "via", "acia" })
+  public String chip;
+
+  private Memory memory;
+
+  private byte[] block = new byte[256];
+
+  @Setup
+  public void setUp() {
+    Cpu6809SingleInstruction cpu = new Cpu6809SingleInstruction();
+    memory = new Memory(cpu, true);
+    memory.mapChipToMemory(createChip(cpu), BASE_ADDRESS, BASE_ADDRESS + 0x0FFF);
+  }
+
+  private MemoryMappedChip createChip(Cpu6809SingleInstruction cpu) {
+    if ("ram".equals(chip)) {
+      return new RamChip(0x1000);
+    } else if ("rom".equals(chip)) {
+      return new RomChip(new byte[0x1000]);
+    } else if ("nibbleRam".equals(chip)) {
+      return new NibbleRamChip(0x1000);
+    } else if ("unconnected".equals(chip)) {
+      return new UnconnectedMemory();
+    } else if ("notFullyDecoded".equals(chip)) {
+      return new NotFullyDecodedMemory(new MemoryMappedChip[] { new RamChip(0x1000), new Via6522(cpu) });
+    } else if ("via".equals(chip)) {
+      return new Via6522(cpu);
+    } else if ("acia".equals(chip)) {
+      return new Acia6850(cpu);
+    }
+    throw new IllegalArgumentException("Unknown chip: " + chip);
+  }
+
+  /**
+   * Each operation is one read.
+   */
+  @Benchmark
+  @OperationsPerInvocation(256)
+  public int readMemory() {
+    int total = 0;
+    for (int address = BASE_ADDRESS; address < BASE_ADDRESS + 256; address++) {
+      total += memory.readMemory(address);
+    }
+    return total;
+  }
+
+  /**
+   * Each operation is one write.
+   */
+  @Benchmark
+  @OperationsPerInvocation(256)
+  public void writeMemory() {
+    // The VIA registers at offsets 0x0E and 0x0D are the IER and IFR, so writing 0 to
+    // them leaves the VIA's interrupts disabled.
+    for (int address = BASE_ADDRESS; address < BASE_ADDRESS + 256; address++) {
+      memory.writeMemory(address, 0);
+    }
+  }
+
+  /**
+   * Each operation is one byte of a 256 byte block read.
+   */
+  @Benchmark
+  @OperationsPerInvocation(256)
+  public byte[] readBlock() {
+    memory.readBlock(BASE_ADDRESS, block, 0, block.length);
+    return block;
+  }
+
+  /**
+   * Each operation is one byte of a 256 byte block write.
+   */
+  @Benchmark
+  @OperationsPerInvocation(256)
+  public void writeBlock() {
+    memory.writeBlock(BASE_ADDRESS, block, 0, block.length);
+  }
+}
@@ -0,0 +1,128 @@
+package emu.jpoly.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import emu.jpoly.Machine;
+import emu.jpoly.cpu.Cpu6809SingleInstruction;
+import emu.jpoly.io.Acia6850;
+import emu.jpoly.io.Via6522;
+import emu.jpoly.memory.Memory;
+
+/**
+ * Measures the VIA's timers, both ticked every cycle and driven by a Machine, and the
+ * ACIA status register polling that BASIC does while waiting for a key.
+ *
+ * @author Lance Ewing
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PeripheralBenchmark {
+
+  private static final int CYCLES_PER_INVOCATION = 10000;
+
+  /**
+   * A loop that does nothing but wait for the VIA timer 1 interrupt.
+   */
+  private static final int[] VIA_PROGRAM = {
+      0x10, 0xCE, 0x80, 0x00,  // 1000: LDS #$8000
+      0x86, 0x40,              // 1004: LDA #$40      T1 free-running
+      0xB7, 0xD0, 0x0B,        // 1006: STA $D00B
+      0x86, 0xC0,              // 1009: LDA #$C0      Enable the T1 interrupt
+      0xB7, 0xD0, 0x0E,        // 100B: STA $D00E
+      0xCC, 0x4E, 0x20,        // 100E: LDD #$4E20    20000 cycles, i.e. 50Hz at 1MHz
+      0xF7, 0xD0, 0x04,        // 1011: STB $D004
+      0xB7, 0xD0, 0x05,        // 1014: STA $D005
+      0x1C, 0xEF,              // 1017: ANDCC #$EF
+      0x20, 0xFE,              // 1019: BRA $1019
+      0x00, 0x00, 0x00, 0x00, 0x00,
+      0xB6, 0xD0, 0x04,        // 1020: LDA $D004     IRQ handler
+      0x3B                     // 1023: RTI
+  };
+
+  private Via6522 tickedVia;
+
+  private Cpu6809SingleInstruction tickedCpu;
+
+  private Machine machine;
+
+  private Acia6850 acia;
+
+  @Setup
+  public void setUp() {
+    tickedCpu = new Cpu6809SingleInstruction();
+    tickedVia = createViaMachine(tickedCpu);
+
+    Cpu6809SingleInstruction scheduledCpu = new Cpu6809SingleInstruction();
+    Via6522 scheduledVia = createViaMachine(scheduledCpu);
+    machine = new Machine(scheduledCpu);
+    scheduledVia.setScheduler(machine);
+
+    acia = new Acia6850(new Cpu6809SingleInstruction());
+  }
+
+  private Via6522 createViaMachine(Cpu6809SingleInstruction cpu) {
+    Memory memory = Programs.load(cpu, VIA_PROGRAM);
+    Via6522 via = new Via6522(cpu);
+    memory.mapChipToMemory(via, 0xD000, 0xD0FF);
+    memory.writeMemory(0xFFF8, 0x10);
+    memory.writeMemory(0xFFF9, 0x20);
+    return via;
+  }
+
+  /**
+   * The CPU stepped one instruction at a time with the VIA ticked for every cycle. Each
+   * operation is one emulated cycle.
+   */
+  @Benchmark
+  @OperationsPerInvocation(CYCLES_PER_INVOCATION)
+  public long viaTickedEveryCycle() {
+    int cycles = 0;
+    while (cycles < CYCLES_PER_INVOCATION) {
+      int instructionCycles = tickedCpu.executeInstruction();
+      for (int i = 0; i < instructionCycles; i++) {
+        tickedVia.emulateCycle();
+      }
+      cycles += instructionCycles;
+    }
+    return cycles;
+  }
+
+  /**
+   * The same program with the VIA driven by a Machine. Each operation is one emulated cycle.
+   */
+  @Benchmark
+  @OperationsPerInvocation(CYCLES_PER_INVOCATION)
+  public long viaScheduled() {
+    machine.emulateCycles(CYCLES_PER_INVOCATION);
+    return machine.getCurrentCycle();
+  }
+
+  /**
+   * Reads of the ACIA status register. Each operation is one read.
+   */
+  @Benchmark
+  @OperationsPerInvocation(256)
+  public int aciaStatusPolling() {
+    int total = 0;
+    for (int i = 0; i < 256; i++) {
+      total += acia.readMemory(0);
+    }
+    return total;
+  }
+}
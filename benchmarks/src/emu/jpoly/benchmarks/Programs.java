@@ -0,0 +1,135 @@
+package emu.jpoly.benchmarks;
+
+import emu.jpoly.cpu.Cpu6809;
+import emu.jpoly.cpu.Cpu6809Microcoded;
+import emu.jpoly.cpu.Cpu6809Recompiler;
+import emu.jpoly.cpu.Cpu6809SingleCycle;
+import emu.jpoly.cpu.Cpu6809SingleInstruction;
+import emu.jpoly.memory.Memory;
+
+/**
+ * The representative instruction mixes that the CPU benchmarks run, and the code to set up
+ * a CPU to run one of them. Each program is an endless loop starting at 0x1000.
+ *
+ * @author Lance Ewing
+ */
+final class Programs {
+
+  /**
+   * Register to register and immediate mode arithmetic, logic and shifts.
+   */
+  static final int[] ALU = {
+      0x86, 0x12,              // 1000: LDA #$12
+      0xC6, 0x34,              // 1002: LDB #$34
+      0x8B, 0x01,              // 1004: ADDA #$01
+      0xC9, 0x02,              // 1006: ADCB #$02
+      0x84, 0x7F,              // 1008: ANDA #$7F
+      0xC8, 0x55,              // 100A: EORB #$55
+      0x49,                    // 100C: ROLA
+      0x5A,                    // 100D: DECB
+      0x3D,                    // 100E: MUL
+      0xC3, 0x12, 0x34,        // 100F: ADDD #$1234
+      0x1E, 0x89,              // 1012: EXG A,B
+      0x44,                    // 1014: LSRA
+      0x20, 0xE9               // 1015: BRA $1000
+  };
+
+  /**
+   * Loads and stores in the direct, extended and indexed addressing modes.
+   */
+  static final int[] MEMORY = {
+      0x8E, 0x20, 0x00,        // 1000: LDX #$2000
+      0x10, 0x8E, 0x30, 0x00,  // 1003: LDY #$3000
+      0x96, 0x10,              // 1007: LDA <$10
+      0x97, 0x11,              // 1009: STA <$11
+      0xB6, 0x40, 0x00,        // 100B: LDA $4000
+      0xB7, 0x40, 0x01,        // 100E: STA $4001
+      0xEC, 0x02,              // 1011: LDD 2,X
+      0xED, 0xA1,              // 1013: STD ,Y++
+      0xA6, 0x80,              // 1015: LDA ,X+
+      0xE7, 0x88, 0x10,        // 1017: STB 16,X
+      0x6C, 0x84,              // 101A: INC ,X
+      0x20, 0xE2               // 101C: BRA $1000
+  };
+
+  /**
+   * Subroutine calls, returns, stack operations and conditional branches.
+   */
+  static final int[] BRANCH = {
+      0x10, 0xCE, 0x80, 0x00,  // 1000: LDS #$8000
+      0xC6, 0x08,              // 1004: LDB #$08
+      0x8D, 0x08,              // 1006: BSR $1010
+      0x5A,                    // 1008: DECB
+      0x26, 0xFB,              // 1009: BNE $1006
+      0xBD, 0x10, 0x10,        // 100B: JSR $1010
+      0x20, 0xF0,              // 100E: BRA $1000
+      0x34, 0x16,              // 1010: PSHS X,B,A
+      0x4C,                    // 1012: INCA
+      0x81, 0x80,              // 1013: CMPA #$80
+      0x2D, 0x01,              // 1015: BLT $1018
+      0x4F,                    // 1017: CLRA
+      0x35, 0x96               // 1018: PULS A,B,X,PC
+  };
+
+  private Programs() {
+  }
+
+  /**
+   * Creates a CPU of the given type with all RAM memory.
+   *
+   * @param engine One of "singleCycle", "microcoded", "singleInstruction" or "recompiler".
+   *
+   * @return The CPU.
+   */
+  static Cpu6809 createCpu(String engine) {
+    if ("singleCycle".equals(engine)) {
+      return new Cpu6809SingleCycle();
+    } else if ("microcoded".equals(engine)) {
+      return new Cpu6809Microcoded();
+    } else if ("singleInstruction".equals(engine)) {
+      return new Cpu6809SingleInstruction();
+    } else if ("recompiler".equals(engine)) {
+      return new Cpu6809Recompiler();
+    }
+    throw new IllegalArgumentException("Unknown engine: " + engine);
+  }
+
+  /**
+   * Gets the program for the given instruction mix.
+   *
+   * @param mix One of "alu", "memory" or "branch".
+   *
+   * @return The program.
+   */
+  static int[] getProgram(String mix) {
+    if ("alu".equals(mix)) {
+      return ALU;
+    } else if ("memory".equals(mix)) {
+      return MEMORY;
+    } else if ("branch".equals(mix)) {
+      return BRANCH;
+    }
+    throw new IllegalArgumentException("Unknown instruction mix: " + mix);
+  }
+
+  /**
+   * Loads the given program at 0x1000 in an all RAM memory for the given CPU, and points
+   * the RESET vector at it.
+   *
+   * @param cpu The CPU.
+   * @param program The program.
+   *
+   * @return The memory.
+   */
+  static Memory load(Cpu6809 cpu, int[] program) {
+    Memory memory = new Memory(cpu, true);
+    byte[] data = new byte[program.length];
+    for (int i = 0; i < program.length; i++) {
+      data[i] = (byte)program[i];
+    }
+    memory.writeBlock(0x1000, data, 0, data.length);
+    memory.writeMemory(0xFFFE, 0x10);
+    memory.writeMemory(0xFFFF, 0x00);
+    return memory;
+  }
+}
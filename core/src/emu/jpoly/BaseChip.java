@@ -1,6 +1,6 @@
 package emu.jpoly;
 
-import emu.jpoly.memory.*;
+import emu.jpoly.memory.Memory;
 
 /**
  * This is the base class of all chips.
@@ -14,13 +14,6 @@ public abstract class BaseChip {
    */
   protected Memory memory;
 
-  /**
-   * Holds an array of references to instances of MemoryMappedChip where each
-   * instance determines the behaviour of reading or writing to the given memory
-   * address.
-   */
-  protected MemoryMappedChip memoryMap[];
-  
   /**
    * Sets a reference to the Oric memory map. 
    *  
@@ -28,6 +21,5 @@ public abstract class BaseChip {
    */
   public void setMemory(Memory memory) {
     this.memory = memory;
-    this.memoryMap = memory.getMemoryMap();
   }
 }
@@ -0,0 +1,165 @@
+package emu.jpoly;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * The pending events of a Scheduler, held as a binary min-heap ordered by cycle, so that
+ * the next event is always at the top. Each chip has at most one event, which is moved
+ * within the heap when it is rescheduled rather than being added again.
+ *
+ * @author Lance Ewing
+ */
+class EventQueue {
+
+  /**
+   * A chip's place in the queue. These are kept for the life of the queue, so scheduling
+   * an event doesn't allocate anything after the first time for each chip.
+   */
+  private static class Event {
+    ScheduledChip chip;
+    long cycle;
+    int heapIndex = -1;
+  }
+
+  /**
+   * The event of each chip that has ever been scheduled.
+   */
+  private Map<ScheduledChip, Event> chipEvents;
+
+  /**
+   * The heap of pending events.
+   */
+  private Event[] heap;
+
+  /**
+   * The number of pending events.
+   */
+  private int size;
+
+  /**
+   * Constructor for EventQueue.
+   */
+  EventQueue() {
+    chipEvents = new IdentityHashMap<ScheduledChip, Event>();
+    heap = new Event[8];
+  }
+
+  /**
+   * @return The cycle of the next event, or Long.MAX_VALUE if there are none.
+   */
+  long getNextCycle() {
+    return (size > 0 ? heap[0].cycle : Long.MAX_VALUE);
+  }
+
+  /**
+   * @return The chip whose event is next. Only valid if there is a pending event.
+   */
+  ScheduledChip getNextChip() {
+    return heap[0].chip;
+  }
+
+  /**
+   * Sets the cycle of the given chip's event, adding it to the queue if necessary.
+   *
+   * @param chip The chip.
+   * @param cycle The cycle of the event.
+   */
+  void schedule(ScheduledChip chip, long cycle) {
+    Event event = chipEvents.get(chip);
+    if (event == null) {
+      event = new Event();
+      event.chip = chip;
+      chipEvents.put(chip, event);
+    }
+
+    if (event.heapIndex < 0) {
+      if (size == heap.length) {
+        Event[] newHeap = new Event[size * 2];
+        System.arraycopy(heap, 0, newHeap, 0, size);
+        heap = newHeap;
+      }
+      event.cycle = cycle;
+      event.heapIndex = size;
+      heap[size++] = event;
+      siftUp(event.heapIndex);
+    } else if (cycle < event.cycle) {
+      event.cycle = cycle;
+      siftUp(event.heapIndex);
+    } else {
+      event.cycle = cycle;
+      siftDown(event.heapIndex);
+    }
+  }
+
+  /**
+   * Removes the given chip's event from the queue, if it is in it.
+   *
+   * @param chip The chip.
+   */
+  void cancel(ScheduledChip chip) {
+    Event event = chipEvents.get(chip);
+    if ((event != null) && (event.heapIndex >= 0)) {
+      remove(event.heapIndex);
+    }
+  }
+
+  /**
+   * Removes the next event from the queue.
+   */
+  void removeNext() {
+    remove(0);
+  }
+
+  private void remove(int index) {
+    Event removed = heap[index];
+    removed.heapIndex = -1;
+    size--;
+    if (index < size) {
+      Event last = heap[size];
+      heap[index] = last;
+      last.heapIndex = index;
+      siftDown(index);
+      siftUp(last.heapIndex);
+    }
+    heap[size] = null;
+  }
+
+  private void siftUp(int index) {
+    Event event = heap[index];
+    while (index > 0) {
+      int parentIndex = (index - 1) >> 1;
+      Event parent = heap[parentIndex];
+      if (parent.cycle <= event.cycle) {
+        break;
+      }
+      heap[index] = parent;
+      parent.heapIndex = index;
+      index = parentIndex;
+    }
+    heap[index] = event;
+    event.heapIndex = index;
+  }
+
+  private void siftDown(int index) {
+    Event event = heap[index];
+    while (true) {
+      int childIndex = (index << 1) + 1;
+      if (childIndex >= size) {
+        break;
+      }
+      if ((childIndex + 1 < size) && (heap[childIndex + 1].cycle < heap[childIndex].cycle)) {
+        childIndex++;
+      }
+      Event child = heap[childIndex];
+      if (event.cycle <= child.cycle) {
+        break;
+      }
+      heap[index] = child;
+      child.heapIndex = index;
+      index = childIndex;
+    }
+    heap[index] = event;
+    event.heapIndex = index;
+  }
+}
@@ -0,0 +1,96 @@
+package emu.jpoly;
+
+import emu.jpoly.cpu.Cpu6809;
+
+/**
+ * Keeps the master clock for a machine, i.e. a CPU plus the chips attached to it. 
+ * 
+ * The CPU is run in bursts that end at the next event that a chip has scheduled, at which
+ * point the chip is called to do whatever it needs to, and then the next burst begins. A
+ * chip that has nothing due therefore costs nothing while the CPU runs. If a chip needs
+ * to schedule an event sooner than the end of the current burst, for example because the
+ * CPU has just written to one of its timers, then the burst is cut short to suit.
+ *
+ * The master clock is the CPU's cycle count.
+ *
+ * @author Lance Ewing
+ */
+public class Machine implements Scheduler {
+
+  /**
+   * The CPU that is driven by the master clock.
+   */
+  private Cpu6809 cpu;
+
+  /**
+   * The events that the chips have scheduled.
+   */
+  private EventQueue events;
+
+  /**
+   * The cycle that the last call to emulateCycles was asked to run up to. Any overrun of
+   * this by the last instruction is taken off the next call, so that over time the
+   * machine runs for exactly the number of cycles it is asked to.
+   */
+  private long endCycle;
+
+  /**
+   * Constructor for Machine.
+   *
+   * @param cpu The CPU that is driven by the master clock.
+   */
+  public Machine(Cpu6809 cpu) {
+    this.cpu = cpu;
+    this.events = new EventQueue();
+    this.endCycle = cpu.getCycleCount();
+  }
+
+  /**
+   * Emulates the given number of cycles of the whole machine.
+   *
+   * @param numOfCycles The number of cycles to emulate.
+   */
+  public void emulateCycles(int numOfCycles) {
+    endCycle += numOfCycles;
+    handleDueEvents();
+    while (cpu.getCycleCount() < endCycle) {
+      cpu.emulateUntil(Math.min(endCycle, events.getNextCycle()));
+      handleDueEvents();
+    }
+  }
+
+  /**
+   * Calls each chip whose event has been reached by the master clock. A chip may schedule
+   * its next event from within handleEvent, and if that has also been reached then it is
+   * called again.
+   */
+  private void handleDueEvents() {
+    long currentCycle = cpu.getCycleCount();
+    while (events.getNextCycle() <= currentCycle) {
+      long cycle = events.getNextCycle();
+      ScheduledChip chip = events.getNextChip();
+      events.removeNext();
+      chip.handleEvent(cycle);
+    }
+  }
+
+  /**
+   * @return The CPU driven by this Machine.
+   */
+  public Cpu6809 getCpu() {
+    return cpu;
+  }
+
+  public long getCurrentCycle() {
+    return cpu.getCycleCount();
+  }
+
+  public void schedule(ScheduledChip chip, long cycle) {
+    events.schedule(chip, cycle);
+    cpu.endBurstAt(cycle);
+  }
+
+  public void cancel(ScheduledChip chip) {
+    events.cancel(chip);
+  }
+}
@@ -0,0 +1,19 @@
+package emu.jpoly;
+
+/**
+ * This interface is implemented by chips that can be driven by a Scheduler instead of
+ * being emulated every cycle.
+ *
+ * @author Lance Ewing
+ */
+public interface ScheduledChip {
+
+  /**
+   * Invoked by the Scheduler when the cycle that the chip asked for is reached. The
+   * master clock may have gone slightly beyond that cycle by the time this is called,
+   * for example if the CPU was part way through an instruction.
+   *
+   * @param cycle The cycle that the event was scheduled for.
+   */
+  void handleEvent(long cycle);
+}
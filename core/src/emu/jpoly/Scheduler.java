@@ -0,0 +1,36 @@
+package emu.jpoly;
+
+/**
+ * This interface is implemented by whatever keeps the master clock of a machine. Chips
+ * that only need attention at particular moments, such as when a timer runs out, use it
+ * to ask to be called at that cycle rather than being emulated every cycle.
+ *
+ * @author Lance Ewing
+ */
+public interface Scheduler {
+
+  /**
+   * Gets the current value of the master clock, i.e. the number of cycles that have
+   * been emulated so far.
+   *
+   * @return The current cycle.
+   */
+  long getCurrentCycle();
+
+  /**
+   * Asks for the given chip's handleEvent method to be called once the master clock
+   * reaches the given cycle. This replaces any event that the chip already has
+   * scheduled, so each chip has at most one event pending at a time.
+   *
+   * @param chip The chip to call.
+   * @param cycle The cycle at which to call it.
+   */
+  void schedule(ScheduledChip chip, long cycle);
+
+  /**
+   * Cancels the event that the given chip has scheduled, if it has one.
+   *
+   * @param chip The chip whose event is to be cancelled.
+   */
+  void cancel(ScheduledChip chip);
+}
@@ -0,0 +1,315 @@
+package emu.jpoly.cpu;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Builds the class file for a TranslatedBlock subclass. Only the handful of bytecodes that
+ * BlockTranslator needs are supported. The class file version is 49 (Java 5), which means
+ * that no stack map frames are needed for the conditional jumps in the generated code.
+ *
+ * @author Lance Ewing
+ */
+class BlockClassWriter {
+
+  private static final String CPU_CLASS = "emu/jpoly/cpu/Cpu6809Recompiler";
+  private static final String BLOCK_CLASS = "emu/jpoly/cpu/TranslatedBlock";
+  private static final String EXECUTE_DESCRIPTOR = "(Lemu/jpoly/cpu/Cpu6809Recompiler;)I";
+
+  private static final int CONSTANT_UTF8 = 1;
+  private static final int CONSTANT_INTEGER = 3;
+  private static final int CONSTANT_CLASS = 7;
+  private static final int CONSTANT_METHODREF = 10;
+  private static final int CONSTANT_NAME_AND_TYPE = 12;
+
+  private static final int ICONST_0 = 0x03;
+  private static final int BIPUSH = 0x10;
+  private static final int SIPUSH = 0x11;
+  private static final int LDC_W = 0x13;
+  private static final int ALOAD_0 = 0x2A;
+  private static final int ALOAD_1 = 0x2B;
+  private static final int POP = 0x57;
+  private static final int IADD = 0x60;
+  private static final int IFEQ = 0x99;
+  private static final int IRETURN = 0xAC;
+  private static final int RETURN = 0xB1;
+  private static final int INVOKEVIRTUAL = 0xB6;
+  private static final int INVOKESPECIAL = 0xB7;
+
+  /**
+   * The deepest that the operand stack gets in the generated execute method, i.e. the
+   * CPU reference, two nested CPU calls and their arguments.
+   */
+  private static final int MAX_STACK = 8;
+
+  /**
+   * The constant pool, in the format that it is written to the class file.
+   */
+  private ByteArray constantPool;
+
+  /**
+   * The index of each constant that has been added to the constant pool so far.
+   */
+  private Map<String, Integer> constantIndexes;
+
+  /**
+   * The number of constant pool entries plus one, as the class file counts them.
+   */
+  private int constantPoolCount;
+
+  /**
+   * The bytecode of the execute method.
+   */
+  private ByteArray code;
+
+  /**
+   * Constructor for BlockClassWriter.
+   */
+  BlockClassWriter() {
+    constantPool = new ByteArray();
+    constantIndexes = new HashMap<String, Integer>();
+    constantPoolCount = 1;
+    code = new ByteArray();
+  }
+
+  /**
+   * Pushes the Cpu6809Recompiler that was passed to the execute method.
+   */
+  void loadCpu() {
+    code.u1(ALOAD_1);
+  }
+
+  /**
+   * Pushes the given int constant, using the shortest form available.
+   *
+   * @param value The value to push.
+   */
+  void pushInt(int value) {
+    if ((value >= -1) && (value <= 5)) {
+      code.u1(ICONST_0 + value);
+    } else if ((value >= -128) && (value <= 127)) {
+      code.u1(BIPUSH);
+      code.u1(value);
+    } else if ((value >= -32768) && (value <= 32767)) {
+      code.u1(SIPUSH);
+      code.u2(value);
+    } else {
+      code.u1(LDC_W);
+      code.u2(integerConstant(value));
+    }
+  }
+
+  /**
+   * Invokes one of the public methods of Cpu6809Recompiler.
+   *
+   * @param name The name of the method.
+   * @param descriptor The JVM descriptor of the method.
+   */
+  void invokeCpu(String name, String descriptor) {
+    code.u1(INVOKEVIRTUAL);
+    code.u2(methodConstant(CPU_CLASS, name, descriptor));
+  }
+
+  void pop() {
+    code.u1(POP);
+  }
+
+  void add() {
+    code.u1(IADD);
+  }
+
+  void returnInt() {
+    code.u1(IRETURN);
+  }
+
+  /**
+   * Starts an IFEQ jump. The jump target is filled in by a later call to endJump.
+   *
+   * @return The position of the jump, to pass to endJump.
+   */
+  int startJumpIfZero() {
+    int position = code.length();
+    code.u1(IFEQ);
+    code.u2(0);
+    return position;
+  }
+
+  /**
+   * Makes the jump at the given position go to the next bytecode to be added.
+   *
+   * @param position The position returned by startJumpIfZero.
+   */
+  void endJump(int position) {
+    code.set2(position + 1, code.length() - position);
+  }
+
+  /**
+   * Completes the class and returns the class file bytes.
+   *
+   * @param className The internal name of the class, i.e. with / separators.
+   *
+   * @return The class file.
+   */
+  byte[] toByteArray(String className) {
+    int thisClass = classConstant(className);
+    int superClass = classConstant(BLOCK_CLASS);
+    int superConstructor = methodConstant(BLOCK_CLASS, "<init>", "()V");
+    int constructorName = utf8Constant("<init>");
+    int constructorDescriptor = utf8Constant("()V");
+    int executeName = utf8Constant("execute");
+    int executeDescriptor = utf8Constant(EXECUTE_DESCRIPTOR);
+    int codeName = utf8Constant("Code");
+
+    ByteArray classFile = new ByteArray();
+    classFile.u4(0xCAFEBABE);
+    classFile.u2(0);
+    classFile.u2(49);
+    classFile.u2(constantPoolCount);
+    classFile.append(constantPool);
+    classFile.u2(0x0031);                     // ACC_PUBLIC | ACC_FINAL | ACC_SUPER
+    classFile.u2(thisClass);
+    classFile.u2(superClass);
+    classFile.u2(0);                          // Interfaces
+    classFile.u2(0);                          // Fields
+    classFile.u2(2);                          // Methods
+
+    // public <init>() { super(); }
+    ByteArray constructorCode = new ByteArray();
+    constructorCode.u1(ALOAD_0);
+    constructorCode.u1(INVOKESPECIAL);
+    constructorCode.u2(superConstructor);
+    constructorCode.u1(RETURN);
+    writeMethod(classFile, constructorName, constructorDescriptor, codeName, 1, 1, constructorCode);
+
+    // public int execute(Cpu6809Recompiler cpu) { ... }
+    writeMethod(classFile, executeName, executeDescriptor, codeName, MAX_STACK, 2, code);
+
+    classFile.u2(0);                          // Attributes
+    return classFile.toByteArray();
+  }
+
+  private void writeMethod(ByteArray classFile, int name, int descriptor, int codeName,
+      int maxStack, int maxLocals, ByteArray methodCode) {
+    classFile.u2(0x0001);                     // ACC_PUBLIC
+    classFile.u2(name);
+    classFile.u2(descriptor);
+    classFile.u2(1);
+    classFile.u2(codeName);
+    classFile.u4(12 + methodCode.length());
+    classFile.u2(maxStack);
+    classFile.u2(maxLocals);
+    classFile.u4(methodCode.length());
+    classFile.append(methodCode);
+    classFile.u2(0);                          // Exception table
+    classFile.u2(0);                          // Attributes
+  }
+
+  private int utf8Constant(String value) {
+    Integer index = constantIndexes.get("U" + value);
+    if (index == null) {
+      // The names used by the generated classes are all plain ASCII.
+      constantPool.u1(CONSTANT_UTF8);
+      constantPool.u2(value.length());
+      for (int i = 0; i < value.length(); i++) {
+        constantPool.u1(value.charAt(i));
+      }
+      index = addConstant("U" + value);
+    }
+    return index;
+  }
+
+  private int integerConstant(int value) {
+    Integer index = constantIndexes.get("I" + value);
+    if (index == null) {
+      constantPool.u1(CONSTANT_INTEGER);
+      constantPool.u4(value);
+      index = addConstant("I" + value);
+    }
+    return index;
+  }
+
+  private int classConstant(String name) {
+    Integer index = constantIndexes.get("C" + name);
+    if (index == null) {
+      int nameIndex = utf8Constant(name);
+      constantPool.u1(CONSTANT_CLASS);
+      constantPool.u2(nameIndex);
+      index = addConstant("C" + name);
+    }
+    return index;
+  }
+
+  private int methodConstant(String owner, String name, String descriptor) {
+    String key = "M" + owner + "." + name + descriptor;
+    Integer index = constantIndexes.get(key);
+    if (index == null) {
+      int ownerIndex = classConstant(owner);
+      int nameIndex = utf8Constant(name);
+      int descriptorIndex = utf8Constant(descriptor);
+      constantPool.u1(CONSTANT_NAME_AND_TYPE);
+      constantPool.u2(nameIndex);
+      constantPool.u2(descriptorIndex);
+      int nameAndTypeIndex = addConstant("N" + name + descriptor);
+      constantPool.u1(CONSTANT_METHODREF);
+      constantPool.u2(ownerIndex);
+      constantPool.u2(nameAndTypeIndex);
+      index = addConstant(key);
+    }
+    return index;
+  }
+
+  private int addConstant(String key) {
+    int index = constantPoolCount++;
+    constantIndexes.put(key, index);
+    return index;
+  }
+
+  /**
+   * A growable array of bytes with big-endian writes, as used by the class file format.
+   */
+  private static class ByteArray {
+
+    private byte[] data = new byte[256];
+    private int length;
+
+    int length() {
+      return length;
+    }
+
+    void u1(int value) {
+      if (length == data.length) {
+        byte[] newData = new byte[data.length * 2];
+        System.arraycopy(data, 0, newData, 0, length);
+        data = newData;
+      }
+      data[length++] = (byte) value;
+    }
+
+    void u2(int value) {
+      u1(value >> 8);
+      u1(value);
+    }
+
+    void u4(int value) {
+      u2(value >> 16);
+      u2(value);
+    }
+
+    void set2(int position, int value) {
+      data[position] = (byte) (value >> 8);
+      data[position + 1] = (byte) value;
+    }
+
+    void append(ByteArray other) {
+      for (int i = 0; i < other.length; i++) {
+        u1(other.data[i]);
+      }
+    }
+
+    byte[] toByteArray() {
+      byte[] result = new byte[length];
+      System.arraycopy(data, 0, result, 0, length);
+      return result;
+    }
+  }
+}
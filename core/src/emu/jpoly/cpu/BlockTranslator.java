@@ -0,0 +1,628 @@
+package emu.jpoly.cpu;
+
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Translates a block of 6809 code into a TranslatedBlock subclass.
+ *
+ * A block is a straight run of instructions that ends at the first branch, jump, call or
+ * return, at the first instruction that isn't translated, or after MAX_INSTRUCTIONS
+ * instructions. The generated execute method calls the public methods of Cpu6809Recompiler
+ * that each instruction needs, with the opcode, the immediate data and the addresses all
+ * passed as constants. The cycle count of the block is also a constant, apart from the
+ * extra cycle of a taken long branch. So once HotSpot has inlined those methods, the
+ * guest code is compiled more or less directly.
+ *
+ * Between instructions, the generated code asks the CPU whether it should leave the block,
+ * which it does if an interrupt can now be taken, if the block's code has been written
+ * to, or if the burst has reached its target cycle. This keeps interrupts and the ends of
+ * bursts on the same instruction boundaries as Cpu6809SingleInstruction.
+ *
+ * The instructions that are not translated are those that are rarely hot, i.e. the 0x10
+ * and 0x11 prefixed instructions other than the long branches, SWI, RTI, SYNC, CWAI, and
+ * those that read or write the PC in ways that would need it to be kept up to date, such
+ * as a TFR or EXG involving the PC. The interpreter executes these as normal.
+ *
+ * @author Lance Ewing
+ */
+class BlockTranslator {
+
+  /**
+   * The maximum number of instructions in a block.
+   */
+  static final int MAX_INSTRUCTIONS = 32;
+
+  /**
+   * The maximum number of bytes that a block can span, i.e. MAX_INSTRUCTIONS of the longest
+   * translated instruction.
+   */
+  static final int MAX_BLOCK_BYTES = MAX_INSTRUCTIONS * 4;
+
+  private static final int IMMEDIATE = 0;
+  private static final int DIRECT = 1;
+  private static final int INDEXED = 2;
+  private static final int EXTENDED = 3;
+
+  /**
+   * The cycles taken by the 8 bit operations, by addressing mode. Indexed mode cycles are
+   * before the extra cycles of the index calculation.
+   */
+  private static final int[] BYTE_CYCLES = { 2, 4, 4, 5 };
+
+  /**
+   * The cycles taken by SUBD, ADDD and CMPX, by addressing mode.
+   */
+  private static final int[] WORD_ARITHMETIC_CYCLES = { 4, 6, 6, 7 };
+
+  /**
+   * The cycles taken by the 16 bit loads and stores, by addressing mode.
+   */
+  private static final int[] WORD_TRANSFER_CYCLES = { 3, 5, 5, 6 };
+
+  /**
+   * The extra cycles taken by each indexed mode, by the bottom 5 bits of the post byte
+   * when the top bit is set. -1 means the post byte is illegal.
+   */
+  private static final int[] INDEXED_CYCLES = {
+      2,  3,  2,  3,  0,  1,  1, -1,  1,  4, -1,  4,  1,  5, -1, -1,
+     -1,  6, -1,  6,  3,  4,  4, -1,  4,  7, -1,  7,  4,  8, -1,  5
+  };
+
+  /**
+   * The number of offset bytes that follow the post byte in each indexed mode.
+   */
+  private static final int[] INDEXED_OFFSET_BYTES = {
+      0,  0,  0,  0,  0,  0,  0,  0,  1,  2,  0,  0,  1,  2,  0,  0,
+      0,  0,  0,  0,  0,  0,  0,  0,  1,  2,  0,  0,  1,  2,  0,  2
+  };
+
+  /**
+   * The CPU whose memory the code is read from.
+   */
+  private Cpu6809Recompiler cpu;
+
+  /**
+   * The number of blocks translated so far. Used to give each class a unique name.
+   */
+  private int blockCount;
+
+  /**
+   * The writer for the class of the block that is being translated.
+   */
+  private BlockClassWriter writer;
+
+  /**
+   * The number of cycles taken by the instructions translated so far in the current block.
+   */
+  private int cycles;
+
+  /**
+   * The address of the instruction after the one that was last translated.
+   */
+  private int nextAddress;
+
+  /**
+   * Whether the last instruction translated ended the block.
+   */
+  private boolean endOfBlock;
+
+  /**
+   * Constructor for BlockTranslator.
+   *
+   * @param cpu The CPU whose memory the code is read from.
+   */
+  BlockTranslator(Cpu6809Recompiler cpu) {
+    this.cpu = cpu;
+  }
+
+  /**
+   * Translates the block of code starting at the given address.
+   *
+   * @param startAddress The address of the first instruction.
+   *
+   * @return The translated block, or null if the first instruction isn't translated.
+   */
+  TranslatedBlock translate(int startAddress) {
+    writer = new BlockClassWriter();
+    cycles = 0;
+    endOfBlock = false;
+
+    int address = startAddress;
+    int instructionCount = 0;
+    while (!endOfBlock) {
+      if (instructionCount > 0) {
+        emitExitCheck(address);
+      }
+      if ((instructionCount == MAX_INSTRUCTIONS) || (address > 0xFFFF - 4) || !isPeekable(address)
+          || !translateInstruction(address)) {
+        if (instructionCount == 0) {
+          return null;
+        }
+        emitExit(address);
+        break;
+      }
+      address = nextAddress;
+      instructionCount++;
+    }
+
+    String className = String.format("emu/jpoly/cpu/Block%04X_%d", startAddress, blockCount++);
+    byte[] classFile = writer.toByteArray(className);
+    writer = null;
+
+    TranslatedBlock block;
+    try {
+      Class<?> blockClass = new BlockClassLoader(getClass().getClassLoader())
+          .defineBlockClass(className.replace('/', '.'), classFile);
+      block = (TranslatedBlock) blockClass.getDeclaredConstructor().newInstance();
+    } catch (NoSuchMethodException e) {
+      throw new IllegalStateException("Could not create translated block.", e);
+    } catch (InvocationTargetException e) {
+      throw new IllegalStateException("Could not create translated block.", e);
+    } catch (InstantiationException e) {
+      throw new IllegalStateException("Could not create translated block.", e);
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException("Could not create translated block.", e);
+    }
+    block.startAddress = startAddress;
+    block.endAddress = address;
+    return block;
+  }
+
+  /**
+   * Translates the instruction at the given address, if it is one that can be translated.
+   *
+   * @param address The address of the instruction.
+   *
+   * @return true if the instruction was translated.
+   */
+  @SuppressWarnings("fallthrough")
+  private boolean translateInstruction(int address) {
+    int opcode = read(address);
+
+    if (opcode >= 0x80) {
+      return translateHighOpcode(address, opcode);
+    }
+    if ((opcode < 0x10) || (opcode >= 0x60)) {
+      return translateMemoryModify(address, opcode);
+    }
+    if (opcode >= 0x40) {
+      return translateRegisterModify(address, opcode);
+    }
+    if ((opcode >= 0x20) && (opcode < 0x30)) {
+      int target = (address + 2 + to2C8Bit(read(address + 1))) & 0xFFFF;
+      nextAddress = address + 2;
+      writer.loadCpu();
+      writer.pushInt(opcode & 0x0F);
+      writer.pushInt(target);
+      writer.pushInt(nextAddress);
+      writer.invokeCpu("branch", "(III)I");
+      writer.pop();
+      cycles += 3;
+      emitReturn();
+      return true;
+    }
+
+    int postByte = read(address + 1);
+    switch (opcode) {
+      case 0x10:                                          // Long branches
+        opcode = read(address + 1);
+        if ((opcode < 0x21) || (opcode > 0x2F)) {
+          return false;
+        }
+        nextAddress = address + 4;
+        writer.pushInt(cycles + 5);
+        writer.loadCpu();
+        writer.pushInt(opcode & 0x0F);
+        writer.pushInt((nextAddress + to2C16Bit(readWord(address + 2))) & 0xFFFF);
+        writer.pushInt(nextAddress);
+        writer.invokeCpu("branch", "(III)I");
+        writer.add();
+        writer.returnInt();
+        endOfBlock = true;
+        return true;
+
+      case 0x12:                                          // NOP
+      case 0x19:                                          // DAA
+      case 0x1D:                                          // SEX
+      case 0x3A:                                          // ABX
+      case 0x3D:                                          // MUL
+        nextAddress = address + 1;
+        writer.loadCpu();
+        writer.pushInt(opcode);
+        writer.invokeCpu("inherent", "(I)V");
+        cycles += (opcode == 0x3D ? 11 : (opcode == 0x3A ? 3 : 2));
+        return true;
+
+      case 0x16:                                          // LBRA
+      case 0x17:                                          // LBSR
+        nextAddress = address + 3;
+        writer.loadCpu();
+        writer.pushInt((nextAddress + to2C16Bit(readWord(address + 1))) & 0xFFFF);
+        if (opcode == 0x16) {
+          writer.invokeCpu("jump", "(I)V");
+          cycles += 5;
+        } else {
+          writer.pushInt(nextAddress);
+          writer.invokeCpu("call", "(II)V");
+          cycles += 9;
+        }
+        emitReturn();
+        return true;
+
+      case 0x1E:                                          // EXG
+      case 0x1F:                                          // TFR
+        if (((postByte & 0xF0) == 0x50) || ((postByte & 0x0F) == 0x05)) {
+          // Involves the PC.
+          return false;
+        }
+        // Fall through.
+      case 0x1A:                                          // ORCC
+      case 0x1C:                                          // ANDCC
+        nextAddress = address + 2;
+        emitRegisterOperation(opcode, postByte);
+        cycles += (opcode == 0x1E ? 8 : (opcode == 0x1F ? 6 : 3));
+        return true;
+
+      case 0x30:                                          // LEAX
+      case 0x31:                                          // LEAY
+      case 0x32:                                          // LEAS
+      case 0x33:                                          // LEAU
+        if (!isLegalPostByte(postByte)) {
+          return false;
+        }
+        nextAddress = address + 2 + indexedOffsetBytes(postByte);
+        writer.loadCpu();
+        writer.pushInt(opcode);
+        emitAddress(INDEXED, address + 1);
+        writer.invokeCpu("loadEffectiveAddress", "(II)V");
+        cycles += 4 + indexedCycles(postByte);
+        return true;
+
+      case 0x34:                                          // PSHS
+      case 0x36:                                          // PSHU
+        if ((postByte & 0x80) != 0) {
+          // Pushes the PC.
+          return false;
+        }
+        // Fall through.
+      case 0x35:                                          // PULS
+      case 0x37:                                          // PULU
+        nextAddress = address + 2;
+        emitRegisterOperation(opcode, postByte);
+        cycles += 5 + Integer.bitCount(postByte & 0x0F) + 2 * Integer.bitCount(postByte & 0xF0);
+        if ((postByte & 0x80) != 0) {
+          // Pulls the PC.
+          emitReturn();
+        }
+        return true;
+
+      case 0x39:                                          // RTS
+        nextAddress = address + 1;
+        writer.loadCpu();
+        writer.invokeCpu("returnFromSubroutine", "()V");
+        cycles += 5;
+        emitReturn();
+        return true;
+
+      default:
+        return false;
+    }
+  }
+
+  /**
+   * Translates an instruction in the 0x80 to 0xFF range, i.e. those that operate on the
+   * accumulators and the X and U registers.
+   *
+   * @param address The address of the instruction.
+   * @param opcode The opcode of the instruction.
+   *
+   * @return true if the instruction was translated.
+   */
+  @SuppressWarnings("fallthrough")
+  private boolean translateHighOpcode(int address, int opcode) {
+    int mode = (opcode >> 4) & 3;
+    int operation = opcode & 0x0F;
+    boolean registerB = (opcode & 0x40) != 0;
+    boolean wordOperand = (operation == 0x3) || (operation == 0xC) || (operation == 0xE);
+
+    int operandLength = operandLength(mode, address + 1, wordOperand);
+    if (operandLength < 0) {
+      return false;
+    }
+    nextAddress = address + 1 + operandLength;
+    int extraCycles = (mode == INDEXED ? indexedCycles(read(address + 1)) : 0);
+
+    switch (operation) {
+      case 0x3:                                           // SUBD, ADDD
+      case 0xC:                                           // CMPX, LDD
+      case 0xE:                                           // LDX, LDU
+        writer.loadCpu();
+        writer.pushInt(opcode & 0x4F);
+        emitWordOperand(mode, address + 1);
+        writer.invokeCpu("operateWord", "(II)V");
+        if ((operation == 0x3) || (!registerB && (operation == 0xC))) {
+          cycles += WORD_ARITHMETIC_CYCLES[mode] + extraCycles;
+        } else {
+          cycles += WORD_TRANSFER_CYCLES[mode] + extraCycles;
+        }
+        return true;
+
+      case 0x7:                                           // STA, STB
+        if (mode == IMMEDIATE) {
+          return false;
+        }
+        writer.loadCpu();
+        emitAddress(mode, address + 1);
+        writer.invokeCpu(registerB ? "storeB" : "storeA", "(I)V");
+        cycles += BYTE_CYCLES[mode] + extraCycles;
+        return true;
+
+      case 0xD:                                           // BSR, JSR, STD
+        if (!registerB) {
+          writer.loadCpu();
+          if (mode == IMMEDIATE) {
+            writer.pushInt((nextAddress + to2C8Bit(read(address + 1))) & 0xFFFF);
+          } else {
+            emitAddress(mode, address + 1);
+          }
+          writer.pushInt(nextAddress);
+          writer.invokeCpu("call", "(II)V");
+          cycles += (mode == EXTENDED ? 8 : 7) + extraCycles;
+          emitReturn();
+          return true;
+        }
+        // Fall through.
+      case 0xF:                                           // STX, STD, STU
+        if (mode == IMMEDIATE) {
+          return false;
+        }
+        writer.loadCpu();
+        writer.pushInt(opcode & 0x4F);
+        emitAddress(mode, address + 1);
+        writer.invokeCpu("storeWord", "(II)V");
+        cycles += WORD_TRANSFER_CYCLES[mode] + extraCycles;
+        return true;
+
+      default:                                            // The 8 bit operations
+        writer.loadCpu();
+        writer.pushInt(operation);
+        emitByteOperand(mode, address + 1);
+        writer.invokeCpu(registerB ? "operateB" : "operateA", "(II)V");
+        cycles += BYTE_CYCLES[mode] + extraCycles;
+        return true;
+    }
+  }
+
+  /**
+   * Translates a read-modify-write instruction that operates on memory, or a JMP.
+   *
+   * @param address The address of the instruction.
+   * @param opcode The opcode of the instruction.
+   *
+   * @return true if the instruction was translated.
+   */
+  private boolean translateMemoryModify(int address, int opcode) {
+    int operation = opcode & 0x0F;
+    if (!isModifyOperation(operation) && (operation != 0xE)) {
+      return false;
+    }
+    int mode = (opcode < 0x10 ? DIRECT : (opcode < 0x70 ? INDEXED : EXTENDED));
+    int operandLength = operandLength(mode, address + 1, false);
+    if (operandLength < 0) {
+      return false;
+    }
+    nextAddress = address + 1 + operandLength;
+    int extraCycles = (mode == INDEXED ? indexedCycles(read(address + 1)) : 0);
+
+    writer.loadCpu();
+    if (operation == 0xE) {
+      emitAddress(mode, address + 1);
+      writer.invokeCpu("jump", "(I)V");
+      cycles += (mode == EXTENDED ? 4 : 3) + extraCycles;
+      emitReturn();
+    } else {
+      writer.pushInt(operation);
+      emitAddress(mode, address + 1);
+      writer.invokeCpu("modifyMemory", "(II)V");
+      cycles += (mode == EXTENDED ? 7 : 6) + extraCycles;
+    }
+    return true;
+  }
+
+  /**
+   * Translates a read-modify-write instruction that operates on A or B.
+   *
+   * @param address The address of the instruction.
+   * @param opcode The opcode of the instruction.
+   *
+   * @return true if the instruction was translated.
+   */
+  private boolean translateRegisterModify(int address, int opcode) {
+    int operation = opcode & 0x0F;
+    if (!isModifyOperation(operation)) {
+      return false;
+    }
+    nextAddress = address + 1;
+    writer.loadCpu();
+    writer.pushInt(operation);
+    writer.invokeCpu(opcode < 0x50 ? "modifyA" : "modifyB", "(I)V");
+    cycles += 2;
+    return true;
+  }
+
+  private boolean isModifyOperation(int operation) {
+    return (operation != 0x1) && (operation != 0x2) && (operation != 0x5) && (operation != 0xB) && (operation != 0xE);
+  }
+
+  private void emitRegisterOperation(int opcode, int postByte) {
+    writer.loadCpu();
+    writer.pushInt(opcode);
+    writer.pushInt(postByte);
+    writer.invokeCpu("registerOperation", "(II)V");
+  }
+
+  /**
+   * Emits the code to push the effective address for the given addressing mode.
+   *
+   * @param mode DIRECT, INDEXED or EXTENDED.
+   * @param operandAddress The address of the byte after the opcode.
+   */
+  private void emitAddress(int mode, int operandAddress) {
+    switch (mode) {
+      case DIRECT:
+        writer.loadCpu();
+        writer.pushInt(read(operandAddress));
+        writer.invokeCpu("directAddress", "(I)I");
+        break;
+      case INDEXED:
+        writer.loadCpu();
+        writer.pushInt(operandAddress);
+        writer.invokeCpu("indexedAddress", "(I)I");
+        break;
+      default:
+        writer.pushInt(readWord(operandAddress));
+        break;
+    }
+  }
+
+  private void emitByteOperand(int mode, int operandAddress) {
+    if (mode == IMMEDIATE) {
+      writer.pushInt(read(operandAddress));
+    } else {
+      writer.loadCpu();
+      emitAddress(mode, operandAddress);
+      writer.invokeCpu("fetch", "(I)I");
+    }
+  }
+
+  private void emitWordOperand(int mode, int operandAddress) {
+    if (mode == IMMEDIATE) {
+      writer.pushInt(readWord(operandAddress));
+    } else {
+      writer.loadCpu();
+      emitAddress(mode, operandAddress);
+      writer.invokeCpu("fetchWord", "(I)I");
+    }
+  }
+
+  /**
+   * Emits the check made between instructions as to whether the block should be left early.
+   *
+   * @param address The address of the next instruction.
+   */
+  private void emitExitCheck(int address) {
+    writer.loadCpu();
+    writer.pushInt(cycles);
+    writer.invokeCpu("isBlockExitRequested", "(I)Z");
+    int jump = writer.startJumpIfZero();
+    emitExit(address);
+    writer.endJump(jump);
+  }
+
+  /**
+   * Emits the code to leave the block with the program counter at the given address.
+   *
+   * @param address The address of the next instruction.
+   */
+  private void emitExit(int address) {
+    writer.loadCpu();
+    writer.pushInt(address);
+    writer.invokeCpu("exitBlock", "(I)V");
+    writer.pushInt(cycles);
+    writer.returnInt();
+  }
+
+  /**
+   * Emits the return at the end of a block whose last instruction has set the program counter.
+   */
+  private void emitReturn() {
+    writer.pushInt(cycles);
+    writer.returnInt();
+    endOfBlock = true;
+  }
+
+  /**
+   * Works out the number of bytes that follow the opcode for the given addressing mode.
+   *
+   * @param mode The addressing mode.
+   * @param operandAddress The address of the byte after the opcode.
+   * @param wordOperand Whether an immediate operand is 16 bits.
+   *
+   * @return The number of bytes, or -1 if the indexed mode post byte is illegal.
+   */
+  private int operandLength(int mode, int operandAddress, boolean wordOperand) {
+    switch (mode) {
+      case IMMEDIATE:
+        return (wordOperand ? 2 : 1);
+      case DIRECT:
+        return 1;
+      case INDEXED:
+        int postByte = read(operandAddress);
+        return (isLegalPostByte(postByte) ? 1 + indexedOffsetBytes(postByte) : -1);
+      default:
+        return 2;
+    }
+  }
+
+  private boolean isLegalPostByte(int postByte) {
+    return ((postByte & 0x80) == 0) || (INDEXED_CYCLES[postByte & 0x1F] >= 0);
+  }
+
+  private int indexedCycles(int postByte) {
+    return ((postByte & 0x80) == 0 ? 1 : INDEXED_CYCLES[postByte & 0x1F]);
+  }
+
+  private int indexedOffsetBytes(int postByte) {
+    return ((postByte & 0x80) == 0 ? 0 : INDEXED_OFFSET_BYTES[postByte & 0x1F]);
+  }
+
+  /**
+   * Checks that the bytes of the instruction at the given address, which are at most 4,
+   * can all be read without side effects. Code that can't, such as code in an IO page, is
+   * left to the interpreter, since reading it to translate it would change the state of
+   * the chip.
+   *
+   * @param address The address of the instruction.
+   *
+   * @return true if the instruction can be read without side effects.
+   */
+  private boolean isPeekable(int address) {
+    for (int i = 0; i < 4; i++) {
+      if (cpu.peek(address + i) < 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private int read(int address) {
+    return cpu.peek(address & 0xFFFF);
+  }
+
+  private int readWord(int address) {
+    return (read(address) << 8) | read(address + 1);
+  }
+
+  private static int to2C8Bit(int value) {
+    return ((value & 0x80) != 0 ? value - 0x100 : value);
+  }
+
+  private static int to2C16Bit(int value) {
+    return ((value & 0x8000) != 0 ? value - 0x10000 : value);
+  }
+
+  /**
+   * Each translated block has a class loader of its own, so that the block's class can be
+   * unloaded once the block has been invalidated.
+   */
+  private static class BlockClassLoader extends ClassLoader {
+
+    BlockClassLoader(ClassLoader parent) {
+      super(parent);
+    }
+
+    Class<?> defineBlockClass(String name, byte[] classFile) {
+      return defineClass(name, classFile, 0, classFile.length);
+    }
+  }
+}
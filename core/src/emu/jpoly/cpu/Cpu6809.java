@@ -0,0 +1,1280 @@
+package emu.jpoly.cpu;
+
+import emu.jpoly.BaseChip;
+
+/**
+ * The register state, ALU operations and interrupt lines of the MC6809 that are
+ * shared by the different CPU emulation engines. A machine picks the engine that it
+ * needs when it is constructed: Cpu6809SingleCycle, or the smaller table driven
+ * Cpu6809Microcoded, when bus accuracy matters on every cycle, or
+ * Cpu6809SingleInstruction when it is enough to execute a whole instruction at a time
+ * and account for its cycles afterwards.
+ * 
+ * @author Lance Ewing
+ */
+public abstract class Cpu6809 extends BaseChip {
+
+  // IRQ Vector Table.
+  protected static final int RESET_VECTOR_HI = 0xfffe;
+  protected static final int RESET_VECTOR_LO = 0xffff;
+  protected static final int NMI_VECTOR_HI   = 0xfffc;
+  protected static final int NMI_VECTOR_LO   = 0xfffd;
+  protected static final int SWI_VECTOR_HI   = 0xfffa;
+  protected static final int SWI_VECTOR_LO   = 0xfffb;
+  protected static final int IRQ_VECTOR_HI   = 0xfff8;
+  protected static final int IRQ_VECTOR_LO   = 0xfff9;
+  protected static final int FIRQ_VECTOR_HI  = 0xfff6;
+  protected static final int FIRQ_VECTOR_LO  = 0xfff7;
+  protected static final int SWI2_VECTOR_HI  = 0xfff4;
+  protected static final int SWI2_VECTOR_LO  = 0xfff5;
+  protected static final int SWI3_VECTOR_HI  = 0xfff2;
+  protected static final int SWI3_VECTOR_LO  = 0xfff3;
+  
+  // IRQ signals.
+  protected static final int S_NONE = 0;
+  protected static final int S_NMI  = 1;
+  protected static final int S_IRQ  = 2;
+  protected static final int S_FIRQ = 4;
+  
+  // Condition Code Register constants.
+  protected static final int C_MASK = 0x0001;
+  protected static final int V_MASK = 0x0002;
+  protected static final int Z_MASK = 0x0004;
+  protected static final int N_MASK = 0x0008;
+  protected static final int I_MASK = 0x0010;
+  protected static final int H_MASK = 0x0020;
+  protected static final int F_MASK = 0x0040;
+  protected static final int E_MASK = 0x0080;
+
+  /**
+   * The flags that the ALU operations can leave to be worked out later.
+   */
+  protected static final int LAZY_FLAGS_MASK = N_MASK | Z_MASK | V_MASK | C_MASK | H_MASK;
+
+  // The kinds of ALU operation that the lazily evaluated flags can be worked out from.
+  private static final int FLAGS_ADD8      = 0;
+  private static final int FLAGS_SUB8      = 1;
+  private static final int FLAGS_ADD16     = 2;
+  private static final int FLAGS_SUB16     = 3;
+  private static final int FLAGS_LOGIC8    = 4;
+  private static final int FLAGS_LOGIC16   = 5;
+  private static final int FLAGS_INC       = 6;
+  private static final int FLAGS_DEC       = 7;
+  private static final int FLAGS_NEG       = 8;
+  private static final int FLAGS_COM       = 9;
+  private static final int FLAGS_SHIFT_LEFT  = 10;
+  private static final int FLAGS_SHIFT_RIGHT = 11;
+
+  // The individual Condition Code Register flag values.
+  protected boolean entireFlag;
+  protected boolean firqDisableFlag;
+  protected boolean halfCarryFlag;
+  protected boolean irqDisableFlag;
+  protected boolean negativeFlag;
+  protected boolean zeroFlag;
+  protected boolean overflowFlag;
+  protected boolean carryFlag;
+
+  /**
+   * The N, Z, V, C and H flags, as CC masks, whose boolean fields are out of date and
+   * need to be worked out from the last ALU operation. Most ALU results are overwritten
+   * before anything looks at the flags, so the operations only record what they did, and
+   * the flags are worked out when a branch, getCC or a stack push needs them. Code that
+   * reads the flag fields directly must call materialiseFlags first if this isn't zero,
+   * and code that sets them directly must use the setters or clear the bits here.
+   */
+  protected int lazyFlags;
+
+  // The last ALU operation whose flags are pending, and its operands and raw result.
+  private int flagOperation;
+  private int flagOperand1;
+  private int flagOperand2;
+  private int flagResult;
+
+  // The core CPU state registers.
+  protected int accumulatorA;
+  protected int accumulatorB;
+  protected int directPageRegister;
+  protected int stackPointer;
+  protected int userStackPointer;
+  protected int indexRegisterX;
+  protected int indexRegisterY;
+
+  /**
+   * Points to the address of the next instruction to be executed.
+   */
+  protected int programCounter;
+
+  /**
+   * The current state of the interrupt pins, except that S_NMI is the latched NMI edge,
+   * which is cleared when the NMI is taken even if the line is still held.
+   */
+  protected int interruptStatus;
+  
+  /**
+   * The current state of the NMI pin. NMI is edge triggered, so holding it active only
+   * causes one NMI.
+   */
+  private boolean nmiLine;
+  
+  /**
+   * NMI is not enabled until the first time stack pointer is set.
+   */
+  protected boolean nmiArmed;
+  
+  /**
+   * Has a hardware RESET been triggered.
+   */
+  protected boolean reset;
+  
+  /**
+   * The number of cycles that have been emulated since the CPU was created. This isn't
+   * cleared by a RESET.
+   */
+  protected long cycleCount;
+  
+  /**
+   * The cycle that the current call to emulateUntil or emulateCycles is running up to.
+   * Outside of those calls, there is no limit.
+   */
+  protected long targetCycle = Long.MAX_VALUE;
+
+  /**
+   * Set by a cycle of a SYNC or CWAI wait state that found no interrupt to end the wait, and
+   * did nothing that the following cycles won't do again. The interrupt lines only change
+   * between bursts, so the rest of the burst can then be skipped over.
+   */
+  protected boolean idleCycle;
+
+  /**
+   * True if an interrupt might be due to be taken instead of the next opcode. This is only
+   * worked out again when an interrupt line changes, when CC is written, or when the full
+   * check at an opcode fetch finds that nothing is due after all, so the opcode fetch 
+   * usually only has to test this. It can be true when no interrupt is due, e.g. after an
+   * interrupt sequence has masked further interrupts or taken the NMI, but it is never
+   * false when one is.
+   */
+  protected boolean interruptPending;
+
+  /**
+   * Resets the CPU.
+   */
+  public void reset() {
+    // Set the internal state to its initial state.
+    directPageRegister = 0;
+    setCC(0);
+    irqDisableFlag = true;
+    firqDisableFlag = true;
+    interruptStatus = S_NONE;
+    interruptPending = false;
+    
+    // NMI is not acknowledged until the program loads the stack pointer for the first time.
+    nmiArmed = false;
+    
+    reset = true;
+  }
+
+  /**
+   * Emulates the given number of machine cycles.
+   * 
+   * @param numOfCycles The number of cycles to execute.
+   */
+  public abstract void emulateCycles(int numOfCycles);
+  
+  /**
+   * Gets the number of cycles that have been emulated since the CPU was created. While an
+   * instruction is executing, this is the number of cycles that had completed before the
+   * current one, or for engines that execute a whole instruction at a time, before the
+   * current instruction.
+   * 
+   * @return The number of cycles emulated so far.
+   */
+  public long getCycleCount() {
+    return cycleCount;
+  }
+  
+  /**
+   * Emulates until the cycle count reaches the given cycle, or the cycle given by a call 
+   * to endBurstAt made while running, whichever is sooner. An instruction that is part way 
+   * through when that cycle is reached is completed first by those engines that execute a 
+   * whole instruction at a time, and so the cycle count can end up slightly beyond it.
+   * 
+   * Unlike emulateCycles, any such overrun is not carried over to the next call, since the 
+   * caller can see it in the cycle count.
+   * 
+   * If the CPU is waiting in a SYNC or CWAI instruction, both this and emulateCycles jump
+   * straight to the end of the burst, which is when the next chip event is due.
+   * 
+   * @param cycle The cycle to emulate up to.
+   */
+  public abstract void emulateUntil(long cycle);
+  
+  /**
+   * Brings forward the end of the current call to emulateUntil, if it would otherwise run
+   * beyond the given cycle. This is for the use of the chips, via the Scheduler, when they
+   * need attention sooner than the CPU was told to run until.
+   * 
+   * @param cycle The cycle at which to stop.
+   */
+  public void endBurstAt(long cycle) {
+    if (cycle < targetCycle) {
+      targetCycle = cycle;
+    }
+  }
+
+  /**
+   * Called by Memory when a different chip has been mapped into the given page, either by
+   * mapping a chip or by switching to another memory map. This does nothing by default;
+   * a CPU that keeps anything derived from the contents of memory should discard it.
+   *
+   * @param page The number of the 256 byte page that has been remapped.
+   */
+  public void pageRemapped(int page) {
+  }
+
+  public void write(int address, int data) {
+    memory.writeMemory(address, data);
+  }
+
+  public int fetch(int address) {
+    return memory.readMemory(address);
+  }
+
+  /**
+   * Performs a bus cycle that reads the given address and throws the value away. The read
+   * is skipped when the Memory says it has no side effects.
+   *
+   * @param address The address to read.
+   */
+  protected void dummyFetch(int address) {
+    if (memory.isDummyReadNeeded(address)) {
+      fetch(address);
+    }
+  }
+
+  /**
+   * Reads a 16 bit value, high byte first.
+   *
+   * @param address The address of the high byte.
+   *
+   * @return The 16 bit value.
+   */
+  public int fetchWord(int address) {
+    return (fetch(address) << 8) | fetch((address + 1) & 0xFFFF);
+  }
+
+  /**
+   * Writes a 16 bit value, high byte first.
+   *
+   * @param address The address to write the high byte to.
+   * @param value The 16 bit value.
+   */
+  public void writeWord(int address, int value) {
+    write(address, (value >> 8) & 0xFF);
+    write((address + 1) & 0xFFFF, value & 0xFF);
+  }
+
+  /**
+   * Records an ALU operation whose flags are to be worked out when they are needed. Any
+   * flags still pending from the previous operation that this one doesn't set are worked
+   * out first, since they can't be once the previous operation is forgotten.
+   *
+   * @param flags The flags that the operation sets, as CC masks.
+   * @param operation The kind of operation, i.e. how to work out the flags.
+   * @param operand1 The first operand.
+   * @param operand2 The second operand, if there is one.
+   * @param result The result, before it is masked to 8 or 16 bits.
+   */
+  private void deferFlags(int flags, int operation, int operand1, int operand2, int result) {
+    if ((lazyFlags & ~flags) != 0) {
+      materialiseFlags();
+    }
+    lazyFlags = flags;
+    flagOperation = operation;
+    flagOperand1 = operand1;
+    flagOperand2 = operand2;
+    flagResult = result;
+  }
+
+  /**
+   * Works out the values of the pending flags from the last ALU operation, so that the
+   * flag fields are all up to date.
+   */
+  protected void materialiseFlags() {
+    int flags = lazyFlags;
+    if (flags == 0) {
+      return;
+    }
+    lazyFlags = 0;
+
+    // Work out all of the flags that the operation sets, as CC bits, and then update
+    // only those that are still pending, since some may have been set directly since.
+    int result = flagResult;
+    int carries = flagOperand1 ^ flagOperand2 ^ result;
+    int cc = 0;
+    switch (flagOperation) {
+      case FLAGS_ADD8:
+      case FLAGS_SUB8:
+        // Only addition sets H. The remaining flags are the same for both.
+        if (flagOperation == FLAGS_ADD8) {
+          cc |= ((carries & 0x10) != 0 ? H_MASK : 0);
+        }
+        cc |= (((carries ^ (result >> 1)) & 0x80) != 0 ? V_MASK : 0);
+        cc |= ((result & 0x100) != 0 ? C_MASK : 0);
+        break;
+      case FLAGS_ADD16:
+      case FLAGS_SUB16:
+        cc |= (((carries ^ (result >> 1)) & 0x8000) != 0 ? V_MASK : 0);
+        cc |= ((result & 0x10000) != 0 ? C_MASK : 0);
+        // Shift the 16 bit result so that N and Z can be worked out as for 8 bits.
+        result = ((result & 0x8000) >> 8) | ((result & 0xffff) != 0 ? 1 : 0);
+        break;
+      case FLAGS_LOGIC16:
+        result = ((result & 0x8000) >> 8) | (result != 0 ? 1 : 0);
+        break;
+      case FLAGS_INC:
+      case FLAGS_NEG:
+        // NEG and INC overflow when the result is -128, and NEG sets C unless it is zero.
+        cc |= (result == 0x80 ? V_MASK : 0);
+        cc |= ((flagOperation == FLAGS_NEG) && (result != 0) ? C_MASK : 0);
+        break;
+      case FLAGS_DEC:
+        cc |= (result == 0x7f ? V_MASK : 0);
+        break;
+      case FLAGS_COM:
+        cc |= C_MASK;
+        break;
+      case FLAGS_SHIFT_LEFT:
+        // The first operand is the value before the shift. Bit 7 goes to C, and V is bit 7 xor bit 6.
+        cc |= ((flagOperand1 & 0x80) != 0 ? C_MASK : 0);
+        cc |= (((flagOperand1 ^ (flagOperand1 << 1)) & 0x80) != 0 ? V_MASK : 0);
+        break;
+      case FLAGS_SHIFT_RIGHT:
+        cc |= ((flagOperand1 & 0x01) != 0 ? C_MASK : 0);
+        break;
+      default:
+        // FLAGS_LOGIC8, which clears V.
+        break;
+    }
+    cc |= ((result & 0x80) != 0 ? N_MASK : 0);
+    cc |= ((result & 0xff) == 0 ? Z_MASK : 0);
+
+    if ((flags & N_MASK) != 0) {
+      negativeFlag = (cc & N_MASK) != 0;
+    }
+    if ((flags & Z_MASK) != 0) {
+      zeroFlag = (cc & Z_MASK) != 0;
+    }
+    if ((flags & V_MASK) != 0) {
+      overflowFlag = (cc & V_MASK) != 0;
+    }
+    if ((flags & C_MASK) != 0) {
+      carryFlag = (cc & C_MASK) != 0;
+    }
+    if ((flags & H_MASK) != 0) {
+      halfCarryFlag = (cc & H_MASK) != 0;
+    }
+  }
+
+  /**
+   * Gets the carry flag, working it out first if it is pending.
+   *
+   * @return The carry flag.
+   */
+  private boolean carry() {
+    if ((lazyFlags & C_MASK) != 0) {
+      materialiseFlags();
+    }
+    return carryFlag;
+  }
+
+  /**
+   * Tests one of the branch conditions.
+   *
+   * @param condition The low nibble of the branch op code, e.g. 0x6 for BNE.
+   *
+   * @return true if the branch should be taken.
+   */
+  protected boolean isConditionTrue(int condition) {
+    if (lazyFlags != 0) {
+      materialiseFlags();
+    }
+    switch (condition) {
+      case 0x0: return true;
+      case 0x1: return false;
+      case 0x2: return !(carryFlag || zeroFlag);
+      case 0x3: return carryFlag || zeroFlag;
+      case 0x4: return !carryFlag;
+      case 0x5: return carryFlag;
+      case 0x6: return !zeroFlag;
+      case 0x7: return zeroFlag;
+      case 0x8: return !overflowFlag;
+      case 0x9: return overflowFlag;
+      case 0xA: return !negativeFlag;
+      case 0xB: return negativeFlag;
+      case 0xC: return !(negativeFlag ^ overflowFlag);
+      case 0xD: return negativeFlag ^ overflowFlag;
+      case 0xE: return !(zeroFlag || (negativeFlag ^ overflowFlag));
+      default:  return zeroFlag || (negativeFlag ^ overflowFlag);
+    }
+  }
+
+  protected int adc(int operand1, int operand2) {
+    operand1 &= 0xff;
+    operand2 &= 0xff;
+    int temp = operand1 + operand2 + (carry() ? 1 : 0);
+    deferFlags(LAZY_FLAGS_MASK, FLAGS_ADD8, operand1, operand2, temp);
+    return temp & 0xff;
+  }
+
+  protected int add(int operand1, int operand2) {
+    operand1 &= 0xff;
+    operand2 &= 0xff;
+    int temp = operand1 + operand2;
+    deferFlags(LAZY_FLAGS_MASK, FLAGS_ADD8, operand1, operand2, temp);
+    return temp & 0xff;
+  }
+
+  protected int addd(int operand1, int operand2) {
+    operand1 &= 0xffff;
+    operand2 &= 0xffff;
+    int temp = operand1 + operand2;
+    deferFlags(N_MASK | Z_MASK | V_MASK | C_MASK, FLAGS_ADD16, operand1, operand2, temp);
+    return temp & 0xffff;
+  }
+  
+  protected int and(int operand1, int operand2) {
+    operand1 = operand1 & operand2;
+    deferFlags(N_MASK | Z_MASK | V_MASK, FLAGS_LOGIC8, 0, 0, operand1);
+    return operand1;
+  }
+
+  protected int asl(int operand) {
+    int result = (operand << 1) & 0xff;
+    deferFlags(N_MASK | Z_MASK | V_MASK | C_MASK, FLAGS_SHIFT_LEFT, operand, 0, result);
+    return result;
+  }
+
+  protected int asr(int operand) {
+    // The sign bit is retained.
+    int result = (operand >> 1) | (operand & 0x80);
+    deferFlags(N_MASK | Z_MASK | C_MASK, FLAGS_SHIFT_RIGHT, operand, 0, result);
+    return result;
+  }
+
+  protected int clr() {
+    // The flags for CLR are the same as for NEG of zero.
+    deferFlags(N_MASK | Z_MASK | V_MASK | C_MASK, FLAGS_NEG, 0, 0, 0);
+    return 0;
+  }
+
+  protected int com(int operand) {
+    operand = ~operand & 0xff;
+    deferFlags(N_MASK | Z_MASK | V_MASK | C_MASK, FLAGS_COM, 0, 0, operand);
+    return operand;
+  }
+
+  protected int daa(int operand) {
+    materialiseFlags();
+    int lsn = (operand & 0x0f), msn = (operand & 0xf0);
+    int temp = 0, cf = 0;
+    if ((lsn > 9) || halfCarryFlag) {
+      cf |= 0x06;
+    }
+    if ((msn > 0x80 && lsn > 0x09) || carryFlag || msn > 0x90) {
+      cf |= 0x60;
+    }
+    temp = cf + operand;
+    carryFlag = ((temp & 0x100) != 0) || carryFlag;
+    operand = temp & 0xff;
+    zeroFlag = (operand == 0);
+    negativeFlag = ((operand & 0x80) != 0);
+    return operand;
+  }
+  
+  protected int dec(int operand) {
+    operand = (operand - 1) & 0xff;
+    deferFlags(N_MASK | Z_MASK | V_MASK, FLAGS_DEC, 0, 0, operand);
+    return operand;
+  }
+
+  protected int eor(int operand1, int operand2) {
+    operand1 = (operand1 ^ operand2) & 0xff;
+    deferFlags(N_MASK | Z_MASK | V_MASK, FLAGS_LOGIC8, 0, 0, operand1);
+    return operand1;
+  }
+
+  protected void exg(int postByte) {
+    int leftReg = ((postByte >> 4) & 0x0F);
+    int rightReg = (postByte & 0x0F);
+    int leftRegValue = 0xFFFF;
+    int rightRegValue = 0xFFFF;
+    switch (leftReg) {
+      case 0:
+        // D
+        leftRegValue = getD();
+        break;
+      case 1:
+        // X
+        leftRegValue = indexRegisterX;
+        break;
+      case 2:
+        // Y
+        leftRegValue = indexRegisterY;
+        break;
+      case 3:
+        // U
+        leftRegValue = userStackPointer;
+        break;
+      case 4:
+        // S
+        leftRegValue = stackPointer;
+        break;
+      case 5:
+        // PC
+        leftRegValue = programCounter;
+        break;
+      case 6:
+      case 7:
+        // Invalid
+        leftRegValue = 0xFFFF;
+        break;
+      case 8:
+        // A
+        leftRegValue = 0xFF00 | (accumulatorA & 0xFF);
+        break;
+      case 9:
+        // B
+        leftRegValue = 0xFF00 | (accumulatorB & 0xFF);
+        break;
+      case 10:
+        // CC
+        int cc = getCC();
+        leftRegValue = ((cc << 8) & 0xFF00) | (cc & 0xFF);
+        break;
+      case 11:
+        // DP
+        leftRegValue = ((directPageRegister << 8) & 0xFF00) | (directPageRegister & 0xFF);
+        break;
+      case 12:
+      case 13:
+      case 14:
+      case 15:
+        // Invalid
+        leftRegValue = 0xFFFF;
+        break;
+    }
+    switch (rightReg) {
+      case 0:
+        // D
+        rightRegValue = getD();
+        setD((leftRegValue & 0xFFFF));
+        break;
+      case 1:
+        // X
+        rightRegValue = indexRegisterX;
+        indexRegisterX = (leftRegValue & 0xFFFF);
+        break;
+      case 2:
+        // Y
+        rightRegValue = indexRegisterY;
+        indexRegisterY = (leftRegValue & 0xFFFF);
+        break;
+      case 3:
+        // U
+        rightRegValue = userStackPointer;
+        userStackPointer = (leftRegValue & 0xFFFF);
+        break;
+      case 4:
+        // S
+        rightRegValue = stackPointer;
+        stackPointer = (leftRegValue & 0xFFFF);
+        armNmi();
+        break;
+      case 5:
+        // PC
+        rightRegValue = programCounter;
+        programCounter = (leftRegValue & 0xFFFF);
+        break;
+      case 6:
+      case 7:
+        // Invalid. Ignore. No effect.
+        rightRegValue = 0xFFFF;
+        break;
+      case 8:
+        // A
+        rightRegValue = 0xFF00 | (accumulatorA & 0xFF);;
+        accumulatorA = (leftRegValue & 0xFF);
+        break;
+      case 9:
+        // B
+        rightRegValue = 0xFF00 | (accumulatorB & 0xFF);;
+        accumulatorB = (leftRegValue & 0xFF);
+        break;
+      case 10:
+        // CC
+        int cc = getCC();
+        rightRegValue = ((cc << 8) & 0xFF00) | (cc & 0xFF);
+        setCC(leftRegValue & 0xFF);
+        break;
+      case 11:
+        // DP
+        rightRegValue = ((directPageRegister << 8) & 0xFF00) | (directPageRegister & 0xFF);
+        directPageRegister = (leftRegValue & 0xFF);
+        break;
+      case 12:
+      case 13:
+      case 14:
+      case 15:
+        // Invalid. Ignore. No effect.
+        rightRegValue = 0xFFFF;
+        break;
+    }
+    switch (leftReg) {
+      case 0:
+        // D
+        setD((rightRegValue & 0xFFFF));
+        break;
+      case 1:
+        // X
+        indexRegisterX = (rightRegValue & 0xFFFF);
+        break;
+      case 2:
+        // Y
+        indexRegisterY = (rightRegValue & 0xFFFF);
+        break;
+      case 3:
+        // U
+        userStackPointer = (rightRegValue & 0xFFFF);
+        break;
+      case 4:
+        // S
+        stackPointer = (rightRegValue & 0xFFFF);
+        armNmi();
+        break;
+      case 5:
+        // PC
+        programCounter = (rightRegValue & 0xFFFF);
+        break;
+      case 6:
+      case 7:
+        // Invalid. Ignore. No effect.
+        break;
+      case 8:
+        // A
+        accumulatorA = (rightRegValue & 0xFF);
+        break;
+      case 9:
+        // B
+        accumulatorB = (rightRegValue & 0xFF);
+        break;
+      case 10:
+        // CC
+        setCC(rightRegValue & 0xFF);
+        break;
+      case 11:
+        // DP
+        directPageRegister = (rightRegValue & 0xFF);
+        break;
+      case 12:
+      case 13:
+      case 14:
+      case 15:
+        // Invalid. Ignore. No effect.
+        break;
+    }
+  }
+  
+  protected int inc(int operand) {
+    operand = (operand + 1) & 0xff;
+    deferFlags(N_MASK | Z_MASK | V_MASK, FLAGS_INC, 0, 0, operand);
+    return operand;
+  }
+
+  protected int ld8Bit(int operand) {
+    deferFlags(N_MASK | Z_MASK | V_MASK, FLAGS_LOGIC8, 0, 0, operand);
+    return operand;
+  }
+
+  protected int ld16Bit(int operand) {
+    deferFlags(N_MASK | Z_MASK | V_MASK, FLAGS_LOGIC16, 0, 0, operand);
+    return operand;
+  }
+
+  protected int lsr(int operand) {
+    int result = operand >>> 1;
+    deferFlags(N_MASK | Z_MASK | C_MASK, FLAGS_SHIFT_RIGHT, operand, 0, result);
+    return result;
+  }
+
+  protected int mul(int operand1, int operand2) {
+    int result = ((operand1 & 0xff) * (operand2 & 0xff)) & 0xffff;
+    zeroFlag = (result == 0);
+    carryFlag = ((result & 0x80) != 0);
+    lazyFlags &= ~(Z_MASK | C_MASK);
+    return result;
+  }
+  
+  protected int neg(int operand) {
+    operand = -operand & 0xff;
+    deferFlags(N_MASK | Z_MASK | V_MASK | C_MASK, FLAGS_NEG, 0, 0, operand);
+    return operand;
+  }
+
+  protected int or(int operand1, int operand2) {
+    operand1 = operand1 | operand2;
+    deferFlags(N_MASK | Z_MASK | V_MASK, FLAGS_LOGIC8, 0, 0, operand1);
+    return operand1;
+  }
+
+  protected int rol(int operand) {
+    int result = ((operand << 1) & 0xff) | (carry() ? 0x01 : 0);
+    deferFlags(N_MASK | Z_MASK | V_MASK | C_MASK, FLAGS_SHIFT_LEFT, operand, 0, result);
+    return result;
+  }
+
+  protected int ror(int operand) {
+    int result = (operand >>> 1) | (carry() ? 0x80 : 0);
+    deferFlags(N_MASK | Z_MASK | C_MASK, FLAGS_SHIFT_RIGHT, operand, 0, result);
+    return result;
+  }
+
+  protected int sex(int operand) {
+    // The flags are the same as for loading B, which is never zero when negative.
+    deferFlags(N_MASK | Z_MASK | V_MASK, FLAGS_LOGIC8, 0, 0, operand);
+    if ((operand & 0x80) != 0) {
+      operand = 0xFF00 | operand;
+    } else {
+      operand = 0x00FF & operand;
+    }
+    return operand;
+  }
+  
+  protected int sub8Bit(int operand1, int operand2) {
+    int temp = operand1 - operand2;
+    deferFlags(N_MASK | Z_MASK | V_MASK | C_MASK, FLAGS_SUB8, operand1, operand2, temp);
+    return temp & 0xff;
+  }
+  
+  protected int sub16Bit(int operand1, int operand2) {
+    int temp = operand1 - operand2;
+    deferFlags(N_MASK | Z_MASK | V_MASK | C_MASK, FLAGS_SUB16, operand1, operand2, temp);
+    return temp & 0xffff;
+  }
+
+  protected int sbc(int operand1, int operand2) {
+    int temp = operand1 - operand2 - (carry() ? 1 : 0);
+    deferFlags(N_MASK | Z_MASK | V_MASK | C_MASK, FLAGS_SUB8, operand1, operand2, temp);
+    return temp & 0xff;
+  }
+
+  protected void st8Bit(int operand) {
+    deferFlags(N_MASK | Z_MASK | V_MASK, FLAGS_LOGIC8, 0, 0, operand);
+  }
+
+  protected void st16Bit(int operand) {
+    deferFlags(N_MASK | Z_MASK | V_MASK, FLAGS_LOGIC16, 0, 0, operand);
+  }
+
+  protected void tfr(int postByte) {
+    int source = ((postByte >> 4) & 0x0F);
+    int destination = (postByte & 0x0F);
+    int sourceValue = 0xFFFF;
+    switch (source) {
+      case 0:
+        // D
+        sourceValue = getD();
+        break;
+      case 1:
+        // X
+        sourceValue = indexRegisterX;
+        break;
+      case 2:
+        // Y
+        sourceValue = indexRegisterY;
+        break;
+      case 3:
+        // U
+        sourceValue = userStackPointer;
+        break;
+      case 4:
+        // S
+        sourceValue = stackPointer;
+        break;
+      case 5:
+        // PC
+        sourceValue = programCounter;
+        break;
+      case 6:
+      case 7:
+        // Invalid
+        sourceValue = 0xFFFF;
+        break;
+      case 8:
+        // A
+        sourceValue = 0xFF00 | (accumulatorA & 0xFF);
+        break;
+      case 9:
+        // B
+        sourceValue = 0xFF00 | (accumulatorB & 0xFF);
+        break;
+      case 10:
+        // CC
+        int cc = getCC();
+        sourceValue = ((cc << 8) & 0xFF00) | (cc & 0xFF);
+        break;
+      case 11:
+        // DP
+        sourceValue = ((directPageRegister << 8) & 0xFF00) | (directPageRegister & 0xFF);
+        break;
+      case 12:
+      case 13:
+      case 14:
+      case 15:
+        // Invalid
+        sourceValue = 0xFFFF;
+        break;
+    }
+    switch (destination) {
+      case 0:
+        // D
+        setD((sourceValue & 0xFFFF));
+        break;
+      case 1:
+        // X
+        indexRegisterX = (sourceValue & 0xFFFF);
+        break;
+      case 2:
+        // Y
+        indexRegisterY = (sourceValue & 0xFFFF);
+        break;
+      case 3:
+        // U
+        userStackPointer = (sourceValue & 0xFFFF);
+        break;
+      case 4:
+        // S
+        stackPointer = (sourceValue & 0xFFFF);
+        armNmi();
+        break;
+      case 5:
+        // PC
+        programCounter = (sourceValue & 0xFFFF);
+        break;
+      case 6:
+      case 7:
+        // Invalid. Ignore. No effect.
+        break;
+      case 8:
+        // A
+        accumulatorA = (sourceValue & 0xFF);
+        break;
+      case 9:
+        // B
+        accumulatorB = (sourceValue & 0xFF);
+        break;
+      case 10:
+        // CC
+        setCC(sourceValue & 0xFF);
+        break;
+      case 11:
+        // DP
+        directPageRegister = (sourceValue & 0xFF);
+        break;
+      case 12:
+      case 13:
+      case 14:
+      case 15:
+        // Invalid. Ignore. No effect.
+        break;
+    }
+  }
+  
+  protected void tst(int operand) {
+    deferFlags(N_MASK | Z_MASK | V_MASK, FLAGS_LOGIC8, 0, 0, operand);
+  }
+
+  // 5-bit 2's complement
+  protected int to2C5Bit(int _unsigned) {
+    if (_unsigned > 0xf) {
+      return _unsigned | 0xffffffe0;
+    } else {
+      return _unsigned;
+    }
+  }
+
+  // 8-bit 2's complement
+  protected int to2C8Bit(int _unsigned) {
+    if (_unsigned > 0x7f) {
+      return _unsigned | 0xffffff00;
+    } else {
+      return _unsigned;
+    }
+  }
+
+  // 16-bit 2's complement
+  protected int to2C16Bit(int _unsigned) {
+    if (_unsigned > 0x7fff) {
+      return _unsigned | 0xffff0000;
+    } else {
+      return _unsigned;
+    }
+  }
+
+  public void signalIRQ(boolean state) {
+    if (state) {
+      interruptStatus |= S_IRQ;
+    } else {
+      interruptStatus &= ~S_IRQ;
+    }
+    updateInterruptPending();
+  }
+  
+  public void signalFIRQ(boolean state) {
+    if (state) {
+      interruptStatus |= S_FIRQ;
+    } else {
+      interruptStatus &= ~S_FIRQ;
+    }
+    updateInterruptPending();
+  }
+  
+  public void signalNMI(boolean state) {
+    if (state) {
+      if (!nmiLine) {
+        interruptStatus |= S_NMI;
+      }
+    } else {
+      interruptStatus &= ~S_NMI;
+    }
+    nmiLine = state;
+    updateInterruptPending();
+  }
+
+  /**
+   * Arms NMI, which the CPU does the first time that the stack pointer is loaded. An NMI
+   * edge that came before that is then due.
+   */
+  protected void armNmi() {
+    if (!nmiArmed) {
+      nmiArmed = true;
+      updateInterruptPending();
+    }
+  }
+
+  /**
+   * Works out interruptPending from the latched NMI edge, the other interrupt lines, and
+   * the I and F flags. An NMI edge only counts once NMI has been armed.
+   */
+  protected void updateInterruptPending() {
+    interruptPending = (((interruptStatus & S_NMI) != 0) && nmiArmed)
+        || (((interruptStatus & S_FIRQ) != 0) && !firqDisableFlag)
+        || (((interruptStatus & S_IRQ) != 0) && !irqDisableFlag);
+  }
+  
+  public boolean isIRQActive() {
+    return (interruptStatus & S_IRQ) != 0;
+  }
+  
+  public boolean isNMIActive() {
+    return nmiLine;
+  }
+  
+  public boolean isFIRQActive() {
+    return (interruptStatus & S_FIRQ) != 0;
+  }
+  
+  // Getters and Setters (mainly for unit testing, but CC and D also used in instructions)
+  
+  public void setCC(int cc) {
+    carryFlag = (cc & C_MASK) != 0;
+    overflowFlag = (cc & V_MASK) != 0;
+    zeroFlag = (cc & Z_MASK) != 0;
+    negativeFlag = (cc & N_MASK) != 0;
+    irqDisableFlag = (cc & I_MASK) != 0;
+    halfCarryFlag = (cc & H_MASK) != 0;
+    firqDisableFlag = (cc & F_MASK) != 0;
+    entireFlag = (cc & E_MASK) != 0;
+    lazyFlags = 0;
+    updateInterruptPending();
+  }
+
+  public int getCC() {
+    if (lazyFlags != 0) {
+      materialiseFlags();
+    }
+    int cc = 0;
+    if (carryFlag)
+      cc |= C_MASK;
+    if (overflowFlag)
+      cc |= V_MASK;
+    if (zeroFlag)
+      cc |= Z_MASK;
+    if (negativeFlag)
+      cc |= N_MASK;
+    if (irqDisableFlag)
+      cc |= I_MASK;
+    if (halfCarryFlag)
+      cc |= H_MASK;
+    if (firqDisableFlag)
+      cc |= F_MASK;
+    if (entireFlag)
+      cc |= E_MASK;
+    return cc;
+  }
+
+  public int getD() {
+    return (accumulatorA << 8) | accumulatorB;
+  }
+
+  public void setD(int d) {
+    accumulatorA = d >>> 8;
+    accumulatorB = d & 0xff;
+  }
+
+  /**
+   * @return the entireFlag
+   */
+  public boolean isEntireFlag() {
+    return entireFlag;
+  }
+
+  /**
+   * @param entireFlag the entireFlag to set
+   */
+  public void setEntireFlag(boolean entireFlag) {
+    this.entireFlag = entireFlag;
+  }
+
+  /**
+   * @return the firqDisableFlag
+   */
+  public boolean isFirqDisableFlag() {
+    return firqDisableFlag;
+  }
+
+  /**
+   * @param firqDisableFlag the firqDisableFlag to set
+   */
+  public void setFirqDisableFlag(boolean firqDisableFlag) {
+    this.firqDisableFlag = firqDisableFlag;
+    updateInterruptPending();
+  }
+
+  /**
+   * @return the halfCarryFlag
+   */
+  public boolean isHalfCarryFlag() {
+    if ((lazyFlags & H_MASK) != 0) {
+      materialiseFlags();
+    }
+    return halfCarryFlag;
+  }
+
+  /**
+   * @param halfCarryFlag the halfCarryFlag to set
+   */
+  public void setHalfCarryFlag(boolean halfCarryFlag) {
+    this.halfCarryFlag = halfCarryFlag;
+    lazyFlags &= ~H_MASK;
+  }
+
+  /**
+   * @return the irqDisableFlag
+   */
+  public boolean isIrqDisableFlag() {
+    return irqDisableFlag;
+  }
+
+  /**
+   * @param irqDisableFlag the irqDisableFlag to set
+   */
+  public void setIrqDisableFlag(boolean irqDisableFlag) {
+    this.irqDisableFlag = irqDisableFlag;
+    updateInterruptPending();
+  }
+
+  /**
+   * @return the negativeFlag
+   */
+  public boolean isNegativeFlag() {
+    if ((lazyFlags & N_MASK) != 0) {
+      materialiseFlags();
+    }
+    return negativeFlag;
+  }
+
+  /**
+   * @param negativeFlag the negativeFlag to set
+   */
+  public void setNegativeFlag(boolean negativeFlag) {
+    this.negativeFlag = negativeFlag;
+    lazyFlags &= ~N_MASK;
+  }
+
+  /**
+   * @return the zeroFlag
+   */
+  public boolean isZeroFlag() {
+    if ((lazyFlags & Z_MASK) != 0) {
+      materialiseFlags();
+    }
+    return zeroFlag;
+  }
+
+  /**
+   * @param zeroFlag the zeroFlag to set
+   */
+  public void setZeroFlag(boolean zeroFlag) {
+    this.zeroFlag = zeroFlag;
+    lazyFlags &= ~Z_MASK;
+  }
+
+  /**
+   * @return the overflowFlag
+   */
+  public boolean isOverflowFlag() {
+    if ((lazyFlags & V_MASK) != 0) {
+      materialiseFlags();
+    }
+    return overflowFlag;
+  }
+
+  /**
+   * @param overflowFlag the overflowFlag to set
+   */
+  public void setOverflowFlag(boolean overflowFlag) {
+    this.overflowFlag = overflowFlag;
+    lazyFlags &= ~V_MASK;
+  }
+
+  /**
+   * @return the carryFlag
+   */
+  public boolean isCarryFlag() {
+    if ((lazyFlags & C_MASK) != 0) {
+      materialiseFlags();
+    }
+    return carryFlag;
+  }
+
+  /**
+   * @param carryFlag the carryFlag to set
+   */
+  public void setCarryFlag(boolean carryFlag) {
+    this.carryFlag = carryFlag;
+    lazyFlags &= ~C_MASK;
+  }
+
+  /**
+   * @return the accumulatorA
+   */
+  public int getAccumulatorA() {
+    return accumulatorA;
+  }
+
+  /**
+   * @param accumulatorA the accumulatorA to set
+   */
+  public void setAccumulatorA(int accumulatorA) {
+    this.accumulatorA = accumulatorA;
+  }
+
+  /**
+   * @return the accumulatorB
+   */
+  public int getAccumulatorB() {
+    return accumulatorB;
+  }
+
+  /**
+   * @param accumulatorB the accumulatorB to set
+   */
+  public void setAccumulatorB(int accumulatorB) {
+    this.accumulatorB = accumulatorB;
+  }
+
+  /**
+   * @return the directPageRegister
+   */
+  public int getDirectPageRegister() {
+    return directPageRegister;
+  }
+
+  /**
+   * @param directPageRegister the directPageRegister to set
+   */
+  public void setDirectPageRegister(int directPageRegister) {
+    this.directPageRegister = directPageRegister;
+  }
+
+  /**
+   * @return the stackPointer
+   */
+  public int getStackPointer() {
+    return stackPointer;
+  }
+
+  /**
+   * @param stackPointer the stackPointer to set
+   */
+  public void setStackPointer(int stackPointer) {
+    this.stackPointer = stackPointer;
+  }
+
+  /**
+   * @return the userStackPointer
+   */
+  public int getUserStackPointer() {
+    return userStackPointer;
+  }
+
+  /**
+   * @param userStackPointer the userStackPointer to set
+   */
+  public void setUserStackPointer(int userStackPointer) {
+    this.userStackPointer = userStackPointer;
+  }
+
+  /**
+   * @return the indexRegisterX
+   */
+  public int getIndexRegisterX() {
+    return indexRegisterX;
+  }
+
+  /**
+   * @param indexRegisterX the indexRegisterX to set
+   */
+  public void setIndexRegisterX(int indexRegisterX) {
+    this.indexRegisterX = indexRegisterX;
+  }
+
+  /**
+   * @return the indexRegisterY
+   */
+  public int getIndexRegisterY() {
+    return indexRegisterY;
+  }
+
+  /**
+   * @param indexRegisterY the indexRegisterY to set
+   */
+  public void setIndexRegisterY(int indexRegisterY) {
+    this.indexRegisterY = indexRegisterY;
+  }
+
+  /**
+   * @return the programCounter
+   */
+  public int getProgramCounter() {
+    return programCounter;
+  }
+
+  /**
+   * @param programCounter the programCounter to set
+   */
+  public void setProgramCounter(int programCounter) {
+    this.programCounter = programCounter;
+  }
+}
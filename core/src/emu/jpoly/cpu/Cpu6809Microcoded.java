@@ -0,0 +1,1526 @@
+package emu.jpoly.cpu;
+
+/**
+ * A cycle-by-cycle emulation of the MC6809 that is driven by tables rather than by
+ * generated code. Each instruction is a short program of micro-ops, one per machine
+ * cycle, and emulateCycle is a small interpreter that runs the next micro-op of the
+ * current program. The micro-ops are the bus steps that Cpu6809SingleCycle spells out
+ * again and again for each instruction, e.g. fetching the low byte of an address,
+ * a dummy read of $FFFF, or writing the next register to the stack, and so the whole
+ * instruction set is built from around sixty of them.
+ *
+ * The part of an instruction that is particular to it, such as the subtraction in SUBA,
+ * happens in an "execute" micro-op, which looks up what to do in a second table. Each
+ * indexed instruction has a separate program for every indexed addressing mode, with the
+ * mode's steps in the middle, and the postbyte fetch switches over to the one for the
+ * mode that it gives. So an indexed instruction runs straight through, whatever its mode,
+ * whereas Cpu6809SingleCycle only fuses the short modes and hands over to the steps of the
+ * others and then back again.
+ *
+ * Every instruction performs the same reads and writes on the same cycles as it does in
+ * Cpu6809SingleCycle, so the two engines are interchangeable, but the code that runs on
+ * every cycle amounts to a couple of KB of bytecode rather than over a hundred. The
+ * register values part way through an instruction can differ, e.g. a 16 bit register
+ * loaded from memory is set in one go once both bytes have been read. They are always
+ * the same by the time that the next opcode is fetched.
+ *
+ * @author Lance Ewing
+ */
+public class Cpu6809Microcoded extends Cpu6809 {
+
+  // Instructions are numbered in the same way as in Cpu6809SingleCycle: the op code for
+  // unprefixed instructions, then the 0x10 and 0x11 prefixed ones, then the indexed
+  // addressing modes, and finally the hardware interrupts and RESET.
+  protected static final int PAGE2_INSTRUCTIONS = 0x100;
+  protected static final int PAGE3_INSTRUCTIONS = 0x200;
+  protected static final int INDEXED_MODE_STEPS = 0x300;
+  protected static final int FIRQ_INSTRUCTION  = 0x400;
+  protected static final int IRQ_INSTRUCTION   = 0x401;
+  protected static final int NMI_INSTRUCTION   = 0x402;
+  protected static final int RESET_INSTRUCTION = 0x403;
+
+  // The micro-ops. Each one takes exactly one machine cycle. The name says what is on the
+  // bus during that cycle, followed by what else happens, if anything.
+  private static final byte FETCH_OPCODE                = 0;
+  private static final byte FETCH_OPCODE_NO_INTERRUPT   = 1;
+  private static final byte FETCH_PAGE2_OPCODE          = 2;
+  private static final byte FETCH_PAGE3_OPCODE          = 3;
+  private static final byte ILLEGAL_HALT                = 4;
+  private static final byte ILLEGAL_FETCH_OPCODE        = 5;
+  private static final byte IGNORE_PC                   = 6;
+  private static final byte IGNORE_FFFF                 = 7;
+  private static final byte IGNORE_FFFE                 = 8;
+  private static final byte IGNORE_EA                   = 9;
+  private static final byte IGNORE_S                    = 10;
+  private static final byte IGNORE_U                    = 11;
+  private static final byte IGNORE_S_CHECK_STACK_MASK   = 12;
+  private static final byte IGNORE_U_CHECK_STACK_MASK   = 13;
+  private static final byte IGNORE_FFFF_CHECK_STACK_MASK = 14;
+  private static final byte IGNORE_FFFF_MASK_I          = 15;
+  private static final byte IGNORE_FFFF_MASK_IF         = 16;
+  private static final byte NO_BUS                      = 17;
+  private static final byte EXECUTE_PC                  = 18;
+  private static final byte EXECUTE_A_PC                = 19;
+  private static final byte EXECUTE_B_PC                = 20;
+  private static final byte EXECUTE_FFFF                = 21;
+  private static final byte DATA_PC                     = 22;
+  private static final byte DATA_PC_EXECUTE             = 23;
+  private static final byte DATA_HIGH_PC                = 24;
+  private static final byte DATA_LOW_PC                 = 25;
+  private static final byte DATA_LOW_PC_EXECUTE         = 26;
+  private static final byte POST_BYTE                   = 27;
+  private static final byte POST_BYTE_INDEXED           = 28;
+  private static final byte ADDRESS_DIRECT              = 29;
+  private static final byte ADDRESS_HIGH_PC             = 30;
+  private static final byte ADDRESS_LOW_PC              = 31;
+  private static final byte DATA_EA                     = 32;
+  private static final byte DATA_EA_EXECUTE             = 33;
+  private static final byte DATA_HIGH_EA                = 34;
+  private static final byte DATA_LOW_EA                 = 35;
+  private static final byte DATA_LOW_EA_EXECUTE         = 36;
+  private static final byte WRITE_DATA_EA               = 37;
+  private static final byte EXECUTE_WRITE_EA            = 38;
+  private static final byte EXECUTE_WRITE_HIGH_EA       = 39;
+  private static final byte WRITE_LOW_EA                = 40;
+  private static final byte OFFSET_PC                   = 41;
+  private static final byte OFFSET_HIGH_PC              = 42;
+  private static final byte OFFSET_LOW_PC               = 43;
+  private static final byte BRANCH                      = 44;
+  private static final byte LONG_BRANCH                 = 45;
+  private static final byte BRANCH_ADDRESS              = 46;
+  private static final byte JUMP_FFFF                   = 47;
+  private static final byte JUMP_FETCH_OPCODE           = 48;
+  private static final byte PUSH_RETURN_LOW             = 49;
+  private static final byte PUSH_RETURN_HIGH_JUMP       = 50;
+  private static final byte PUSH_S                      = 51;
+  private static final byte PUSH_U                      = 52;
+  private static final byte PULL_S                      = 53;
+  private static final byte PULL_U                      = 54;
+  private static final byte PULL_CC_CHECK_E             = 55;
+  private static final byte VECTOR_HIGH                 = 56;
+  private static final byte VECTOR_LOW                  = 57;
+  private static final byte WAIT_FOR_INTERRUPT          = 58;
+  private static final byte SYNC_WAIT                   = 59;
+  private static final byte RESET_WAIT                  = 60;
+  private static final byte INDEXED_EA                  = 61;
+  private static final byte INDEXED_EA_NO_BUS           = 62;
+  private static final byte INDIRECT_HIGH               = 63;
+  private static final byte INDIRECT_LOW                = 64;
+  private static final byte INDIRECT_EA                 = 65;
+  private static final byte RESET_JUMP_FFFF             = 66;
+
+  // The operations performed by the execute micro-ops. The read-modify-write operations are
+  // numbered by the low nibble of their op codes, and the 8 bit accumulator operations by
+  // the low nibble plus 16 for A and 32 for B. The branch micro-ops instead use the
+  // operation as the condition to test, which is also the low nibble of the op code.
+  private static final int NEG   = 0x0;
+  private static final int COM   = 0x3;
+  private static final int LSR   = 0x4;
+  private static final int ROR   = 0x6;
+  private static final int ASR   = 0x7;
+  private static final int ASL   = 0x8;
+  private static final int ROL   = 0x9;
+  private static final int DEC   = 0xA;
+  private static final int INC   = 0xC;
+  private static final int TST   = 0xD;
+  private static final int CLR   = 0xF;
+  private static final int SUBA  = 0x10;
+  private static final int CMPA  = 0x11;
+  private static final int SBCA  = 0x12;
+  private static final int ANDA  = 0x14;
+  private static final int BITA  = 0x15;
+  private static final int LDA   = 0x16;
+  private static final int STA   = 0x17;
+  private static final int EORA  = 0x18;
+  private static final int ADCA  = 0x19;
+  private static final int ORA   = 0x1A;
+  private static final int ADDA  = 0x1B;
+  private static final int SUBB  = 0x20;
+  private static final int CMPB  = 0x21;
+  private static final int SBCB  = 0x22;
+  private static final int ANDB  = 0x24;
+  private static final int BITB  = 0x25;
+  private static final int LDB   = 0x26;
+  private static final int STB   = 0x27;
+  private static final int EORB  = 0x28;
+  private static final int ADCB  = 0x29;
+  private static final int ORB   = 0x2A;
+  private static final int ADDB  = 0x2B;
+  private static final int SUBD  = 0x30;
+  private static final int ADDD  = 0x31;
+  private static final int CMPD  = 0x32;
+  private static final int CMPX  = 0x33;
+  private static final int CMPY  = 0x34;
+  private static final int CMPU  = 0x35;
+  private static final int CMPS  = 0x36;
+  private static final int LDD   = 0x37;
+  private static final int LDX   = 0x38;
+  private static final int LDY   = 0x39;
+  private static final int LDU   = 0x3A;
+  private static final int LDS   = 0x3B;
+  private static final int STD   = 0x3C;
+  private static final int STX   = 0x3D;
+  private static final int STY   = 0x3E;
+  private static final int STU   = 0x3F;
+  private static final int STS   = 0x40;
+  private static final int LEAX  = 0x41;
+  private static final int LEAY  = 0x42;
+  private static final int LEAS  = 0x43;
+  private static final int LEAU  = 0x44;
+  private static final int DAA   = 0x45;
+  private static final int SEX   = 0x46;
+  private static final int ORCC  = 0x47;
+  private static final int ANDCC = 0x48;
+  private static final int EXG   = 0x49;
+  private static final int TFR   = 0x4A;
+  private static final int ABX   = 0x4B;
+  private static final int MUL   = 0x4C;
+  private static final int RTS   = 0x4D;
+  private static final int CWAI  = 0x4E;
+  private static final int SWI   = 0x4F;
+  private static final int SWI2  = 0x50;
+  private static final int SWI3  = 0x51;
+  private static final int RESET = 0x52;
+  private static final int FIRQ  = 0x53;
+  private static final int IRQ   = 0x54;
+  private static final int NMI   = 0x55;
+
+  // The bytes that can be pushed, one bit each, in the order that they are pushed: PC low,
+  // PC high, U (or S) low, U (or S) high, Y low, Y high, X low, X high, DP, B, A and CC.
+  // They are pulled in the opposite order.
+  private static final int PC_SLOTS = 0x003;
+  private static final int CC_SLOT = 0x800;
+  private static final int ALL_SLOTS = 0xFFF;
+
+  /**
+   * The stack slots for each PSH and PUL postbyte.
+   */
+  private static final short[] STACK_SLOTS = new short[256];
+
+  // The addressing mode steps that come before the rest of an instruction's steps.
+  private static final byte[] DIRECT = { ADDRESS_DIRECT, IGNORE_FFFF };
+  private static final byte[] EXTENDED = { ADDRESS_HIGH_PC, ADDRESS_LOW_PC, IGNORE_FFFF };
+  private static final byte[] INDEXED = { POST_BYTE_INDEXED };
+
+  // The steps that follow the addressing mode for each kind of instruction.
+  private static final byte[] READ = { DATA_EA_EXECUTE };
+  private static final byte[] READ_WORD = { DATA_HIGH_EA, DATA_LOW_EA, EXECUTE_FFFF };
+  private static final byte[] LOAD_WORD = { DATA_HIGH_EA, DATA_LOW_EA_EXECUTE };
+  private static final byte[] STORE = { EXECUTE_WRITE_EA };
+  private static final byte[] STORE_WORD = { EXECUTE_WRITE_HIGH_EA, WRITE_LOW_EA };
+  private static final byte[] READ_MODIFY_WRITE = { DATA_EA, EXECUTE_FFFF, WRITE_DATA_EA };
+  private static final byte[] TEST = { DATA_EA, EXECUTE_FFFF, IGNORE_FFFF };
+  private static final byte[] JUMP_TO_SUBROUTINE = {
+      IGNORE_EA, IGNORE_FFFF, PUSH_RETURN_LOW, PUSH_RETURN_HIGH_JUMP
+  };
+  private static final byte[] IMMEDIATE = { DATA_PC_EXECUTE };
+  private static final byte[] IMMEDIATE_WORD = { DATA_HIGH_PC, DATA_LOW_PC, EXECUTE_FFFF };
+  private static final byte[] IMMEDIATE_LOAD_WORD = { DATA_HIGH_PC, DATA_LOW_PC_EXECUTE };
+  private static final byte[] STACK_INTERRUPT = {
+      EXECUTE_PC, IGNORE_FFFF, PUSH_S, IGNORE_FFFF_MASK_IF, VECTOR_HIGH, VECTOR_LOW, JUMP_FFFF
+  };
+  private static final byte[] INDIRECT = { INDIRECT_HIGH, INDIRECT_LOW, INDIRECT_EA };
+
+  /**
+   * The micro-op program for each instruction number.
+   */
+  private static final byte[][] PROGRAMS = new byte[RESET_INSTRUCTION + 1][];
+
+  /**
+   * For each indexed instruction, the program to switch to for each indexed addressing
+   * mode once the postbyte has been fetched. Null for the other instructions.
+   */
+  private static final byte[][][] INDEXED_PROGRAMS = new byte[INDEXED_MODE_STEPS][][];
+
+  /**
+   * The operation that each instruction number's execute micro-op performs.
+   */
+  private static final byte[] OPERATIONS = new byte[RESET_INSTRUCTION + 1];
+
+  static {
+    for (int postByte = 0; postByte < 256; postByte++) {
+      int slots = 0;
+      for (int bit = 0; bit < 8; bit++) {
+        if ((postByte & (0x80 >> bit)) != 0) {
+          slots |= (bit < 4 ? 3 << (bit * 2) : 0x100 << (bit - 4));
+        }
+      }
+      STACK_SLOTS[postByte] = (short) slots;
+    }
+
+    // Unprefixed illegal instructions hang the CPU, as they do in Cpu6809SingleCycle. Any
+    // other illegal instruction number is reported and then the next opcode is fetched.
+    byte[] halt = { ILLEGAL_HALT };
+    byte[] skip = { ILLEGAL_FETCH_OPCODE };
+    for (int instruction = 0; instruction < PROGRAMS.length; instruction++) {
+      PROGRAMS[instruction] = (instruction < PAGE2_INSTRUCTIONS ? halt : skip);
+    }
+
+    // Read-modify-write instructions, on memory and on the accumulators.
+    int[] readModifyWrite = { NEG, COM, LSR, ROR, ASR, ASL, ROL, DEC, INC, TST, CLR };
+    for (int i = 0; i < readModifyWrite.length; i++) {
+      int operation = readModifyWrite[i];
+      byte[] steps = (operation == TST ? TEST : READ_MODIFY_WRITE);
+      define(0x00 | operation, operation, DIRECT, steps);
+      define(0x40 | operation, operation, new byte[] { EXECUTE_A_PC });
+      define(0x50 | operation, operation, new byte[] { EXECUTE_B_PC });
+      define(0x60 | operation, operation, INDEXED, steps);
+      define(0x70 | operation, operation, EXTENDED, steps);
+    }
+    define(0x0E, 0, new byte[] { ADDRESS_DIRECT, JUMP_FFFF });
+    define(0x6E, 0, INDEXED, new byte[] { JUMP_FETCH_OPCODE });
+    define(0x7E, 0, new byte[] { ADDRESS_HIGH_PC, ADDRESS_LOW_PC, JUMP_FFFF });
+
+    // The 0x10 to 0x3F row is mostly one-offs.
+    define(0x10, 0, new byte[] { FETCH_PAGE2_OPCODE });
+    define(0x11, 0, new byte[] { FETCH_PAGE3_OPCODE });
+    define(0x12, 0, new byte[] { IGNORE_PC });
+    define(0x13, 0, new byte[] { IGNORE_PC, SYNC_WAIT, NO_BUS });
+    define(0x16, 0, new byte[] { OFFSET_HIGH_PC, OFFSET_LOW_PC, BRANCH, IGNORE_FFFF });
+    define(0x17, 0, new byte[] {
+        OFFSET_HIGH_PC, OFFSET_LOW_PC, BRANCH_ADDRESS, IGNORE_FFFF, IGNORE_EA, IGNORE_FFFF,
+        PUSH_RETURN_LOW, PUSH_RETURN_HIGH_JUMP });
+    define(0x19, DAA, new byte[] { EXECUTE_PC });
+    define(0x1A, ORCC, new byte[] { DATA_PC, EXECUTE_FFFF });
+    define(0x1C, ANDCC, new byte[] { DATA_PC, EXECUTE_FFFF });
+    define(0x1D, SEX, new byte[] { EXECUTE_PC });
+    define(0x1E, EXG, new byte[] {
+        POST_BYTE, IGNORE_FFFF, IGNORE_FFFF, IGNORE_FFFF, IGNORE_FFFF, IGNORE_FFFF, EXECUTE_FFFF });
+    define(0x1F, TFR, new byte[] { POST_BYTE, IGNORE_FFFF, IGNORE_FFFF, IGNORE_FFFF, EXECUTE_FFFF });
+    for (int condition = 0; condition < 16; condition++) {
+      define(0x20 | condition, condition, new byte[] { OFFSET_PC, BRANCH });
+      if (condition > 0) {
+        define(PAGE2_INSTRUCTIONS | 0x20 | condition, condition,
+            new byte[] { OFFSET_HIGH_PC, OFFSET_LOW_PC, LONG_BRANCH, IGNORE_FFFF });
+      }
+    }
+    define(0x30, LEAX, INDEXED, new byte[] { EXECUTE_FFFF });
+    define(0x31, LEAY, INDEXED, new byte[] { EXECUTE_FFFF });
+    define(0x32, LEAS, INDEXED, new byte[] { EXECUTE_FFFF });
+    define(0x33, LEAU, INDEXED, new byte[] { EXECUTE_FFFF });
+    define(0x34, 0, new byte[] {
+        POST_BYTE, IGNORE_FFFF, IGNORE_FFFF, IGNORE_S_CHECK_STACK_MASK, PUSH_S });
+    define(0x35, 0, new byte[] {
+        POST_BYTE, IGNORE_FFFF, IGNORE_FFFF_CHECK_STACK_MASK, PULL_S, IGNORE_S });
+    define(0x36, 0, new byte[] {
+        POST_BYTE, IGNORE_FFFF, IGNORE_FFFF, IGNORE_U_CHECK_STACK_MASK, PUSH_U });
+    define(0x37, 0, new byte[] {
+        POST_BYTE, IGNORE_FFFF, IGNORE_FFFF_CHECK_STACK_MASK, PULL_U, IGNORE_U });
+    define(0x39, RTS, new byte[] { EXECUTE_PC, PULL_S, IGNORE_FFFF });
+    define(0x3A, ABX, new byte[] { IGNORE_PC, EXECUTE_FFFF });
+    define(0x3B, 0, new byte[] { IGNORE_PC, PULL_CC_CHECK_E, PULL_S, IGNORE_FFFF });
+    define(0x3C, CWAI, new byte[] {
+        DATA_PC, EXECUTE_PC, IGNORE_FFFF, PUSH_S, WAIT_FOR_INTERRUPT, VECTOR_HIGH, VECTOR_LOW,
+        JUMP_FFFF, FETCH_OPCODE_NO_INTERRUPT });
+    define(0x3D, MUL, new byte[] {
+        IGNORE_PC, IGNORE_FFFF, IGNORE_FFFF, IGNORE_FFFF, IGNORE_FFFF, IGNORE_FFFF, IGNORE_FFFF,
+        IGNORE_FFFF, IGNORE_FFFF, EXECUTE_FFFF });
+    define(0x3E, RESET, STACK_INTERRUPT);
+    define(0x3F, SWI, STACK_INTERRUPT);
+
+    // SWI2 and SWI3 leave the interrupt masks alone.
+    byte[] unmaskedSoftwareInterrupt = STACK_INTERRUPT.clone();
+    unmaskedSoftwareInterrupt[3] = IGNORE_FFFF;
+    define(PAGE2_INSTRUCTIONS | 0x3F, SWI2, unmaskedSoftwareInterrupt);
+    define(PAGE3_INSTRUCTIONS | 0x3F, SWI3, unmaskedSoftwareInterrupt);
+
+    // The 8 bit accumulator instructions, in all four addressing modes.
+    for (int opcode = 0x80; opcode < 0x100; opcode++) {
+      int column = opcode & 0x0F;
+      if ((column > 0x0B) || (column == 0x03)) {
+        continue;
+      }
+      int operation = (opcode < 0xC0 ? 0x10 : 0x20) | column;
+      if ((opcode & 0x30) == 0) {
+        if (column != 0x07) {
+          define(opcode, operation, IMMEDIATE);
+        }
+      } else {
+        define(opcode, operation, addressingMode(opcode), (column == 0x07 ? STORE : READ));
+      }
+    }
+
+    // The 16 bit instructions.
+    defineWord(0x83, SUBD, IMMEDIATE_WORD, READ_WORD);
+    defineWord(0xC3, ADDD, IMMEDIATE_WORD, READ_WORD);
+    defineWord(PAGE2_INSTRUCTIONS | 0x83, CMPD, IMMEDIATE_WORD, READ_WORD);
+    defineWord(0x8C, CMPX, IMMEDIATE_WORD, READ_WORD);
+    defineWord(PAGE2_INSTRUCTIONS | 0x8C, CMPY, IMMEDIATE_WORD, READ_WORD);
+    defineWord(PAGE3_INSTRUCTIONS | 0x83, CMPU, IMMEDIATE_WORD, READ_WORD);
+    defineWord(PAGE3_INSTRUCTIONS | 0x8C, CMPS, IMMEDIATE_WORD, READ_WORD);
+    defineWord(0xCC, LDD, IMMEDIATE_LOAD_WORD, LOAD_WORD);
+    defineWord(0x8E, LDX, IMMEDIATE_LOAD_WORD, LOAD_WORD);
+    defineWord(PAGE2_INSTRUCTIONS | 0x8E, LDY, IMMEDIATE_LOAD_WORD, LOAD_WORD);
+    defineWord(0xCE, LDU, IMMEDIATE_LOAD_WORD, LOAD_WORD);
+    defineWord(PAGE2_INSTRUCTIONS | 0xCE, LDS, IMMEDIATE_LOAD_WORD, LOAD_WORD);
+    defineWord(0xCD, STD, null, STORE_WORD);
+    defineWord(0x8F, STX, null, STORE_WORD);
+    defineWord(PAGE2_INSTRUCTIONS | 0x8F, STY, null, STORE_WORD);
+    defineWord(0xCF, STU, null, STORE_WORD);
+    defineWord(PAGE2_INSTRUCTIONS | 0xCF, STS, null, STORE_WORD);
+    defineWord(0x8D, 0, null, JUMP_TO_SUBROUTINE);
+    define(0x8D, 0, new byte[] {
+        OFFSET_PC, BRANCH_ADDRESS, IGNORE_EA, IGNORE_FFFF, PUSH_RETURN_LOW, PUSH_RETURN_HIGH_JUMP });
+
+    // The steps for each indexed addressing mode, numbered by the low five bits of the
+    // postbyte, plus 0x20 for the 5 bit offset.
+    defineIndexed(0x00, IGNORE_PC, IGNORE_FFFF, INDEXED_EA);
+    defineIndexed(0x01, IGNORE_PC, IGNORE_FFFF, IGNORE_FFFF, INDEXED_EA);
+    defineIndexed(0x02, IGNORE_PC, IGNORE_FFFF, INDEXED_EA);
+    defineIndexed(0x03, IGNORE_PC, IGNORE_FFFF, IGNORE_FFFF, INDEXED_EA);
+    defineIndexed(0x04, INDEXED_EA_NO_BUS);
+    defineIndexed(0x05, IGNORE_PC, INDEXED_EA);
+    defineIndexed(0x06, IGNORE_PC, INDEXED_EA);
+    defineIndexed(0x08, OFFSET_PC, INDEXED_EA);
+    defineIndexed(0x09, OFFSET_HIGH_PC, OFFSET_LOW_PC, IGNORE_PC, IGNORE_FFFF, INDEXED_EA);
+    defineIndexed(0x0B, IGNORE_PC, IGNORE_PC, IGNORE_PC, IGNORE_FFFF, INDEXED_EA);
+    defineIndexed(0x0C, OFFSET_PC, INDEXED_EA);
+    defineIndexed(0x0D, OFFSET_HIGH_PC, OFFSET_LOW_PC, IGNORE_PC, IGNORE_FFFF, IGNORE_FFFF, INDEXED_EA);
+    defineIndexed(0x11, IGNORE_PC, IGNORE_FFFF, IGNORE_FFFF, IGNORE_FFFF);
+    defineIndexed(0x13, IGNORE_PC, IGNORE_FFFF, IGNORE_FFFF, IGNORE_FFFF);
+    defineIndexed(0x14, IGNORE_PC);
+    defineIndexed(0x15, IGNORE_PC, IGNORE_FFFF);
+    defineIndexed(0x16, IGNORE_PC, IGNORE_FFFF);
+    defineIndexed(0x18, OFFSET_PC, IGNORE_FFFF);
+    defineIndexed(0x19, OFFSET_HIGH_PC, OFFSET_LOW_PC, IGNORE_PC, IGNORE_FFFF, IGNORE_FFFF);
+    defineIndexed(0x1B, IGNORE_PC, IGNORE_PC, IGNORE_PC, IGNORE_FFFF, IGNORE_FFFF);
+    defineIndexed(0x1C, OFFSET_PC, IGNORE_FFFF);
+    defineIndexed(0x1D, OFFSET_HIGH_PC, OFFSET_LOW_PC, IGNORE_PC, IGNORE_FFFF, IGNORE_FFFF, IGNORE_FFFF);
+    defineIndexed(0x1F, ADDRESS_HIGH_PC, ADDRESS_LOW_PC, IGNORE_PC);
+    defineIndexed(0x20, IGNORE_PC, INDEXED_EA);
+
+    for (int instructionNum = 0; instructionNum < INDEXED_MODE_STEPS; instructionNum++) {
+      fuseIndexedModes(instructionNum);
+    }
+
+    // The hardware interrupts start after the opcode fetch that they replace.
+    define(FIRQ_INSTRUCTION, FIRQ, STACK_INTERRUPT);
+    byte[] irq = STACK_INTERRUPT.clone();
+    irq[3] = IGNORE_FFFF_MASK_I;
+    define(IRQ_INSTRUCTION, IRQ, irq);
+    define(NMI_INSTRUCTION, NMI, STACK_INTERRUPT);
+    define(RESET_INSTRUCTION, 0, new byte[] {
+        RESET_WAIT, IGNORE_FFFE, IGNORE_FFFE, IGNORE_FFFE, VECTOR_HIGH, VECTOR_LOW, RESET_JUMP_FFFF });
+  }
+
+  /**
+   * The program for a CPU whose program counter has just been set, which starts with the
+   * opcode fetch.
+   */
+  private static final byte[] FETCH_FIRST_OPCODE = { FETCH_OPCODE };
+
+  /**
+   * The program of the instruction that is currently running.
+   */
+  private byte[] microProgram;
+
+  /**
+   * The index of the next micro-op to run in the current program.
+   */
+  private int microStep;
+
+  /**
+   * The number of the current instruction.
+   */
+  private int instruction;
+
+  /**
+   * The operation of the current instruction, for the execute micro-ops.
+   */
+  private int operation;
+
+  /**
+   * Holds the operand that was read, or the value that is to be written.
+   */
+  private int data;
+
+  /**
+   * Holds the effective address.
+   */
+  private int effectiveAddress;
+
+  /**
+   * The address read from memory by the indirect indexed modes.
+   */
+  private int indirectAddress;
+
+  /**
+   * When an instruction involves calculating an offset, then this variable is used.
+   */
+  private int offset;
+
+  /**
+   * Stores the Post Byte for those instructions that use one.
+   */
+  private int postByte;
+
+  /**
+   * The indexed addressing mode from the postbyte, i.e. the number of its steps
+   * relative to INDEXED_MODE_STEPS.
+   */
+  private int indexedMode;
+
+  /**
+   * Represents the register that is being used when in INDEXED address mode.
+   */
+  private int indexedAddressModeRegister;
+
+  /**
+   * The stack slots that are still to be pushed or pulled.
+   */
+  private int stackMask;
+
+  /**
+   * The address of the high byte of the interrupt vector to jump to.
+   */
+  private int vectorAddress;
+
+  /**
+   * Constructor for Cpu6809Microcoded.
+   */
+  public Cpu6809Microcoded() {
+    reset();
+  }
+
+  /**
+   * Resets the CPU.
+   */
+  @Override
+  public void reset() {
+    super.reset();
+    effectiveAddress = 0;
+    vectorAddress = RESET_VECTOR_HI;
+    decode(RESET_INSTRUCTION);
+  }
+
+  /**
+   * Emulates the given number of machine cycles.
+   *
+   * @param numOfCycles The number of cycles to execute.
+   */
+  @Override
+  public void emulateCycles(int numOfCycles) {
+    long endCycle = cycleCount + numOfCycles;
+    idleCycle = false;
+    while (cycleCount < endCycle) {
+      emulateCycle();
+      if (idleCycle) {
+        idleCycle = false;
+        cycleCount = endCycle;
+      }
+    }
+  }
+
+  /**
+   * Emulates until the cycle count reaches the given cycle.
+   *
+   * @param cycle The cycle to emulate up to.
+   */
+  public void emulateUntil(long cycle) {
+    targetCycle = cycle;
+    idleCycle = false;
+    while (cycleCount < targetCycle) {
+      emulateCycle();
+      if (idleCycle) {
+        idleCycle = false;
+        cycleCount = targetCycle;
+      }
+    }
+  }
+
+  /**
+   * Emulates a machine cycle by running the next micro-op of the current program. There
+   * is exactly one read or one write per cycle, apart from the few cycles on which the
+   * MC6809 doesn't use the bus at all.
+   */
+  public void emulateCycle() {
+    switch (microProgram[microStep++]) {
+      case FETCH_OPCODE:
+        fetchOpcode();
+        break;
+
+      case FETCH_OPCODE_NO_INTERRUPT:
+        decode(fetch(programCounter++));
+        break;
+
+      case FETCH_PAGE2_OPCODE:
+        decode(PAGE2_INSTRUCTIONS | fetch(programCounter++));
+        break;
+
+      case FETCH_PAGE3_OPCODE:
+        decode(PAGE3_INSTRUCTIONS | fetch(programCounter++));
+        break;
+
+      case ILLEGAL_HALT:
+        illegal();
+        microStep--;
+        break;
+
+      case ILLEGAL_FETCH_OPCODE:
+        illegal();
+        fetchOpcode();
+        break;
+
+      case IGNORE_PC:
+        dummyFetch(programCounter);
+        break;
+
+      case IGNORE_FFFF:
+        dummyFetch(0xffff);
+        break;
+
+      case IGNORE_FFFE:
+        dummyFetch(0xfffe);
+        break;
+
+      case IGNORE_EA:
+        dummyFetch(effectiveAddress);
+        break;
+
+      case IGNORE_S:
+        dummyFetch(stackPointer);
+        break;
+
+      case IGNORE_U:
+        dummyFetch(userStackPointer);
+        break;
+
+      case IGNORE_S_CHECK_STACK_MASK:
+        dummyFetch(stackPointer);
+        if (stackMask == 0) {
+          microStep++;
+        }
+        break;
+
+      case IGNORE_U_CHECK_STACK_MASK:
+        dummyFetch(userStackPointer);
+        if (stackMask == 0) {
+          microStep++;
+        }
+        break;
+
+      case IGNORE_FFFF_CHECK_STACK_MASK:
+        dummyFetch(0xffff);
+        if (stackMask == 0) {
+          microStep++;
+        }
+        break;
+
+      case IGNORE_FFFF_MASK_I:
+        dummyFetch(0xffff);
+        irqDisableFlag = true;
+        break;
+
+      case IGNORE_FFFF_MASK_IF:
+        dummyFetch(0xffff);
+        irqDisableFlag = true;
+        firqDisableFlag = true;
+        break;
+
+      case NO_BUS:
+        break;
+
+      case EXECUTE_PC:
+        dummyFetch(programCounter);
+        execute();
+        break;
+
+      case EXECUTE_A_PC:
+        dummyFetch(programCounter);
+        data = accumulatorA;
+        execute();
+        accumulatorA = data;
+        break;
+
+      case EXECUTE_B_PC:
+        dummyFetch(programCounter);
+        data = accumulatorB;
+        execute();
+        accumulatorB = data;
+        break;
+
+      case EXECUTE_FFFF:
+        dummyFetch(0xffff);
+        execute();
+        break;
+
+      case DATA_PC:
+        data = fetch(programCounter++);
+        break;
+
+      case DATA_PC_EXECUTE:
+        data = fetch(programCounter++);
+        execute();
+        break;
+
+      case DATA_HIGH_PC:
+        data = fetch(programCounter++) << 8;
+        break;
+
+      case DATA_LOW_PC:
+        data |= fetch(programCounter++);
+        break;
+
+      case DATA_LOW_PC_EXECUTE:
+        data |= fetch(programCounter++);
+        execute();
+        break;
+
+      case POST_BYTE:
+        postByte = fetch(programCounter++);
+        stackMask = STACK_SLOTS[postByte];
+        break;
+
+      case POST_BYTE_INDEXED:
+        postByte = fetch(programCounter++);
+        startIndexedMode();
+        break;
+
+      case ADDRESS_DIRECT:
+        effectiveAddress = (directPageRegister << 8) | fetch(programCounter++);
+        break;
+
+      case ADDRESS_HIGH_PC:
+        effectiveAddress = fetch(programCounter++) << 8;
+        break;
+
+      case ADDRESS_LOW_PC:
+        effectiveAddress |= fetch(programCounter++);
+        break;
+
+      case DATA_EA:
+        data = fetch(effectiveAddress);
+        break;
+
+      case DATA_EA_EXECUTE:
+        data = fetch(effectiveAddress);
+        execute();
+        break;
+
+      case DATA_HIGH_EA:
+        data = fetch(effectiveAddress) << 8;
+        break;
+
+      case DATA_LOW_EA:
+        data |= fetch(effectiveAddress + 1);
+        break;
+
+      case DATA_LOW_EA_EXECUTE:
+        data |= fetch(effectiveAddress + 1);
+        execute();
+        break;
+
+      case WRITE_DATA_EA:
+        write(effectiveAddress, data);
+        break;
+
+      case EXECUTE_WRITE_EA:
+        execute();
+        write(effectiveAddress, data);
+        break;
+
+      case EXECUTE_WRITE_HIGH_EA:
+        execute();
+        write(effectiveAddress, data >> 8);
+        break;
+
+      case WRITE_LOW_EA:
+        write(effectiveAddress + 1, data & 0xFF);
+        break;
+
+      case OFFSET_PC:
+        offset = to2C8Bit(fetch(programCounter++));
+        break;
+
+      case OFFSET_HIGH_PC:
+        offset = fetch(programCounter++) << 8;
+        break;
+
+      case OFFSET_LOW_PC:
+        offset = to2C16Bit(offset | fetch(programCounter++));
+        break;
+
+      case BRANCH:
+        dummyFetch(0xffff);
+        effectiveAddress = (programCounter + offset) & 0xFFFF;
+        if (isConditionTrue(operation)) {
+          programCounter = effectiveAddress;
+        }
+        break;
+
+      case LONG_BRANCH:
+        dummyFetch(0xffff);
+        effectiveAddress = (programCounter + offset) & 0xFFFF;
+        if (isConditionTrue(operation)) {
+          programCounter = effectiveAddress;
+        } else {
+          // The extra cycle is only taken when the branch is.
+          microStep++;
+        }
+        break;
+
+      case BRANCH_ADDRESS:
+        dummyFetch(0xffff);
+        effectiveAddress = (programCounter + offset) & 0xFFFF;
+        break;
+
+      case JUMP_FFFF:
+        dummyFetch(0xffff);
+        programCounter = effectiveAddress;
+        break;
+
+      case JUMP_FETCH_OPCODE:
+        programCounter = effectiveAddress;
+        fetchOpcode();
+        break;
+
+      case PUSH_RETURN_LOW:
+        write(--stackPointer, (programCounter & 0xff));
+        break;
+
+      case PUSH_RETURN_HIGH_JUMP:
+        write(--stackPointer, (programCounter >> 8) & 0xff);
+        programCounter = effectiveAddress;
+        break;
+
+      case PUSH_S: {
+        int slot = Integer.numberOfTrailingZeros(stackMask);
+        stackMask &= stackMask - 1;
+        write(--stackPointer, getStackSlot(slot, userStackPointer));
+        if (stackMask != 0) {
+          microStep--;
+        }
+        break;
+      }
+
+      case PUSH_U: {
+        int slot = Integer.numberOfTrailingZeros(stackMask);
+        stackMask &= stackMask - 1;
+        write(--userStackPointer, getStackSlot(slot, stackPointer));
+        if (stackMask != 0) {
+          microStep--;
+        }
+        break;
+      }
+
+      case PULL_S: {
+        int slot = 31 - Integer.numberOfLeadingZeros(stackMask);
+        stackMask &= ~(1 << slot);
+        setStackSlot(slot, fetch(stackPointer++), false);
+        if (stackMask != 0) {
+          microStep--;
+        }
+        break;
+      }
+
+      case PULL_U: {
+        int slot = 31 - Integer.numberOfLeadingZeros(stackMask);
+        stackMask &= ~(1 << slot);
+        setStackSlot(slot, fetch(userStackPointer++), true);
+        if (stackMask != 0) {
+          microStep--;
+        }
+        break;
+      }
+
+      case PULL_CC_CHECK_E:
+        setCC(fetch(stackPointer++));
+        stackMask = (entireFlag ? ALL_SLOTS & ~CC_SLOT : PC_SLOTS);
+        break;
+
+      case VECTOR_HIGH:
+        effectiveAddress = fetch(vectorAddress) << 8;
+        break;
+
+      case VECTOR_LOW:
+        effectiveAddress |= fetch(vectorAddress + 1);
+        break;
+
+      case WAIT_FOR_INTERRUPT:
+        dummyFetch(0xffff);
+        if (((interruptStatus & S_NMI) != 0) && nmiArmed) {
+          vectorAddress = NMI_VECTOR_HI;
+          irqDisableFlag = true;
+          firqDisableFlag = true;
+          interruptStatus &= ~S_NMI;
+        } else if (((interruptStatus & S_FIRQ) != 0) && !firqDisableFlag) {
+          vectorAddress = FIRQ_VECTOR_HI;
+          irqDisableFlag = true;
+          firqDisableFlag = true;
+        } else if (((interruptStatus & S_IRQ) != 0) && !irqDisableFlag) {
+          vectorAddress = IRQ_VECTOR_HI;
+          irqDisableFlag = true;
+        } else {
+          microStep--;
+          idleCycle = !memory.isDummyReadNeeded(0xffff);
+        }
+        break;
+
+      case SYNC_WAIT:
+        // Any interrupt line ends the wait, even if the interrupt is masked.
+        if ((interruptStatus & (S_NMI | S_FIRQ | S_IRQ)) == 0) {
+          microStep--;
+          idleCycle = true;
+        }
+        break;
+
+      case RESET_WAIT:
+        dummyFetch(0xfffe);
+        if (!reset) {
+          microStep--;
+        }
+        break;
+
+      case RESET_JUMP_FFFF:
+        dummyFetch(0xffff);
+        programCounter = effectiveAddress;
+        reset = false;
+        break;
+
+      case INDEXED_EA:
+        dummyFetch(0xffff);
+        effectiveAddress = calculateIndexedAddress();
+        break;
+
+      case INDEXED_EA_NO_BUS:
+        effectiveAddress = calculateIndexedAddress();
+        break;
+
+      case INDIRECT_HIGH:
+        effectiveAddress = calculateIndexedAddress();
+        indirectAddress = fetch(effectiveAddress) << 8;
+        break;
+
+      case INDIRECT_LOW:
+        indirectAddress |= fetch(effectiveAddress + 1);
+        break;
+
+      case INDIRECT_EA:
+        dummyFetch(0xffff);
+        effectiveAddress = indirectAddress;
+        break;
+    }
+
+    cycleCount++;
+  }
+
+  /**
+   * Fetches the next opcode and starts its program, or if an interrupt is due, starts
+   * the interrupt's program instead, in which case the fetched opcode is ignored.
+   */
+  private void fetchOpcode() {
+    int instructionNum = fetch(programCounter);
+    if (!interruptPending) {
+      programCounter++;
+    } else if (((interruptStatus & S_NMI) != 0) && nmiArmed) {
+      instructionNum = NMI_INSTRUCTION;
+    } else if (((interruptStatus & S_FIRQ) != 0) && !firqDisableFlag) {
+      instructionNum = FIRQ_INSTRUCTION;
+    } else if (((interruptStatus & S_IRQ) != 0) && !irqDisableFlag) {
+      instructionNum = IRQ_INSTRUCTION;
+    } else {
+      updateInterruptPending();
+      programCounter++;
+    }
+    decode(instructionNum);
+  }
+
+  private void decode(int instructionNum) {
+    instruction = instructionNum;
+    microProgram = PROGRAMS[instructionNum];
+    operation = OPERATIONS[instructionNum];
+    microStep = 0;
+  }
+
+  /**
+   * Switches to the current instruction's program for the indexed addressing mode given by
+   * the postbyte. The steps up to and including the postbyte fetch are the same in all of
+   * them, so the next step is the first of the mode's steps.
+   */
+  private void startIndexedMode() {
+    switch ((postByte & 0x60) >>> 5) {
+      case 0:
+        indexedAddressModeRegister = indexRegisterX;
+        break;
+      case 1:
+        indexedAddressModeRegister = indexRegisterY;
+        break;
+      case 2:
+        indexedAddressModeRegister = userStackPointer;
+        break;
+      default:
+        indexedAddressModeRegister = stackPointer;
+        break;
+    }
+    indexedMode = ((postByte & 0x80) == 0 ? 0x20 : postByte & 0x1F);
+    microProgram = INDEXED_PROGRAMS[instruction][indexedMode];
+  }
+
+  /**
+   * Calculates the effective address for the current indexed addressing mode, or for the
+   * indirect modes, the address that the effective address is read from. The auto
+   * increment and decrement modes also update their register.
+   *
+   * @return The address.
+   */
+  private int calculateIndexedAddress() {
+    int address;
+    switch (indexedMode) {
+      case 0x00:
+        address = indexedAddressModeRegister;
+        setIndexedModeRegister((indexedAddressModeRegister + 1) & 0xFFFF);
+        break;
+      case 0x01:
+      case 0x11:
+        address = indexedAddressModeRegister;
+        setIndexedModeRegister((indexedAddressModeRegister + 2) & 0xFFFF);
+        break;
+      case 0x02:
+        address = (indexedAddressModeRegister - 1) & 0xFFFF;
+        setIndexedModeRegister(address);
+        break;
+      case 0x03:
+      case 0x13:
+        address = (indexedAddressModeRegister - 2) & 0xFFFF;
+        setIndexedModeRegister(address);
+        break;
+      case 0x04:
+      case 0x14:
+        address = indexedAddressModeRegister;
+        break;
+      case 0x05:
+      case 0x15:
+        address = (indexedAddressModeRegister + to2C8Bit(accumulatorB)) & 0xFFFF;
+        break;
+      case 0x06:
+      case 0x16:
+        address = (indexedAddressModeRegister + to2C8Bit(accumulatorA)) & 0xFFFF;
+        break;
+      case 0x08:
+      case 0x18:
+      case 0x09:
+      case 0x19:
+        address = (indexedAddressModeRegister + offset) & 0xFFFF;
+        break;
+      case 0x0B:
+      case 0x1B:
+        address = (indexedAddressModeRegister + to2C16Bit(getD())) & 0xFFFF;
+        break;
+      case 0x0C:
+      case 0x1C:
+      case 0x0D:
+      case 0x1D:
+        address = (programCounter + offset) & 0xFFFF;
+        break;
+      case 0x1F:
+        address = effectiveAddress;
+        break;
+      default:
+        address = (indexedAddressModeRegister + to2C5Bit(postByte & 0x1f)) & 0xFFFF;
+        break;
+    }
+    return address;
+  }
+
+  private void setIndexedModeRegister(int value) {
+    indexedAddressModeRegister = value;
+    switch ((postByte & 0x60) >>> 5) {
+      case 0:
+        indexRegisterX = value;
+        break;
+      case 1:
+        indexRegisterY = value;
+        break;
+      case 2:
+        userStackPointer = value;
+        break;
+      default:
+        stackPointer = value;
+        break;
+    }
+  }
+
+  /**
+   * Gets the byte for the given stack slot.
+   *
+   * @param slot The slot number, from 0 for the PC low byte to 11 for CC.
+   * @param otherStackPointer U when pushing onto S, or S when pushing onto U.
+   *
+   * @return The byte to push.
+   */
+  private int getStackSlot(int slot, int otherStackPointer) {
+    switch (slot) {
+      case 0:
+        return programCounter & 0xff;
+      case 1:
+        return (programCounter >> 8) & 0xff;
+      case 2:
+        return otherStackPointer & 0xff;
+      case 3:
+        return (otherStackPointer >> 8) & 0xff;
+      case 4:
+        return indexRegisterY & 0xff;
+      case 5:
+        return (indexRegisterY >> 8) & 0xff;
+      case 6:
+        return indexRegisterX & 0xff;
+      case 7:
+        return (indexRegisterX >> 8) & 0xff;
+      case 8:
+        return directPageRegister & 0xff;
+      case 9:
+        return accumulatorB & 0xff;
+      case 10:
+        return accumulatorA & 0xff;
+      default:
+        return getCC() & 0xff;
+    }
+  }
+
+  /**
+   * Sets the register byte for the given stack slot to a value pulled from a stack.
+   *
+   * @param slot The slot number, from 0 for the PC low byte to 11 for CC.
+   * @param value The byte that was pulled.
+   * @param userStack true if pulling from U, in which case the slot for U is S instead.
+   */
+  private void setStackSlot(int slot, int value, boolean userStack) {
+    switch (slot) {
+      case 0:
+        programCounter = (programCounter & 0xFF00) | value;
+        break;
+      case 1:
+        programCounter = (programCounter & 0x00FF) | (value << 8);
+        break;
+      case 2:
+        if (userStack) {
+          stackPointer = (stackPointer & 0xFF00) | value;
+          armNmi();
+        } else {
+          userStackPointer = (userStackPointer & 0xFF00) | value;
+        }
+        break;
+      case 3:
+        if (userStack) {
+          stackPointer = (stackPointer & 0x00FF) | (value << 8);
+        } else {
+          userStackPointer = (userStackPointer & 0x00FF) | (value << 8);
+        }
+        break;
+      case 4:
+        indexRegisterY = (indexRegisterY & 0xFF00) | value;
+        break;
+      case 5:
+        indexRegisterY = (indexRegisterY & 0x00FF) | (value << 8);
+        break;
+      case 6:
+        indexRegisterX = (indexRegisterX & 0xFF00) | value;
+        break;
+      case 7:
+        indexRegisterX = (indexRegisterX & 0x00FF) | (value << 8);
+        break;
+      case 8:
+        directPageRegister = value;
+        break;
+      case 9:
+        accumulatorB = value;
+        break;
+      case 10:
+        accumulatorA = value;
+        break;
+      default:
+        setCC(value);
+        break;
+    }
+  }
+
+  /**
+   * Performs the operation of the current instruction. Operands come from, and results
+   * that are to be written to memory go to, the data latch.
+   */
+  private void execute() {
+    switch (operation) {
+      case NEG:
+        data = neg(data);
+        break;
+      case COM:
+        data = com(data);
+        break;
+      case LSR:
+        data = lsr(data);
+        break;
+      case ROR:
+        data = ror(data);
+        break;
+      case ASR:
+        data = asr(data);
+        break;
+      case ASL:
+        data = asl(data);
+        break;
+      case ROL:
+        data = rol(data);
+        break;
+      case DEC:
+        data = dec(data);
+        break;
+      case INC:
+        data = inc(data);
+        break;
+      case TST:
+        tst(data);
+        break;
+      case CLR:
+        data = clr();
+        break;
+
+      case SUBA:
+        accumulatorA = sub8Bit(accumulatorA, data);
+        break;
+      case CMPA:
+        sub8Bit(accumulatorA, data);
+        break;
+      case SBCA:
+        accumulatorA = sbc(accumulatorA, data);
+        break;
+      case ANDA:
+        accumulatorA = and(accumulatorA, data);
+        break;
+      case BITA:
+        and(accumulatorA, data);
+        break;
+      case LDA:
+        accumulatorA = ld8Bit(data);
+        break;
+      case STA:
+        st8Bit(accumulatorA);
+        data = accumulatorA;
+        break;
+      case EORA:
+        accumulatorA = eor(accumulatorA, data);
+        break;
+      case ADCA:
+        accumulatorA = adc(accumulatorA, data);
+        break;
+      case ORA:
+        accumulatorA = or(accumulatorA, data);
+        break;
+      case ADDA:
+        accumulatorA = add(accumulatorA, data);
+        break;
+
+      case SUBB:
+        accumulatorB = sub8Bit(accumulatorB, data);
+        break;
+      case CMPB:
+        sub8Bit(accumulatorB, data);
+        break;
+      case SBCB:
+        accumulatorB = sbc(accumulatorB, data);
+        break;
+      case ANDB:
+        accumulatorB = and(accumulatorB, data);
+        break;
+      case BITB:
+        and(accumulatorB, data);
+        break;
+      case LDB:
+        accumulatorB = ld8Bit(data);
+        break;
+      case STB:
+        st8Bit(accumulatorB);
+        data = accumulatorB;
+        break;
+      case EORB:
+        accumulatorB = eor(accumulatorB, data);
+        break;
+      case ADCB:
+        accumulatorB = adc(accumulatorB, data);
+        break;
+      case ORB:
+        accumulatorB = or(accumulatorB, data);
+        break;
+      case ADDB:
+        accumulatorB = add(accumulatorB, data);
+        break;
+
+      case SUBD:
+        setD(sub16Bit(getD(), data));
+        break;
+      case ADDD:
+        setD(addd(getD(), data));
+        break;
+      case CMPD:
+        sub16Bit(getD(), data);
+        break;
+      case CMPX:
+        sub16Bit(indexRegisterX, data);
+        break;
+      case CMPY:
+        sub16Bit(indexRegisterY, data);
+        break;
+      case CMPU:
+        sub16Bit(userStackPointer, data);
+        break;
+      case CMPS:
+        sub16Bit(stackPointer, data);
+        break;
+      case LDD:
+        setD(ld16Bit(data));
+        break;
+      case LDX:
+        indexRegisterX = ld16Bit(data);
+        break;
+      case LDY:
+        indexRegisterY = ld16Bit(data);
+        break;
+      case LDU:
+        userStackPointer = ld16Bit(data);
+        break;
+      case LDS:
+        stackPointer = ld16Bit(data);
+        armNmi();
+        break;
+      case STD:
+        data = getD();
+        st16Bit(data);
+        break;
+      case STX:
+        data = indexRegisterX;
+        st16Bit(data);
+        break;
+      case STY:
+        data = indexRegisterY;
+        st16Bit(data);
+        break;
+      case STU:
+        data = userStackPointer;
+        st16Bit(data);
+        break;
+      case STS:
+        data = stackPointer;
+        st16Bit(data);
+        break;
+
+      case LEAX:
+        indexRegisterX = effectiveAddress;
+        setZeroFlag(indexRegisterX == 0);
+        break;
+      case LEAY:
+        indexRegisterY = effectiveAddress;
+        setZeroFlag(indexRegisterY == 0);
+        break;
+      case LEAS:
+        stackPointer = effectiveAddress;
+        armNmi();
+        break;
+      case LEAU:
+        userStackPointer = effectiveAddress;
+        break;
+
+      case DAA:
+        accumulatorA = daa(accumulatorA);
+        break;
+      case SEX:
+        setD(sex(accumulatorB));
+        break;
+      case ORCC:
+        setCC(getCC() | data);
+        break;
+      case ANDCC:
+        setCC(getCC() & data);
+        break;
+      case EXG:
+        exg(postByte);
+        break;
+      case TFR:
+        tfr(postByte);
+        break;
+      case ABX:
+        indexRegisterX = (indexRegisterX + accumulatorB) & 0xffff;
+        break;
+      case MUL:
+        setD(mul(accumulatorA, accumulatorB));
+        break;
+      case RTS:
+        stackMask = PC_SLOTS;
+        break;
+      case CWAI:
+        setCC(getCC() & data);
+        entireFlag = true;
+        stackMask = ALL_SLOTS;
+        break;
+
+      case SWI:
+        entireFlag = true;
+        stackMask = ALL_SLOTS;
+        vectorAddress = SWI_VECTOR_HI;
+        break;
+      case SWI2:
+        entireFlag = true;
+        stackMask = ALL_SLOTS;
+        vectorAddress = SWI2_VECTOR_HI;
+        break;
+      case SWI3:
+        entireFlag = true;
+        stackMask = ALL_SLOTS;
+        vectorAddress = SWI3_VECTOR_HI;
+        break;
+      case RESET:
+        // Unlike SWI, the RESET* instruction does not set the entire flag.
+        stackMask = ALL_SLOTS;
+        vectorAddress = RESET_VECTOR_HI;
+        break;
+      case FIRQ:
+        entireFlag = false;
+        stackMask = PC_SLOTS | CC_SLOT;
+        vectorAddress = FIRQ_VECTOR_HI;
+        break;
+      case IRQ:
+        entireFlag = true;
+        stackMask = ALL_SLOTS;
+        vectorAddress = IRQ_VECTOR_HI;
+        break;
+      case NMI:
+        // NMI is triggered on a negative edge, so it is cleared as soon as it is acknowledged.
+        interruptStatus &= ~S_NMI;
+        entireFlag = true;
+        stackMask = ALL_SLOTS;
+        vectorAddress = NMI_VECTOR_HI;
+        break;
+    }
+  }
+
+  private void illegal() {
+    int opcode = getInstructionRegister();
+    System.out.println(String.format("ILLEGAL unknown instruction: %d (%02X)", opcode, opcode));
+  }
+
+  /**
+   * Adds the program for an instruction, made up of the given parts followed by the
+   * opcode fetch of the next instruction. The opcode fetch is never reached by those few
+   * programs that hand over to another program before the end.
+   *
+   * @param instructionNum The instruction number.
+   * @param operation The operation for the execute micro-ops.
+   * @param parts The micro-ops, e.g. the addressing mode steps and then the rest.
+   */
+  private static void define(int instructionNum, int operation, byte[]... parts) {
+    int length = 1;
+    for (int i = 0; i < parts.length; i++) {
+      length += parts[i].length;
+    }
+    byte[] program = new byte[length];
+    int position = 0;
+    for (int i = 0; i < parts.length; i++) {
+      System.arraycopy(parts[i], 0, program, position, parts[i].length);
+      position += parts[i].length;
+    }
+    program[position] = FETCH_OPCODE;
+    PROGRAMS[instructionNum] = program;
+    OPERATIONS[instructionNum] = (byte) operation;
+  }
+
+  /**
+   * Adds the direct, indexed and extended forms of an instruction, and the immediate
+   * form too if it has one.
+   *
+   * @param immediateOpcode The instruction number of the immediate form.
+   * @param operation The operation for the execute micro-ops.
+   * @param immediate The steps for the immediate form, or null if there isn't one.
+   * @param steps The steps that follow the addressing mode steps in the other forms.
+   */
+  private static void defineWord(int immediateOpcode, int operation, byte[] immediate, byte[] steps) {
+    if (immediate != null) {
+      define(immediateOpcode, operation, immediate);
+    }
+    define(immediateOpcode + 0x10, operation, DIRECT, steps);
+    define(immediateOpcode + 0x20, operation, INDEXED, steps);
+    define(immediateOpcode + 0x30, operation, EXTENDED, steps);
+  }
+
+  /**
+   * Adds the steps for an indexed addressing mode. The indirect modes continue with the
+   * steps that read the effective address from memory.
+   *
+   * @param mode The mode, i.e. the low five bits of the postbyte, or 0x20 for 5 bit offsets.
+   * @param steps The micro-ops.
+   */
+  private static void defineIndexed(int mode, byte... steps) {
+    boolean indirect = (mode >= 0x10) && (mode < 0x20);
+    byte[] program = new byte[steps.length + (indirect ? INDIRECT.length : 0)];
+    System.arraycopy(steps, 0, program, 0, steps.length);
+    if (indirect) {
+      System.arraycopy(INDIRECT, 0, program, steps.length, INDIRECT.length);
+    }
+    PROGRAMS[INDEXED_MODE_STEPS + mode] = program;
+  }
+
+  /**
+   * Builds the programs for an indexed instruction, one for each indexed addressing mode,
+   * by putting the mode's steps straight after the postbyte fetch. An illegal mode's steps
+   * fetch the next opcode, so the rest of the instruction is never reached.
+   *
+   * @param instructionNum The instruction number, which is ignored if it isn't indexed.
+   */
+  private static void fuseIndexedModes(int instructionNum) {
+    byte[] program = PROGRAMS[instructionNum];
+    int position = 0;
+    while ((position < program.length) && (program[position] != POST_BYTE_INDEXED)) {
+      position++;
+    }
+    if (position == program.length) {
+      return;
+    }
+    position++;
+
+    INDEXED_PROGRAMS[instructionNum] = new byte[0x21][];
+    for (int mode = 0; mode <= 0x20; mode++) {
+      byte[] steps = PROGRAMS[INDEXED_MODE_STEPS + mode];
+      byte[] fused = new byte[program.length + steps.length];
+      System.arraycopy(program, 0, fused, 0, position);
+      System.arraycopy(steps, 0, fused, position, steps.length);
+      System.arraycopy(program, position, fused, position + steps.length, program.length - position);
+      INDEXED_PROGRAMS[instructionNum][mode] = fused;
+    }
+  }
+
+  private static byte[] addressingMode(int opcode) {
+    switch (opcode & 0x30) {
+      case 0x10:
+        return DIRECT;
+      case 0x20:
+        return INDEXED;
+      default:
+        return EXTENDED;
+    }
+  }
+
+  /**
+   * @param programCounter the programCounter to set
+   */
+  @Override
+  public void setProgramCounter(int programCounter) {
+    super.setProgramCounter(programCounter);
+
+    // If the PC is being set, then we assume its a different instruction, and
+    // pointing at the opcode memory location.
+    microProgram = FETCH_FIRST_OPCODE;
+    microStep = 0;
+  }
+
+  /**
+   * Returns the number of the instruction currently being executed, in op code form, i.e.
+   * with the prefix byte in the high byte for 0x10 and 0x11 prefixed instructions. The
+   * hardware interrupts follow on from those, as they do in Cpu6809SingleCycle. An indexed
+   * instruction keeps its own number while its addressing mode steps run.
+   *
+   * @return the instruction number
+   */
+  public int getInstructionRegister() {
+    if (instruction < PAGE2_INSTRUCTIONS) {
+      return instruction;
+    }
+    return (((instruction >> 8) + 0x0F) << 8) | (instruction & 0xFF);
+  }
+}
@@ -0,0 +1,479 @@
+package emu.jpoly.cpu;
+
+/**
+ * A dynamically recompiling emulation of the MC6809.
+ *
+ * This builds on Cpu6809SingleInstruction. It counts how many times execution arrives at
+ * each address, and once an address has been reached HOT_THRESHOLD times, the block of
+ * code that starts there is translated by BlockTranslator into a JVM class. From then on,
+ * arriving at that address executes the translated block instead of interpreting the
+ * instructions one at a time, and it is then up to HotSpot to compile the block's class
+ * into native code.
+ *
+ * The cycle counts and the effects on the registers and memory are the same as those of
+ * Cpu6809SingleInstruction. Interrupts are still only taken at instruction boundaries,
+ * since a translated block leaves early if an interrupt becomes due part way through.
+ *
+ * A CPU write to a page of memory that holds translated code invalidates all of the blocks
+ * that overlap that page, so self modifying code and code loaded into RAM by the 6809
+ * itself work as normal. Writes that don't go through the CPU, for example a loader that
+ * writes directly to Memory after the program has started running, are not seen, and so
+ * invalidateTranslations should be called after those.
+ *
+ * The public methods below the "translated code interface" comment exist for the use of
+ * the generated classes, which are not in the same runtime package as this class.
+ *
+ * @author Lance Ewing
+ */
+public class Cpu6809Recompiler extends Cpu6809SingleInstruction {
+
+  /**
+   * The number of times that execution has to arrive at an address before the block of
+   * code at that address is translated.
+   */
+  private static final int HOT_THRESHOLD = 64;
+
+  /**
+   * The translated blocks, indexed by the address of their first instruction.
+   */
+  private TranslatedBlock[] blocks;
+
+  /**
+   * The number of times execution has arrived at each address while it has not had a
+   * translated block.
+   */
+  private int[] executionCounts;
+
+  /**
+   * Whether each 256 byte page of memory might contain translated code.
+   */
+  private boolean[] translatedPages;
+
+  /**
+   * Set when a write invalidates translated code, or the end of the current burst is
+   * brought forward, so that the current block stops.
+   */
+  private boolean blockExitRequested;
+
+  /**
+   * Translates the hot blocks into JVM classes.
+   */
+  private BlockTranslator translator;
+
+  /**
+   * Constructor for Cpu6809Recompiler.
+   */
+  public Cpu6809Recompiler() {
+    blocks = new TranslatedBlock[0x10000];
+    executionCounts = new int[0x10000];
+    translatedPages = new boolean[0x100];
+    translator = new BlockTranslator(this);
+  }
+
+  /**
+   * Executes the translated block at the current program counter, if there is one, or
+   * otherwise the next instruction, or the hardware RESET or interrupt sequence if one of
+   * those is due instead. A ROM trap is only noticed when the program counter is at its
+   * entry point between blocks, which is the case when the routine is called or jumped
+   * to, since those end a block.
+   *
+   * @return The number of cycles that were executed.
+   */
+  @Override
+  public int executeInstruction() {
+    if (reset || syncing || waitingForInterrupt || isInterruptDue() || isRomTrap(programCounter)) {
+      return super.executeInstruction();
+    }
+
+    int address = programCounter;
+    TranslatedBlock block = blocks[address];
+    if (block == null) {
+      if (++executionCounts[address] != HOT_THRESHOLD) {
+        return super.executeInstruction();
+      }
+      block = translator.translate(address);
+      if (block == null) {
+        return super.executeInstruction();
+      }
+      addBlock(block);
+    }
+
+    blockExitRequested = false;
+    return block.execute(this);
+  }
+
+  /**
+   * Writes a value to memory, invalidating any translated code in the same page.
+   *
+   * @param address The address to write to.
+   * @param data The value to write.
+   */
+  @Override
+  public void write(int address, int data) {
+    super.write(address, data);
+    if (translatedPages[address >> 8]) {
+      invalidatePage(address >> 8);
+    }
+  }
+
+  /**
+   * Brings forward the end of the current burst, and stops the current translated block at
+   * its next instruction, since the cycle count isn't updated part way through a block.
+   *
+   * @param cycle The cycle at which to stop.
+   */
+  @Override
+  public void endBurstAt(long cycle) {
+    if (cycle < targetCycle) {
+      super.endBurstAt(cycle);
+      blockExitRequested = true;
+    }
+  }
+
+  /**
+   * Discards the translated code in a page that now has a different chip mapped into it,
+   * e.g. after a bank switch, since the code that was translated is no longer visible.
+   *
+   * @param page The number of the 256 byte page that has been remapped.
+   */
+  @Override
+  public void pageRemapped(int page) {
+    if (translatedPages[page]) {
+      invalidatePage(page);
+    }
+  }
+
+  /**
+   * Discards all of the translated blocks. This should be called if memory that might hold
+   * code is changed other than by the CPU itself.
+   */
+  public void invalidateTranslations() {
+    for (int page = 0; page < 0x100; page++) {
+      if (translatedPages[page]) {
+        invalidatePage(page);
+      }
+    }
+  }
+
+  /**
+   * Reads the given address for the translator, without any side effects on the chips or
+   * on the busy-wait watch state.
+   *
+   * @param address The address to read.
+   *
+   * @return The contents of the address, or -1 if it can't be read without side effects.
+   */
+  int peek(int address) {
+    return memory.peekMemory(address);
+  }
+
+  private void addBlock(TranslatedBlock block) {
+    blocks[block.startAddress] = block;
+    for (int page = block.startAddress >> 8; page <= ((block.endAddress - 1) >> 8); page++) {
+      translatedPages[page] = true;
+    }
+  }
+
+  /**
+   * Discards every translated block that has some of its code in the given page.
+   *
+   * @param page The number of the 256 byte page.
+   */
+  private void invalidatePage(int page) {
+    int pageStart = page << 8;
+    int pageEnd = pageStart + 0x100;
+    for (int address = Math.max(0, pageStart - BlockTranslator.MAX_BLOCK_BYTES); address < pageEnd; address++) {
+      TranslatedBlock block = blocks[address];
+      if ((block != null) && (block.endAddress > pageStart)) {
+        blocks[address] = null;
+        executionCounts[address] = 0;
+      }
+    }
+    translatedPages[page] = false;
+    blockExitRequested = true;
+  }
+
+  /**
+   * Tests whether an interrupt would be taken at the next instruction boundary, using the
+   * same priority and masking as executeInstruction.
+   *
+   * @return true if an interrupt is due.
+   */
+  private boolean isInterruptDue() {
+    return interruptPending
+        && ((((interruptStatus & S_NMI) != 0) && nmiArmed)
+            || (((interruptStatus & S_FIRQ) != 0) && !firqDisableFlag)
+            || (((interruptStatus & S_IRQ) != 0) && !irqDisableFlag));
+  }
+
+  /**
+   * Applies one of the read-modify-write operations to the given value.
+   *
+   * @param operation The bottom nibble of the opcode.
+   * @param value The value to modify.
+   *
+   * @return The modified value.
+   */
+  private int modify(int operation, int value) {
+    switch (operation) {
+      case 0x0: return neg(value);
+      case 0x3: return com(value);
+      case 0x4: return lsr(value);
+      case 0x6: return ror(value);
+      case 0x7: return asr(value);
+      case 0x8: return asl(value);
+      case 0x9: return rol(value);
+      case 0xA: return dec(value);
+      case 0xC: return inc(value);
+      case 0xD: tst(value); return value;
+      default:  return clr();
+    }
+  }
+
+  // ---------------------------------------------------------------------------------------
+  // The translated code interface. These are only for the use of the generated classes.
+  // ---------------------------------------------------------------------------------------
+
+  /**
+   * Tests whether the translated block should stop before its next instruction, either
+   * because an interrupt is now due, because the block's code might have been modified, 
+   * because a chip has asked for the CPU to stop early, or because the burst has reached
+   * its target cycle. The cycle count isn't updated until the block returns, so the block
+   * passes in the cycles of the instructions it has executed so far. A block therefore 
+   * stops at the same instruction boundary that Cpu6809SingleInstruction would.
+   *
+   * @param blockCycles The number of cycles executed so far in the block.
+   *
+   * @return true if the block should stop.
+   */
+  public boolean isBlockExitRequested(int blockCycles) {
+    return blockExitRequested || isInterruptDue() || (cycleCount + blockCycles >= targetCycle);
+  }
+
+  /**
+   * Stops a translated block part way through.
+   *
+   * @param address The address of the next instruction.
+   */
+  public void exitBlock(int address) {
+    programCounter = address;
+  }
+
+  public int directAddress(int low) {
+    return (directPageRegister << 8) | low;
+  }
+
+  /**
+   * Calculates an indexed mode effective address, including any changes to the index
+   * register and the reading of an indirect address.
+   *
+   * @param postByteAddress The address of the post byte.
+   *
+   * @return The effective address.
+   */
+  public int indexedAddress(int postByteAddress) {
+    // The PC is needed for the PC relative modes, and ends up after the instruction.
+    programCounter = postByteAddress;
+    return indexedAddress();
+  }
+
+  /**
+   * Executes one of the 8 bit operations on the A register.
+   *
+   * @param operation The bottom nibble of the opcode.
+   * @param value The operand.
+   */
+  public void operateA(int operation, int value) {
+    switch (operation) {
+      case 0x0: accumulatorA = sub8Bit(accumulatorA, value); break;
+      case 0x1: sub8Bit(accumulatorA, value); break;
+      case 0x2: accumulatorA = sbc(accumulatorA, value); break;
+      case 0x4: accumulatorA = and(accumulatorA, value); break;
+      case 0x5: and(accumulatorA, value); break;
+      case 0x6: accumulatorA = ld8Bit(value); break;
+      case 0x8: accumulatorA = eor(accumulatorA, value); break;
+      case 0x9: accumulatorA = adc(accumulatorA, value); break;
+      case 0xA: accumulatorA = or(accumulatorA, value); break;
+      default:  accumulatorA = add(accumulatorA, value); break;
+    }
+  }
+
+  /**
+   * Executes one of the 8 bit operations on the B register.
+   *
+   * @param operation The bottom nibble of the opcode.
+   * @param value The operand.
+   */
+  public void operateB(int operation, int value) {
+    switch (operation) {
+      case 0x0: accumulatorB = sub8Bit(accumulatorB, value); break;
+      case 0x1: sub8Bit(accumulatorB, value); break;
+      case 0x2: accumulatorB = sbc(accumulatorB, value); break;
+      case 0x4: accumulatorB = and(accumulatorB, value); break;
+      case 0x5: and(accumulatorB, value); break;
+      case 0x6: accumulatorB = ld8Bit(value); break;
+      case 0x8: accumulatorB = eor(accumulatorB, value); break;
+      case 0x9: accumulatorB = adc(accumulatorB, value); break;
+      case 0xA: accumulatorB = or(accumulatorB, value); break;
+      default:  accumulatorB = add(accumulatorB, value); break;
+    }
+  }
+
+  public void storeA(int address) {
+    write(address, accumulatorA);
+    st8Bit(accumulatorA);
+  }
+
+  public void storeB(int address) {
+    write(address, accumulatorB);
+    st8Bit(accumulatorB);
+  }
+
+  /**
+   * Executes one of the 16 bit operations that take an operand, i.e. SUBD, CMPX, LDX,
+   * ADDD, LDD and LDU.
+   *
+   * @param opcode The opcode with the addressing mode bits cleared.
+   * @param value The operand.
+   */
+  public void operateWord(int opcode, int value) {
+    switch (opcode) {
+      case 0x03: setD(sub16Bit(getD(), value)); break;
+      case 0x0C: sub16Bit(indexRegisterX, value); break;
+      case 0x0E: indexRegisterX = ld16Bit(value); break;
+      case 0x43: setD(addd(getD(), value)); break;
+      case 0x4C: setD(ld16Bit(value)); break;
+      default:   userStackPointer = ld16Bit(value); break;
+    }
+  }
+
+  /**
+   * Executes one of the 16 bit stores, i.e. STX, STD and STU.
+   *
+   * @param opcode The opcode with the addressing mode bits cleared.
+   * @param address The address to store to.
+   */
+  public void storeWord(int opcode, int address) {
+    int value;
+    switch (opcode) {
+      case 0x0F: value = indexRegisterX; break;
+      case 0x4D: value = getD(); break;
+      default:   value = userStackPointer; break;
+    }
+    writeWord(address, value);
+    st16Bit(value);
+  }
+
+  public void modifyA(int operation) {
+    accumulatorA = modify(operation, accumulatorA);
+  }
+
+  public void modifyB(int operation) {
+    accumulatorB = modify(operation, accumulatorB);
+  }
+
+  /**
+   * Executes one of the read-modify-write operations on memory.
+   *
+   * @param operation The bottom nibble of the opcode.
+   * @param address The address of the value to modify.
+   */
+  public void modifyMemory(int operation, int address) {
+    if (operation == 0xD) {
+      tst(fetch(address));
+    } else {
+      write(address, modify(operation, fetch(address)));
+    }
+  }
+
+  /**
+   * Executes one of NOP, DAA, SEX, ABX and MUL.
+   *
+   * @param opcode The opcode of the instruction.
+   */
+  public void inherent(int opcode) {
+    switch (opcode) {
+      case 0x19: accumulatorA = daa(accumulatorA); break;
+      case 0x1D: setD(sex(accumulatorB)); break;
+      case 0x3A: indexRegisterX = (indexRegisterX + accumulatorB) & 0xFFFF; break;
+      case 0x3D: setD(mul(accumulatorA, accumulatorB)); break;
+      default: break;
+    }
+  }
+
+  /**
+   * Executes one of the instructions that take a register or CC post byte, i.e. ORCC,
+   * ANDCC, EXG, TFR, PSHS, PULS, PSHU and PULU.
+   *
+   * @param opcode The opcode of the instruction.
+   * @param postByte The post byte.
+   */
+  public void registerOperation(int opcode, int postByte) {
+    switch (opcode) {
+      case 0x1A: setCC(getCC() | postByte); break;
+      case 0x1C: setCC(getCC() & postByte); break;
+      case 0x1E: exg(postByte); break;
+      case 0x1F: tfr(postByte); break;
+      case 0x34: pshs(postByte); break;
+      case 0x35: puls(postByte); break;
+      case 0x36: pshu(postByte); break;
+      default:   pulu(postByte); break;
+    }
+  }
+
+  /**
+   * Executes LEAX, LEAY, LEAS or LEAU.
+   *
+   * @param opcode The opcode of the instruction.
+   * @param address The effective address.
+   */
+  public void loadEffectiveAddress(int opcode, int address) {
+    switch (opcode) {
+      case 0x30: indexRegisterX = address; setZeroFlag(address == 0); break;
+      case 0x31: indexRegisterY = address; setZeroFlag(address == 0); break;
+      case 0x32: stackPointer = address; armNmi(); break;
+      default:   userStackPointer = address; break;
+    }
+  }
+
+  /**
+   * Executes a short or long branch.
+   *
+   * @param condition The bottom nibble of the opcode.
+   * @param target The address to branch to.
+   * @param nextAddress The address of the next instruction.
+   *
+   * @return 1 if the branch was taken, otherwise 0.
+   */
+  public int branch(int condition, int target, int nextAddress) {
+    if (isConditionTrue(condition)) {
+      branchTaken(target, nextAddress);
+      programCounter = target;
+      return 1;
+    } else {
+      programCounter = nextAddress;
+      return 0;
+    }
+  }
+
+  public void jump(int target) {
+    programCounter = target;
+  }
+
+  /**
+   * Executes BSR, LBSR or JSR.
+   *
+   * @param target The address of the subroutine.
+   * @param returnAddress The address of the next instruction.
+   */
+  public void call(int target, int returnAddress) {
+    stackPointer = (stackPointer - 2) & 0xFFFF;
+    writeWord(stackPointer, returnAddress);
+    programCounter = target;
+  }
+
+  public void returnFromSubroutine() {
+    programCounter = fetchWord(stackPointer);
+    stackPointer = (stackPointer + 2) & 0xFFFF;
+  }
+}
@@ -0,0 +1,1240 @@
+package emu.jpoly.cpu;
+
+/**
+ * An instruction-by-instruction based emulation of the MC6809.
+ *
+ * Where Cpu6809SingleCycle reproduces every bus cycle of every instruction, this
+ * class executes a whole instruction in one go and then reports how many cycles the
+ * instruction took. The cycle counts are the same as those of Cpu6809SingleCycle,
+ * and so are the effects on the registers and memory, but the dummy bus cycles, i.e.
+ * those where the fetched data is discarded, are not performed at all. This makes it
+ * several times faster, and is ideal for software that isn't sensitive to exactly
+ * when within an instruction a memory access happens.
+ *
+ * Interrupts are checked for at instruction boundaries, just as they are by the
+ * interruptOrFetch method of Cpu6809SingleCycle.
+ *
+ * @author Lance Ewing
+ */
+public class Cpu6809SingleInstruction extends Cpu6809 {
+
+  /**
+   * The number of extra cycles taken by the last indexed address calculation.
+   */
+  private int indexedCycles;
+
+  /**
+   * True while a SYNC instruction is waiting for an interrupt line to go active.
+   */
+  protected boolean syncing;
+
+  /**
+   * True while a CWAI instruction is waiting for an interrupt.
+   */
+  protected boolean waitingForInterrupt;
+
+  /**
+   * The number of cycles that the last call to emulateCycles ran over by, due to
+   * the last instruction not finishing exactly on the requested cycle. This is
+   * deducted from the next call.
+   */
+  private int overrunCycles;
+
+  /**
+   * The ROM trap registered at each address, or null if none have been registered.
+   */
+  private RomTrap[] romTraps;
+
+  /**
+   * Whether ROM traps are called when their entry points are reached.
+   */
+  private boolean romTrapsEnabled;
+
+  /**
+   * The longest loop, in bytes from the branch target up to the end of the branch, that is
+   * checked for being a busy-wait loop.
+   */
+  private static final int MAX_BUSY_WAIT_LOOP = 16;
+
+  /**
+   * Whether loops that poll memory without changing anything are detected and skipped over.
+   */
+  private boolean busyWaitDetection;
+
+  /**
+   * The target of the short backward branch that has just been taken, or -1 if the last
+   * instruction wasn't one.
+   */
+  private int loopAddress = -1;
+
+  /**
+   * The address of the loop being watched to see whether it is a busy-wait loop, or -1.
+   */
+  private int watchedLoopAddress = -1;
+
+  /**
+   * The cycle count when the current iteration of the watched loop started.
+   */
+  private long watchedLoopCycle;
+
+  /**
+   * True until the current iteration of the watched loop writes to memory, or reads an
+   * address whose value might change before the end of the burst.
+   */
+  private boolean watchedLoopIdle;
+
+  /**
+   * The registers at the start of the current iteration of the watched loop.
+   */
+  private int[] watchedLoopRegisters = new int[8];
+
+  /**
+   * Constructor for Cpu6809SingleInstruction.
+   */
+  public Cpu6809SingleInstruction() {
+    reset();
+  }
+
+  /**
+   * Resets the CPU.
+   */
+  @Override
+  public void reset() {
+    super.reset();
+    syncing = false;
+    waitingForInterrupt = false;
+    overrunCycles = 0;
+    loopAddress = -1;
+    watchedLoopAddress = -1;
+  }
+
+  /**
+   * Emulates the given number of machine cycles. Whole instructions are executed
+   * until the number of cycles has been reached. If the last instruction finishes
+   * beyond that point, the extra cycles are taken off the next call.
+   *
+   * @param numOfCycles The number of cycles to execute.
+   */
+  @Override
+  public void emulateCycles(int numOfCycles) {
+    int cyclesRemaining = numOfCycles - overrunCycles;
+    targetCycle = cycleCount + cyclesRemaining;
+    idleCycle = false;
+    watchedLoopAddress = -1;
+    while (cyclesRemaining > 0) {
+      int cycles = executeInstruction();
+      cycleCount += cycles;
+      cyclesRemaining -= cycles;
+      if (idleCycle) {
+        idleCycle = false;
+        cycleCount += cyclesRemaining;
+        cyclesRemaining = 0;
+      }
+      if (loopAddress >= 0) {
+        int skipped = (int)skipBusyWait(cyclesRemaining);
+        cycleCount += skipped;
+        cyclesRemaining -= skipped;
+      }
+    }
+    overrunCycles = -cyclesRemaining;
+    targetCycle = Long.MAX_VALUE;
+  }
+
+  /**
+   * Emulates whole instructions until the cycle count reaches the given cycle.
+   *
+   * @param cycle The cycle to emulate up to.
+   */
+  @Override
+  public void emulateUntil(long cycle) {
+    targetCycle = cycle;
+    idleCycle = false;
+    watchedLoopAddress = -1;
+    while (cycleCount < targetCycle) {
+      cycleCount += executeInstruction();
+      if (idleCycle) {
+        idleCycle = false;
+        cycleCount = targetCycle;
+      }
+      if (loopAddress >= 0) {
+        cycleCount += skipBusyWait(targetCycle - cycleCount);
+      }
+    }
+    targetCycle = Long.MAX_VALUE;
+  }
+
+  /**
+   * Sets whether busy-wait loops are detected and skipped over. A busy-wait loop is a short 
+   * loop, such as one that polls a status register, where an iteration writes nothing, ends 
+   * with the registers as they were at the start, and only reads addresses whose values 
+   * can't change until the next chip event. Every iteration up to the end of the burst 
+   * would then do the same, so the cycle count is moved on by a whole number of iterations 
+   * instead.
+   * 
+   * This is off by default. It relies on each burst ending at the next chip event, so it
+   * should only be turned on for a CPU that is driven by a Machine, with every chip that
+   * it polls scheduled by that Machine. A chip that is stepped every cycle between bursts
+   * would otherwise have its registers appear frozen for the whole burst.
+   * 
+   * @param busyWaitDetection true to skip over busy-wait loops.
+   */
+  public void setBusyWaitDetection(boolean busyWaitDetection) {
+    this.busyWaitDetection = busyWaitDetection;
+    loopAddress = -1;
+    watchedLoopAddress = -1;
+  }
+
+  /**
+   * Registers a ROM trap, i.e. a Java version of the ROM routine at the given address, to be
+   * called in place of the routine whenever ROM traps are enabled.
+   * 
+   * @param address The entry point of the routine.
+   * @param trap The trap, or null to remove the one at the given address.
+   */
+  public void addRomTrap(int address, RomTrap trap) {
+    if (romTraps == null) {
+      romTraps = new RomTrap[0x10000];
+    }
+    romTraps[address & 0xFFFF] = trap;
+  }
+
+  /**
+   * Sets whether the registered ROM traps are called when their entry points are reached,
+   * rather than running the ROM code. This is off by default.
+   * 
+   * @param romTrapsEnabled true to call the ROM traps.
+   */
+  public void setRomTrapsEnabled(boolean romTrapsEnabled) {
+    if (romTraps == null) {
+      romTraps = new RomTrap[0x10000];
+    }
+    this.romTrapsEnabled = romTrapsEnabled;
+  }
+
+  /**
+   * Checks whether a ROM trap would be called for the instruction at the given address.
+   * 
+   * @param address The address of the instruction.
+   * 
+   * @return true if ROM traps are enabled and there is one at the given address.
+   */
+  protected boolean isRomTrap(int address) {
+    return romTrapsEnabled && (romTraps[address] != null);
+  }
+
+  /**
+   * Called when the top of a short loop has just been reached by its backward branch. If
+   * the loop is the one being watched, and the iteration that has just finished was a 
+   * busy-wait, then the iterations that fit in the rest of the burst are skipped. The next
+   * iteration is then watched.
+   * 
+   * @param cyclesAvailable The number of cycles left until the end of the burst.
+   * 
+   * @return The number of cycles skipped.
+   */
+  private long skipBusyWait(long cyclesAvailable) {
+    int address = loopAddress;
+    loopAddress = -1;
+    
+    long skipped = 0;
+    boolean sameRegisters = saveLoopRegisters();
+    if ((address == watchedLoopAddress) && watchedLoopIdle && sameRegisters && (cyclesAvailable > 0)) {
+      long iterationCycles = cycleCount - watchedLoopCycle;
+      skipped = cyclesAvailable - (cyclesAvailable % iterationCycles);
+    }
+    
+    watchedLoopAddress = address;
+    watchedLoopCycle = cycleCount + skipped;
+    watchedLoopIdle = true;
+    return skipped;
+  }
+
+  /**
+   * Saves the registers at the start of an iteration of the watched loop.
+   * 
+   * @return true if they are the same as at the start of the last iteration.
+   */
+  private boolean saveLoopRegisters() {
+    int[] registers = watchedLoopRegisters;
+    boolean same = (registers[0] == getCC()) && (registers[1] == accumulatorA)
+        && (registers[2] == accumulatorB) && (registers[3] == directPageRegister)
+        && (registers[4] == indexRegisterX) && (registers[5] == indexRegisterY)
+        && (registers[6] == userStackPointer) && (registers[7] == stackPointer);
+    if (!same) {
+      registers[0] = getCC();
+      registers[1] = accumulatorA;
+      registers[2] = accumulatorB;
+      registers[3] = directPageRegister;
+      registers[4] = indexRegisterX;
+      registers[5] = indexRegisterY;
+      registers[6] = userStackPointer;
+      registers[7] = stackPointer;
+    }
+    return same;
+  }
+
+  /**
+   * Notes a taken branch, so that a short backward one can be checked for closing a
+   * busy-wait loop once the instruction has finished.
+   * 
+   * @param target The address branched to.
+   * @param nextAddress The address of the instruction after the branch.
+   */
+  protected void branchTaken(int target, int nextAddress) {
+    if (busyWaitDetection && (target < nextAddress) && ((nextAddress - target) <= MAX_BUSY_WAIT_LOOP)) {
+      loopAddress = target;
+    }
+  }
+
+  @Override
+  public int fetch(int address) {
+    if (watchedLoopIdle && !memory.isReadStable(address)) {
+      watchedLoopIdle = false;
+    }
+    return memory.readMemory(address);
+  }
+
+  @Override
+  public void write(int address, int data) {
+    watchedLoopIdle = false;
+    memory.writeMemory(address, data);
+  }
+
+  /**
+   * @param programCounter the programCounter to set
+   */
+  @Override
+  public void setProgramCounter(int programCounter) {
+    super.setProgramCounter(programCounter);
+
+    // If the PC is being set, then we assume it is pointing at the opcode of the next
+    // instruction, so any RESET sequence or wait state in progress is abandoned.
+    reset = false;
+    syncing = false;
+    waitingForInterrupt = false;
+  }
+
+  /**
+   * Executes the next instruction, or the hardware RESET or interrupt sequence if
+   * one of those is due instead, or the ROM trap for the instruction if there is one.
+   *
+   * @return The number of cycles that were executed.
+   */
+  public int executeInstruction() {
+    if (reset) {
+      return resetSequence();
+    }
+    if (syncing) {
+      // SYNC finishes as soon as any interrupt line is active, whether masked or not.
+      if (interruptStatus == S_NONE) {
+        idleCycle = true;
+        return 1;
+      }
+      syncing = false;
+      return 2;
+    }
+    if (waitingForInterrupt) {
+      return cwaiInterrupt();
+    }
+
+    if (interruptPending) {
+      if (((interruptStatus & S_NMI) != 0) && nmiArmed) {
+        return nmiSequence();
+      }
+      else if (((interruptStatus & S_FIRQ) != 0) && !firqDisableFlag) {
+        return firqSequence();
+      }
+      else if (((interruptStatus & S_IRQ) != 0) && !irqDisableFlag) {
+        return irqSequence();
+      }
+      updateInterruptPending();
+    }
+
+    if (romTrapsEnabled) {
+      RomTrap trap = romTraps[programCounter];
+      if (trap != null) {
+        int cycles = trap.execute(this);
+        if (cycles > 0) {
+          return cycles;
+        }
+      }
+    }
+
+    int opcode = fetch(programCounter++);
+    if (opcode < 0x80) {
+      return executeLowOpcode(opcode);
+    } else {
+      return executeHighOpcode(opcode);
+    }
+  }
+
+  /**
+   * Executes an instruction in the 0x00 to 0x7F range of opcodes, i.e. the read-modify-write
+   * instructions, the branches, the stack and register instructions, and the two prefixes.
+   *
+   * @param opcode The opcode of the instruction.
+   *
+   * @return The number of cycles that were executed.
+   */
+  private int executeLowOpcode(int opcode) {
+    int address;
+
+    switch (opcode) {
+      // Read-modify-write, DIRECT.
+      case 0x00: address = directAddress(); write(address, neg(fetch(address))); return 6;
+      case 0x03: address = directAddress(); write(address, com(fetch(address))); return 6;
+      case 0x04: address = directAddress(); write(address, lsr(fetch(address))); return 6;
+      case 0x06: address = directAddress(); write(address, ror(fetch(address))); return 6;
+      case 0x07: address = directAddress(); write(address, asr(fetch(address))); return 6;
+      case 0x08: address = directAddress(); write(address, asl(fetch(address))); return 6;
+      case 0x09: address = directAddress(); write(address, rol(fetch(address))); return 6;
+      case 0x0A: address = directAddress(); write(address, dec(fetch(address))); return 6;
+      case 0x0C: address = directAddress(); write(address, inc(fetch(address))); return 6;
+      case 0x0D: tst(fetch(directAddress())); return 6;
+      case 0x0E: programCounter = directAddress(); return 3;
+      case 0x0F: address = directAddress(); fetch(address); write(address, clr()); return 6;
+
+      case 0x10: return executePrefix10(fetch(programCounter++));
+      case 0x11: return executePrefix11(fetch(programCounter++));
+
+      case 0x12: return 2;                                                     // NOP
+      case 0x13: syncing = true; return 2;                                     // SYNC
+      case 0x16: programCounter = longRelativeAddress(); return 5;             // LBRA
+      case 0x17:                                                               // LBSR
+        address = longRelativeAddress();
+        pushWordS(programCounter);
+        programCounter = address;
+        return 9;
+      case 0x19: accumulatorA = daa(accumulatorA); return 2;
+      case 0x1A: setCC(getCC() | fetch(programCounter++)); return 3;           // ORCC
+      case 0x1C: setCC(getCC() & fetch(programCounter++)); return 3;           // ANDCC
+      case 0x1D: setD(sex(accumulatorB)); return 2;
+      case 0x1E: exg(fetch(programCounter++)); return 8;
+      case 0x1F: tfr(fetch(programCounter++)); return 6;
+
+      // Short branches, RELATIVE.
+      case 0x20: branch(true); return 3;
+      case 0x21: relativeAddress(); return 3;
+      case 0x22: branch(isConditionTrue(0x2)); return 3;
+      case 0x23: branch(isConditionTrue(0x3)); return 3;
+      case 0x24: branch(isConditionTrue(0x4)); return 3;
+      case 0x25: branch(isConditionTrue(0x5)); return 3;
+      case 0x26: branch(isConditionTrue(0x6)); return 3;
+      case 0x27: branch(isConditionTrue(0x7)); return 3;
+      case 0x28: branch(isConditionTrue(0x8)); return 3;
+      case 0x29: branch(isConditionTrue(0x9)); return 3;
+      case 0x2A: branch(isConditionTrue(0xA)); return 3;
+      case 0x2B: branch(isConditionTrue(0xB)); return 3;
+      case 0x2C: branch(isConditionTrue(0xC)); return 3;
+      case 0x2D: branch(isConditionTrue(0xD)); return 3;
+      case 0x2E: branch(isConditionTrue(0xE)); return 3;
+      case 0x2F: branch(isConditionTrue(0xF)); return 3;
+
+      case 0x30: indexRegisterX = indexedAddress(); setZeroFlag(indexRegisterX == 0); return 4 + indexedCycles;
+      case 0x31: indexRegisterY = indexedAddress(); setZeroFlag(indexRegisterY == 0); return 4 + indexedCycles;
+      case 0x32: stackPointer = indexedAddress(); armNmi(); return 4 + indexedCycles;
+      case 0x33: userStackPointer = indexedAddress(); return 4 + indexedCycles;
+      case 0x34: return 5 + pshs(fetch(programCounter++));
+      case 0x35: return 5 + puls(fetch(programCounter++));
+      case 0x36: return 5 + pshu(fetch(programCounter++));
+      case 0x37: return 5 + pulu(fetch(programCounter++));
+      case 0x39: programCounter = pullWordS(); return 5;                      // RTS
+      case 0x3A: indexRegisterX = (indexRegisterX + accumulatorB) & 0xFFFF; return 3;
+      case 0x3B:                                                              // RTI
+        setCC(pullByteS());
+        if (entireFlag) {
+          puls(0xFE);
+          return 15;
+        } else {
+          programCounter = pullWordS();
+          return 6;
+        }
+      case 0x3C:                                                              // CWAI
+        setCC(getCC() & fetch(programCounter++));
+        entireFlag = true;
+        pushEntireState();
+        waitingForInterrupt = true;
+        return 16;
+      case 0x3D: setD(mul(accumulatorA, accumulatorB)); return 11;
+      case 0x3E:                                                              // RESET*
+        // Unlike SWI, this doesn't set the entire flag.
+        pushEntireState();
+        irqDisableFlag = true;
+        firqDisableFlag = true;
+        programCounter = fetchWord(RESET_VECTOR_HI);
+        return 19;
+      case 0x3F: return softwareInterrupt(SWI_VECTOR_HI, true);               // SWI
+
+      // Read-modify-write, INHERENT.
+      case 0x40: accumulatorA = neg(accumulatorA); return 2;
+      case 0x43: accumulatorA = com(accumulatorA); return 2;
+      case 0x44: accumulatorA = lsr(accumulatorA); return 2;
+      case 0x46: accumulatorA = ror(accumulatorA); return 2;
+      case 0x47: accumulatorA = asr(accumulatorA); return 2;
+      case 0x48: accumulatorA = asl(accumulatorA); return 2;
+      case 0x49: accumulatorA = rol(accumulatorA); return 2;
+      case 0x4A: accumulatorA = dec(accumulatorA); return 2;
+      case 0x4C: accumulatorA = inc(accumulatorA); return 2;
+      case 0x4D: tst(accumulatorA); return 2;
+      case 0x4F: accumulatorA = clr(); return 2;
+      case 0x50: accumulatorB = neg(accumulatorB); return 2;
+      case 0x53: accumulatorB = com(accumulatorB); return 2;
+      case 0x54: accumulatorB = lsr(accumulatorB); return 2;
+      case 0x56: accumulatorB = ror(accumulatorB); return 2;
+      case 0x57: accumulatorB = asr(accumulatorB); return 2;
+      case 0x58: accumulatorB = asl(accumulatorB); return 2;
+      case 0x59: accumulatorB = rol(accumulatorB); return 2;
+      case 0x5A: accumulatorB = dec(accumulatorB); return 2;
+      case 0x5C: accumulatorB = inc(accumulatorB); return 2;
+      case 0x5D: tst(accumulatorB); return 2;
+      case 0x5F: accumulatorB = clr(); return 2;
+
+      // Read-modify-write, INDEXED.
+      case 0x60: address = indexedAddress(); write(address, neg(fetch(address))); return 6 + indexedCycles;
+      case 0x63: address = indexedAddress(); write(address, com(fetch(address))); return 6 + indexedCycles;
+      case 0x64: address = indexedAddress(); write(address, lsr(fetch(address))); return 6 + indexedCycles;
+      case 0x66: address = indexedAddress(); write(address, ror(fetch(address))); return 6 + indexedCycles;
+      case 0x67: address = indexedAddress(); write(address, asr(fetch(address))); return 6 + indexedCycles;
+      case 0x68: address = indexedAddress(); write(address, asl(fetch(address))); return 6 + indexedCycles;
+      case 0x69: address = indexedAddress(); write(address, rol(fetch(address))); return 6 + indexedCycles;
+      case 0x6A: address = indexedAddress(); write(address, dec(fetch(address))); return 6 + indexedCycles;
+      case 0x6C: address = indexedAddress(); write(address, inc(fetch(address))); return 6 + indexedCycles;
+      case 0x6D: tst(fetch(indexedAddress())); return 6 + indexedCycles;
+      case 0x6E: programCounter = indexedAddress(); return 3 + indexedCycles;
+      case 0x6F: address = indexedAddress(); fetch(address); write(address, clr()); return 6 + indexedCycles;
+
+      // Read-modify-write, EXTENDED.
+      case 0x70: address = extendedAddress(); write(address, neg(fetch(address))); return 7;
+      case 0x73: address = extendedAddress(); write(address, com(fetch(address))); return 7;
+      case 0x74: address = extendedAddress(); write(address, lsr(fetch(address))); return 7;
+      case 0x76: address = extendedAddress(); write(address, ror(fetch(address))); return 7;
+      case 0x77: address = extendedAddress(); write(address, asr(fetch(address))); return 7;
+      case 0x78: address = extendedAddress(); write(address, asl(fetch(address))); return 7;
+      case 0x79: address = extendedAddress(); write(address, rol(fetch(address))); return 7;
+      case 0x7A: address = extendedAddress(); write(address, dec(fetch(address))); return 7;
+      case 0x7C: address = extendedAddress(); write(address, inc(fetch(address))); return 7;
+      case 0x7D: tst(fetch(extendedAddress())); return 7;
+      case 0x7E: programCounter = extendedAddress(); return 4;
+      case 0x7F: address = extendedAddress(); fetch(address); write(address, clr()); return 7;
+
+      default:
+        return illegal(opcode);
+    }
+  }
+
+  /**
+   * Executes an instruction in the 0x80 to 0xFF range of opcodes, i.e. those that operate
+   * on the accumulators and the X and U registers.
+   *
+   * @param opcode The opcode of the instruction.
+   *
+   * @return The number of cycles that were executed.
+   */
+  private int executeHighOpcode(int opcode) {
+    int address;
+
+    switch (opcode) {
+      // Register A, IMMEDIATE.
+      case 0x80: accumulatorA = sub8Bit(accumulatorA, fetch(programCounter++)); return 2;
+      case 0x81: sub8Bit(accumulatorA, fetch(programCounter++)); return 2;
+      case 0x82: accumulatorA = sbc(accumulatorA, fetch(programCounter++)); return 2;
+      case 0x83: setD(sub16Bit(getD(), immediateWord())); return 4;
+      case 0x84: accumulatorA = and(accumulatorA, fetch(programCounter++)); return 2;
+      case 0x85: and(accumulatorA, fetch(programCounter++)); return 2;
+      case 0x86: accumulatorA = ld8Bit(fetch(programCounter++)); return 2;
+      case 0x88: accumulatorA = eor(accumulatorA, fetch(programCounter++)); return 2;
+      case 0x89: accumulatorA = adc(accumulatorA, fetch(programCounter++)); return 2;
+      case 0x8A: accumulatorA = or(accumulatorA, fetch(programCounter++)); return 2;
+      case 0x8B: accumulatorA = add(accumulatorA, fetch(programCounter++)); return 2;
+      case 0x8C: sub16Bit(indexRegisterX, immediateWord()); return 4;
+      case 0x8D:                                                              // BSR
+        address = relativeAddress();
+        pushWordS(programCounter);
+        programCounter = address;
+        return 7;
+      case 0x8E: indexRegisterX = ld16Bit(immediateWord()); return 3;
+
+      // Register A, DIRECT.
+      case 0x90: accumulatorA = sub8Bit(accumulatorA, fetch(directAddress())); return 4;
+      case 0x91: sub8Bit(accumulatorA, fetch(directAddress())); return 4;
+      case 0x92: accumulatorA = sbc(accumulatorA, fetch(directAddress())); return 4;
+      case 0x93: setD(sub16Bit(getD(), fetchWord(directAddress()))); return 6;
+      case 0x94: accumulatorA = and(accumulatorA, fetch(directAddress())); return 4;
+      case 0x95: and(accumulatorA, fetch(directAddress())); return 4;
+      case 0x96: accumulatorA = ld8Bit(fetch(directAddress())); return 4;
+      case 0x97: write(directAddress(), accumulatorA); st8Bit(accumulatorA); return 4;
+      case 0x98: accumulatorA = eor(accumulatorA, fetch(directAddress())); return 4;
+      case 0x99: accumulatorA = adc(accumulatorA, fetch(directAddress())); return 4;
+      case 0x9A: accumulatorA = or(accumulatorA, fetch(directAddress())); return 4;
+      case 0x9B: accumulatorA = add(accumulatorA, fetch(directAddress())); return 4;
+      case 0x9C: sub16Bit(indexRegisterX, fetchWord(directAddress())); return 6;
+      case 0x9D: jsr(directAddress()); return 7;
+      case 0x9E: indexRegisterX = ld16Bit(fetchWord(directAddress())); return 5;
+      case 0x9F: writeWord(directAddress(), indexRegisterX); st16Bit(indexRegisterX); return 5;
+
+      // Register A, INDEXED.
+      case 0xA0: accumulatorA = sub8Bit(accumulatorA, fetch(indexedAddress())); return 4 + indexedCycles;
+      case 0xA1: sub8Bit(accumulatorA, fetch(indexedAddress())); return 4 + indexedCycles;
+      case 0xA2: accumulatorA = sbc(accumulatorA, fetch(indexedAddress())); return 4 + indexedCycles;
+      case 0xA3: setD(sub16Bit(getD(), fetchWord(indexedAddress()))); return 6 + indexedCycles;
+      case 0xA4: accumulatorA = and(accumulatorA, fetch(indexedAddress())); return 4 + indexedCycles;
+      case 0xA5: and(accumulatorA, fetch(indexedAddress())); return 4 + indexedCycles;
+      case 0xA6: accumulatorA = ld8Bit(fetch(indexedAddress())); return 4 + indexedCycles;
+      case 0xA7: write(indexedAddress(), accumulatorA); st8Bit(accumulatorA); return 4 + indexedCycles;
+      case 0xA8: accumulatorA = eor(accumulatorA, fetch(indexedAddress())); return 4 + indexedCycles;
+      case 0xA9: accumulatorA = adc(accumulatorA, fetch(indexedAddress())); return 4 + indexedCycles;
+      case 0xAA: accumulatorA = or(accumulatorA, fetch(indexedAddress())); return 4 + indexedCycles;
+      case 0xAB: accumulatorA = add(accumulatorA, fetch(indexedAddress())); return 4 + indexedCycles;
+      case 0xAC: sub16Bit(indexRegisterX, fetchWord(indexedAddress())); return 6 + indexedCycles;
+      case 0xAD: jsr(indexedAddress()); return 7 + indexedCycles;
+      case 0xAE: indexRegisterX = ld16Bit(fetchWord(indexedAddress())); return 5 + indexedCycles;
+      case 0xAF: writeWord(indexedAddress(), indexRegisterX); st16Bit(indexRegisterX); return 5 + indexedCycles;
+
+      // Register A, EXTENDED.
+      case 0xB0: accumulatorA = sub8Bit(accumulatorA, fetch(extendedAddress())); return 5;
+      case 0xB1: sub8Bit(accumulatorA, fetch(extendedAddress())); return 5;
+      case 0xB2: accumulatorA = sbc(accumulatorA, fetch(extendedAddress())); return 5;
+      case 0xB3: setD(sub16Bit(getD(), fetchWord(extendedAddress()))); return 7;
+      case 0xB4: accumulatorA = and(accumulatorA, fetch(extendedAddress())); return 5;
+      case 0xB5: and(accumulatorA, fetch(extendedAddress())); return 5;
+      case 0xB6: accumulatorA = ld8Bit(fetch(extendedAddress())); return 5;
+      case 0xB7: write(extendedAddress(), accumulatorA); st8Bit(accumulatorA); return 5;
+      case 0xB8: accumulatorA = eor(accumulatorA, fetch(extendedAddress())); return 5;
+      case 0xB9: accumulatorA = adc(accumulatorA, fetch(extendedAddress())); return 5;
+      case 0xBA: accumulatorA = or(accumulatorA, fetch(extendedAddress())); return 5;
+      case 0xBB: accumulatorA = add(accumulatorA, fetch(extendedAddress())); return 5;
+      case 0xBC: sub16Bit(indexRegisterX, fetchWord(extendedAddress())); return 7;
+      case 0xBD: jsr(extendedAddress()); return 8;
+      case 0xBE: indexRegisterX = ld16Bit(fetchWord(extendedAddress())); return 6;
+      case 0xBF: writeWord(extendedAddress(), indexRegisterX); st16Bit(indexRegisterX); return 6;
+
+      // Register B, IMMEDIATE.
+      case 0xC0: accumulatorB = sub8Bit(accumulatorB, fetch(programCounter++)); return 2;
+      case 0xC1: sub8Bit(accumulatorB, fetch(programCounter++)); return 2;
+      case 0xC2: accumulatorB = sbc(accumulatorB, fetch(programCounter++)); return 2;
+      case 0xC3: setD(addd(getD(), immediateWord())); return 4;
+      case 0xC4: accumulatorB = and(accumulatorB, fetch(programCounter++)); return 2;
+      case 0xC5: and(accumulatorB, fetch(programCounter++)); return 2;
+      case 0xC6: accumulatorB = ld8Bit(fetch(programCounter++)); return 2;
+      case 0xC8: accumulatorB = eor(accumulatorB, fetch(programCounter++)); return 2;
+      case 0xC9: accumulatorB = adc(accumulatorB, fetch(programCounter++)); return 2;
+      case 0xCA: accumulatorB = or(accumulatorB, fetch(programCounter++)); return 2;
+      case 0xCB: accumulatorB = add(accumulatorB, fetch(programCounter++)); return 2;
+      case 0xCC: setD(ld16Bit(immediateWord())); return 3;
+      case 0xCE: userStackPointer = ld16Bit(immediateWord()); return 3;
+
+      // Register B, DIRECT.
+      case 0xD0: accumulatorB = sub8Bit(accumulatorB, fetch(directAddress())); return 4;
+      case 0xD1: sub8Bit(accumulatorB, fetch(directAddress())); return 4;
+      case 0xD2: accumulatorB = sbc(accumulatorB, fetch(directAddress())); return 4;
+      case 0xD3: setD(addd(getD(), fetchWord(directAddress()))); return 6;
+      case 0xD4: accumulatorB = and(accumulatorB, fetch(directAddress())); return 4;
+      case 0xD5: and(accumulatorB, fetch(directAddress())); return 4;
+      case 0xD6: accumulatorB = ld8Bit(fetch(directAddress())); return 4;
+      case 0xD7: write(directAddress(), accumulatorB); st8Bit(accumulatorB); return 4;
+      case 0xD8: accumulatorB = eor(accumulatorB, fetch(directAddress())); return 4;
+      case 0xD9: accumulatorB = adc(accumulatorB, fetch(directAddress())); return 4;
+      case 0xDA: accumulatorB = or(accumulatorB, fetch(directAddress())); return 4;
+      case 0xDB: accumulatorB = add(accumulatorB, fetch(directAddress())); return 4;
+      case 0xDC: setD(ld16Bit(fetchWord(directAddress()))); return 5;
+      case 0xDD: writeWord(directAddress(), getD()); st16Bit(getD()); return 5;
+      case 0xDE: userStackPointer = ld16Bit(fetchWord(directAddress())); return 5;
+      case 0xDF: writeWord(directAddress(), userStackPointer); st16Bit(userStackPointer); return 5;
+
+      // Register B, INDEXED.
+      case 0xE0: accumulatorB = sub8Bit(accumulatorB, fetch(indexedAddress())); return 4 + indexedCycles;
+      case 0xE1: sub8Bit(accumulatorB, fetch(indexedAddress())); return 4 + indexedCycles;
+      case 0xE2: accumulatorB = sbc(accumulatorB, fetch(indexedAddress())); return 4 + indexedCycles;
+      case 0xE3: setD(addd(getD(), fetchWord(indexedAddress()))); return 6 + indexedCycles;
+      case 0xE4: accumulatorB = and(accumulatorB, fetch(indexedAddress())); return 4 + indexedCycles;
+      case 0xE5: and(accumulatorB, fetch(indexedAddress())); return 4 + indexedCycles;
+      case 0xE6: accumulatorB = ld8Bit(fetch(indexedAddress())); return 4 + indexedCycles;
+      case 0xE7: write(indexedAddress(), accumulatorB); st8Bit(accumulatorB); return 4 + indexedCycles;
+      case 0xE8: accumulatorB = eor(accumulatorB, fetch(indexedAddress())); return 4 + indexedCycles;
+      case 0xE9: accumulatorB = adc(accumulatorB, fetch(indexedAddress())); return 4 + indexedCycles;
+      case 0xEA: accumulatorB = or(accumulatorB, fetch(indexedAddress())); return 4 + indexedCycles;
+      case 0xEB: accumulatorB = add(accumulatorB, fetch(indexedAddress())); return 4 + indexedCycles;
+      case 0xEC: setD(ld16Bit(fetchWord(indexedAddress()))); return 5 + indexedCycles;
+      case 0xED: writeWord(indexedAddress(), getD()); st16Bit(getD()); return 5 + indexedCycles;
+      case 0xEE: userStackPointer = ld16Bit(fetchWord(indexedAddress())); return 5 + indexedCycles;
+      case 0xEF: writeWord(indexedAddress(), userStackPointer); st16Bit(userStackPointer); return 5 + indexedCycles;
+
+      // Register B, EXTENDED.
+      case 0xF0: accumulatorB = sub8Bit(accumulatorB, fetch(extendedAddress())); return 5;
+      case 0xF1: sub8Bit(accumulatorB, fetch(extendedAddress())); return 5;
+      case 0xF2: accumulatorB = sbc(accumulatorB, fetch(extendedAddress())); return 5;
+      case 0xF3: setD(addd(getD(), fetchWord(extendedAddress()))); return 7;
+      case 0xF4: accumulatorB = and(accumulatorB, fetch(extendedAddress())); return 5;
+      case 0xF5: and(accumulatorB, fetch(extendedAddress())); return 5;
+      case 0xF6: accumulatorB = ld8Bit(fetch(extendedAddress())); return 5;
+      case 0xF7: write(extendedAddress(), accumulatorB); st8Bit(accumulatorB); return 5;
+      case 0xF8: accumulatorB = eor(accumulatorB, fetch(extendedAddress())); return 5;
+      case 0xF9: accumulatorB = adc(accumulatorB, fetch(extendedAddress())); return 5;
+      case 0xFA: accumulatorB = or(accumulatorB, fetch(extendedAddress())); return 5;
+      case 0xFB: accumulatorB = add(accumulatorB, fetch(extendedAddress())); return 5;
+      case 0xFC: setD(ld16Bit(fetchWord(extendedAddress()))); return 6;
+      case 0xFD: writeWord(extendedAddress(), getD()); st16Bit(getD()); return 6;
+      case 0xFE: userStackPointer = ld16Bit(fetchWord(extendedAddress())); return 6;
+      case 0xFF: writeWord(extendedAddress(), userStackPointer); st16Bit(userStackPointer); return 6;
+
+      default:
+        return illegal(opcode);
+    }
+  }
+
+  /**
+   * Executes an instruction that has the 0x10 prefix. The cycle counts include the
+   * cycle for the prefix.
+   *
+   * @param opcode The opcode that followed the 0x10 prefix.
+   *
+   * @return The number of cycles that were executed.
+   */
+  private int executePrefix10(int opcode) {
+    switch (opcode) {
+      // Long branches, RELATIVE.
+      case 0x21: longRelativeAddress(); return 5;
+      case 0x22: return longBranch(isConditionTrue(0x2));
+      case 0x23: return longBranch(isConditionTrue(0x3));
+      case 0x24: return longBranch(isConditionTrue(0x4));
+      case 0x25: return longBranch(isConditionTrue(0x5));
+      case 0x26: return longBranch(isConditionTrue(0x6));
+      case 0x27: return longBranch(isConditionTrue(0x7));
+      case 0x28: return longBranch(isConditionTrue(0x8));
+      case 0x29: return longBranch(isConditionTrue(0x9));
+      case 0x2A: return longBranch(isConditionTrue(0xA));
+      case 0x2B: return longBranch(isConditionTrue(0xB));
+      case 0x2C: return longBranch(isConditionTrue(0xC));
+      case 0x2D: return longBranch(isConditionTrue(0xD));
+      case 0x2E: return longBranch(isConditionTrue(0xE));
+      case 0x2F: return longBranch(isConditionTrue(0xF));
+
+      case 0x3F: return softwareInterrupt(SWI2_VECTOR_HI, false) + 1;         // SWI2
+
+      case 0x83: sub16Bit(getD(), immediateWord()); return 5;
+      case 0x8C: sub16Bit(indexRegisterY, immediateWord()); return 5;
+      case 0x8E: indexRegisterY = ld16Bit(immediateWord()); return 4;
+      case 0x93: sub16Bit(getD(), fetchWord(directAddress())); return 7;
+      case 0x9C: sub16Bit(indexRegisterY, fetchWord(directAddress())); return 7;
+      case 0x9E: indexRegisterY = ld16Bit(fetchWord(directAddress())); return 6;
+      case 0x9F: writeWord(directAddress(), indexRegisterY); st16Bit(indexRegisterY); return 6;
+      case 0xA3: sub16Bit(getD(), fetchWord(indexedAddress())); return 7 + indexedCycles;
+      case 0xAC: sub16Bit(indexRegisterY, fetchWord(indexedAddress())); return 7 + indexedCycles;
+      case 0xAE: indexRegisterY = ld16Bit(fetchWord(indexedAddress())); return 6 + indexedCycles;
+      case 0xAF: writeWord(indexedAddress(), indexRegisterY); st16Bit(indexRegisterY); return 6 + indexedCycles;
+      case 0xB3: sub16Bit(getD(), fetchWord(extendedAddress())); return 8;
+      case 0xBC: sub16Bit(indexRegisterY, fetchWord(extendedAddress())); return 8;
+      case 0xBE: indexRegisterY = ld16Bit(fetchWord(extendedAddress())); return 7;
+      case 0xBF: writeWord(extendedAddress(), indexRegisterY); st16Bit(indexRegisterY); return 7;
+
+      case 0xCE: stackPointer = ld16Bit(immediateWord()); armNmi(); return 4;
+      case 0xDE: stackPointer = ld16Bit(fetchWord(directAddress())); armNmi(); return 6;
+      case 0xDF: writeWord(directAddress(), stackPointer); st16Bit(stackPointer); return 6;
+      case 0xEE: stackPointer = ld16Bit(fetchWord(indexedAddress())); armNmi(); return 6 + indexedCycles;
+      case 0xEF: writeWord(indexedAddress(), stackPointer); st16Bit(stackPointer); return 6 + indexedCycles;
+      case 0xFE: stackPointer = ld16Bit(fetchWord(extendedAddress())); armNmi(); return 7;
+      case 0xFF: writeWord(extendedAddress(), stackPointer); st16Bit(stackPointer); return 7;
+
+      default:
+        return illegal(0x1000 | opcode) + 1;
+    }
+  }
+
+  /**
+   * Executes an instruction that has the 0x11 prefix. The cycle counts include the
+   * cycle for the prefix.
+   *
+   * @param opcode The opcode that followed the 0x11 prefix.
+   *
+   * @return The number of cycles that were executed.
+   */
+  private int executePrefix11(int opcode) {
+    switch (opcode) {
+      case 0x3F: return softwareInterrupt(SWI3_VECTOR_HI, false) + 1;         // SWI3
+
+      case 0x83: sub16Bit(userStackPointer, immediateWord()); return 5;
+      case 0x8C: sub16Bit(stackPointer, immediateWord()); return 5;
+      case 0x93: sub16Bit(userStackPointer, fetchWord(directAddress())); return 7;
+      case 0x9C: sub16Bit(stackPointer, fetchWord(directAddress())); return 7;
+      case 0xA3: sub16Bit(userStackPointer, fetchWord(indexedAddress())); return 7 + indexedCycles;
+      case 0xAC: sub16Bit(stackPointer, fetchWord(indexedAddress())); return 7 + indexedCycles;
+      case 0xB3: sub16Bit(userStackPointer, fetchWord(extendedAddress())); return 8;
+      case 0xBC: sub16Bit(stackPointer, fetchWord(extendedAddress())); return 8;
+
+      default:
+        return illegal(0x1100 | opcode) + 1;
+    }
+  }
+
+  /**
+   * Fetches the 8 bit offset of a short branch and calculates the branch address.
+   *
+   * @return The address to branch to.
+   */
+  private int relativeAddress() {
+    int offset = to2C8Bit(fetch(programCounter++));
+    return (programCounter + offset) & 0xFFFF;
+  }
+
+  /**
+   * Fetches the 16 bit offset of a long branch and calculates the branch address.
+   *
+   * @return The address to branch to.
+   */
+  private int longRelativeAddress() {
+    int offset = to2C16Bit(immediateWord());
+    return (programCounter + offset) & 0xFFFF;
+  }
+
+  /**
+   * Performs a short branch if the given condition is true.
+   *
+   * @param condition The branch condition.
+   */
+  private void branch(boolean condition) {
+    int address = relativeAddress();
+    if (condition) {
+      branchTaken(address, programCounter);
+      programCounter = address;
+    }
+  }
+
+  /**
+   * Performs a long branch if the given condition is true. A long branch takes an extra
+   * cycle when the branch is taken.
+   *
+   * @param condition The branch condition.
+   *
+   * @return The number of cycles, including the prefix cycle.
+   */
+  private int longBranch(boolean condition) {
+    int address = longRelativeAddress();
+    if (condition) {
+      branchTaken(address, programCounter);
+      programCounter = address;
+      return 6;
+    } else {
+      return 5;
+    }
+  }
+
+  /**
+   * Pushes the return address and jumps to the given subroutine address.
+   *
+   * @param address The address of the subroutine.
+   */
+  private void jsr(int address) {
+    pushWordS(programCounter);
+    programCounter = address;
+  }
+
+  /**
+   * Fetches a 16 bit immediate operand.
+   *
+   * @return The operand.
+   */
+  private int immediateWord() {
+    int value = fetchWord(programCounter);
+    programCounter += 2;
+    return value;
+  }
+
+  /**
+   * Fetches the low byte of a DIRECT mode address and combines it with the direct page.
+   *
+   * @return The effective address.
+   */
+  private int directAddress() {
+    return (directPageRegister << 8) | fetch(programCounter++);
+  }
+
+  /**
+   * Fetches an EXTENDED mode address.
+   *
+   * @return The effective address.
+   */
+  private int extendedAddress() {
+    return immediateWord();
+  }
+
+  /**
+   * Fetches the post byte of an INDEXED mode instruction, and any offset that follows it,
+   * and calculates the effective address. The extra cycles that the address calculation
+   * takes are left in indexedCycles.
+   *
+   * @return The effective address.
+   */
+  protected int indexedAddress() {
+    int postByte = fetch(programCounter++);
+    int registerNum = (postByte & 0x60) >>> 5;
+    int register;
+    if (registerNum == 0) {
+      register = indexRegisterX;
+    } else if (registerNum == 1) {
+      register = indexRegisterY;
+    } else if (registerNum == 2) {
+      register = userStackPointer;
+    } else {
+      register = stackPointer;
+    }
+
+    if ((postByte & 0x80) == 0) {
+      // 5-bit offset.
+      indexedCycles = 1;
+      return (register + to2C5Bit(postByte & 0x1f)) & 0xFFFF;
+    }
+
+    int address;
+    switch (postByte & 0x1F) {
+      case 0x00:  // ,R+
+        address = register;
+        setIndexRegister(registerNum, register + 1);
+        indexedCycles = 2;
+        return address;
+      case 0x01:  // ,R++
+        address = register;
+        setIndexRegister(registerNum, register + 2);
+        indexedCycles = 3;
+        return address;
+      case 0x02:  // ,-R
+        address = (register - 1) & 0xFFFF;
+        setIndexRegister(registerNum, address);
+        indexedCycles = 2;
+        return address;
+      case 0x03:  // ,--R
+        address = (register - 2) & 0xFFFF;
+        setIndexRegister(registerNum, address);
+        indexedCycles = 3;
+        return address;
+      case 0x04:  // ,R
+        indexedCycles = 0;
+        return register;
+      case 0x05:  // B,R
+        indexedCycles = 1;
+        return (register + to2C8Bit(accumulatorB)) & 0xFFFF;
+      case 0x06:  // A,R
+        indexedCycles = 1;
+        return (register + to2C8Bit(accumulatorA)) & 0xFFFF;
+      case 0x08:  // 8n,R
+        indexedCycles = 1;
+        return (register + to2C8Bit(fetch(programCounter++))) & 0xFFFF;
+      case 0x09:  // 16n,R
+        indexedCycles = 4;
+        return (register + to2C16Bit(immediateWord())) & 0xFFFF;
+      case 0x0B:  // D,R
+        indexedCycles = 4;
+        return (register + to2C16Bit(getD())) & 0xFFFF;
+      case 0x0C:  // 8n,PC
+        indexedCycles = 1;
+        address = to2C8Bit(fetch(programCounter++));
+        return (programCounter + address) & 0xFFFF;
+      case 0x0D:  // 16n,PC
+        indexedCycles = 5;
+        address = to2C16Bit(immediateWord());
+        return (programCounter + address) & 0xFFFF;
+      case 0x11:  // [,R++]
+        setIndexRegister(registerNum, register + 2);
+        indexedCycles = 6;
+        return fetchWord(register);
+      case 0x13:  // [,--R]
+        address = (register - 2) & 0xFFFF;
+        setIndexRegister(registerNum, address);
+        indexedCycles = 6;
+        return fetchWord(address);
+      case 0x14:  // [,R]
+        indexedCycles = 3;
+        return fetchWord(register);
+      case 0x15:  // [B,R]
+        indexedCycles = 4;
+        return fetchWord((register + to2C8Bit(accumulatorB)) & 0xFFFF);
+      case 0x16:  // [A,R]
+        indexedCycles = 4;
+        return fetchWord((register + to2C8Bit(accumulatorA)) & 0xFFFF);
+      case 0x18:  // [8n,R]
+        indexedCycles = 4;
+        return fetchWord((register + to2C8Bit(fetch(programCounter++))) & 0xFFFF);
+      case 0x19:  // [16n,R]
+        indexedCycles = 7;
+        return fetchWord((register + to2C16Bit(immediateWord())) & 0xFFFF);
+      case 0x1B:  // [D,R]
+        indexedCycles = 7;
+        return fetchWord((register + to2C16Bit(getD())) & 0xFFFF);
+      case 0x1C:  // [8n,PC]
+        indexedCycles = 4;
+        address = to2C8Bit(fetch(programCounter++));
+        return fetchWord((programCounter + address) & 0xFFFF);
+      case 0x1D:  // [16n,PC]
+        indexedCycles = 8;
+        address = to2C16Bit(immediateWord());
+        return fetchWord((programCounter + address) & 0xFFFF);
+      case 0x1F:  // [Addr]
+        indexedCycles = 5;
+        return fetchWord(immediateWord());
+      default:
+        indexedCycles = illegal(0x1200 | postByte);
+        return register;
+    }
+  }
+
+  /**
+   * Updates the index register that was selected by an indexed mode post byte.
+   *
+   * @param registerNum The register number from bits 5 and 6 of the post byte.
+   * @param value The new value for the register.
+   */
+  private void setIndexRegister(int registerNum, int value) {
+    value &= 0xFFFF;
+    if (registerNum == 0) {
+      indexRegisterX = value;
+    } else if (registerNum == 1) {
+      indexRegisterY = value;
+    } else if (registerNum == 2) {
+      userStackPointer = value;
+    } else {
+      stackPointer = value;
+    }
+  }
+
+  private void pushByteS(int value) {
+    stackPointer = (stackPointer - 1) & 0xFFFF;
+    write(stackPointer, value & 0xFF);
+  }
+
+  private void pushWordS(int value) {
+    pushByteS(value);
+    pushByteS(value >> 8);
+  }
+
+  private int pullByteS() {
+    int value = fetch(stackPointer);
+    stackPointer = (stackPointer + 1) & 0xFFFF;
+    return value;
+  }
+
+  private int pullWordS() {
+    int value = pullByteS() << 8;
+    return value | pullByteS();
+  }
+
+  private void pushByteU(int value) {
+    userStackPointer = (userStackPointer - 1) & 0xFFFF;
+    write(userStackPointer, value & 0xFF);
+  }
+
+  private void pushWordU(int value) {
+    pushByteU(value);
+    pushByteU(value >> 8);
+  }
+
+  private int pullByteU() {
+    int value = fetch(userStackPointer);
+    userStackPointer = (userStackPointer + 1) & 0xFFFF;
+    return value;
+  }
+
+  private int pullWordU() {
+    int value = pullByteU() << 8;
+    return value | pullByteU();
+  }
+
+  /**
+   * Pushes the registers selected by the post byte on to the S stack.
+   *
+   * @param postByte The PSHS post byte.
+   *
+   * @return The number of bytes pushed.
+   */
+  protected int pshs(int postByte) {
+    int count = 0;
+    if ((postByte & 0x80) != 0) { pushWordS(programCounter); count += 2; }
+    if ((postByte & 0x40) != 0) { pushWordS(userStackPointer); count += 2; }
+    if ((postByte & 0x20) != 0) { pushWordS(indexRegisterY); count += 2; }
+    if ((postByte & 0x10) != 0) { pushWordS(indexRegisterX); count += 2; }
+    if ((postByte & 0x08) != 0) { pushByteS(directPageRegister); count++; }
+    if ((postByte & 0x04) != 0) { pushByteS(accumulatorB); count++; }
+    if ((postByte & 0x02) != 0) { pushByteS(accumulatorA); count++; }
+    if ((postByte & 0x01) != 0) { pushByteS(getCC()); count++; }
+    return count;
+  }
+
+  /**
+   * Pulls the registers selected by the post byte from the S stack.
+   *
+   * @param postByte The PULS post byte.
+   *
+   * @return The number of bytes pulled.
+   */
+  protected int puls(int postByte) {
+    int count = 0;
+    if ((postByte & 0x01) != 0) { setCC(pullByteS()); count++; }
+    if ((postByte & 0x02) != 0) { accumulatorA = pullByteS(); count++; }
+    if ((postByte & 0x04) != 0) { accumulatorB = pullByteS(); count++; }
+    if ((postByte & 0x08) != 0) { directPageRegister = pullByteS(); count++; }
+    if ((postByte & 0x10) != 0) { indexRegisterX = pullWordS(); count += 2; }
+    if ((postByte & 0x20) != 0) { indexRegisterY = pullWordS(); count += 2; }
+    if ((postByte & 0x40) != 0) { userStackPointer = pullWordS(); count += 2; }
+    if ((postByte & 0x80) != 0) { programCounter = pullWordS(); count += 2; }
+    return count;
+  }
+
+  /**
+   * Pushes the registers selected by the post byte on to the U stack.
+   *
+   * @param postByte The PSHU post byte.
+   *
+   * @return The number of bytes pushed.
+   */
+  protected int pshu(int postByte) {
+    int count = 0;
+    if ((postByte & 0x80) != 0) { pushWordU(programCounter); count += 2; }
+    if ((postByte & 0x40) != 0) { pushWordU(stackPointer); count += 2; }
+    if ((postByte & 0x20) != 0) { pushWordU(indexRegisterY); count += 2; }
+    if ((postByte & 0x10) != 0) { pushWordU(indexRegisterX); count += 2; }
+    if ((postByte & 0x08) != 0) { pushByteU(directPageRegister); count++; }
+    if ((postByte & 0x04) != 0) { pushByteU(accumulatorB); count++; }
+    if ((postByte & 0x02) != 0) { pushByteU(accumulatorA); count++; }
+    if ((postByte & 0x01) != 0) { pushByteU(getCC()); count++; }
+    return count;
+  }
+
+  /**
+   * Pulls the registers selected by the post byte from the U stack.
+   *
+   * @param postByte The PULU post byte.
+   *
+   * @return The number of bytes pulled.
+   */
+  protected int pulu(int postByte) {
+    int count = 0;
+    if ((postByte & 0x01) != 0) { setCC(pullByteU()); count++; }
+    if ((postByte & 0x02) != 0) { accumulatorA = pullByteU(); count++; }
+    if ((postByte & 0x04) != 0) { accumulatorB = pullByteU(); count++; }
+    if ((postByte & 0x08) != 0) { directPageRegister = pullByteU(); count++; }
+    if ((postByte & 0x10) != 0) { indexRegisterX = pullWordU(); count += 2; }
+    if ((postByte & 0x20) != 0) { indexRegisterY = pullWordU(); count += 2; }
+    if ((postByte & 0x40) != 0) { stackPointer = pullWordU(); armNmi(); count += 2; }
+    if ((postByte & 0x80) != 0) { programCounter = pullWordU(); count += 2; }
+    return count;
+  }
+
+  /**
+   * Pushes all of the registers on to the S stack, as is done by SWI, CWAI, IRQ and NMI.
+   */
+  private void pushEntireState() {
+    pshs(0xFF);
+  }
+
+  /**
+   * Executes one of the software interrupt instructions, i.e. SWI, SWI2 or SWI3.
+   *
+   * @param vectorAddress The address of the high byte of the interrupt vector.
+   * @param maskInterrupts Whether IRQ and FIRQ are disabled by the instruction.
+   *
+   * @return The number of cycles, excluding any prefix cycle.
+   */
+  private int softwareInterrupt(int vectorAddress, boolean maskInterrupts) {
+    entireFlag = true;
+    pushEntireState();
+    if (maskInterrupts) {
+      irqDisableFlag = true;
+      firqDisableFlag = true;
+    }
+    programCounter = fetchWord(vectorAddress);
+    return 19;
+  }
+
+  /**
+   * Executes the hardware RESET sequence.
+   *
+   * @return The number of cycles that were executed.
+   */
+  private int resetSequence() {
+    programCounter = fetchWord(RESET_VECTOR_HI);
+    reset = false;
+    syncing = false;
+    waitingForInterrupt = false;
+    return 7;
+  }
+
+  /**
+   * Executes the hardware NMI sequence.
+   *
+   * @return The number of cycles that were executed.
+   */
+  private int nmiSequence() {
+    interruptStatus &= ~S_NMI;
+    entireFlag = true;
+    pushEntireState();
+    irqDisableFlag = true;
+    firqDisableFlag = true;
+    programCounter = fetchWord(NMI_VECTOR_HI);
+    return 19;
+  }
+
+  /**
+   * Executes the hardware FIRQ sequence.
+   *
+   * @return The number of cycles that were executed.
+   */
+  private int firqSequence() {
+    entireFlag = false;
+    pushWordS(programCounter);
+    pushByteS(getCC());
+    irqDisableFlag = true;
+    firqDisableFlag = true;
+    programCounter = fetchWord(FIRQ_VECTOR_HI);
+    return 10;
+  }
+
+  /**
+   * Executes the hardware IRQ sequence.
+   *
+   * @return The number of cycles that were executed.
+   */
+  private int irqSequence() {
+    entireFlag = true;
+    pushEntireState();
+    irqDisableFlag = true;
+    programCounter = fetchWord(IRQ_VECTOR_HI);
+    return 19;
+  }
+
+  /**
+   * Checks whether a CWAI instruction that is waiting for an interrupt can now finish.
+   * The registers have already been stacked by the CWAI instruction itself.
+   *
+   * @return The number of cycles that were executed.
+   */
+  private int cwaiInterrupt() {
+    int vectorAddress;
+    if (((interruptStatus & S_NMI) != 0) && nmiArmed) {
+      vectorAddress = NMI_VECTOR_HI;
+      irqDisableFlag = true;
+      firqDisableFlag = true;
+      interruptStatus &= ~S_NMI;
+    }
+    else if ((interruptStatus & S_FIRQ) != 0 && !firqDisableFlag) {
+      vectorAddress = FIRQ_VECTOR_HI;
+      irqDisableFlag = true;
+      firqDisableFlag = true;
+    }
+    else if ((interruptStatus & S_IRQ) != 0 && !irqDisableFlag) {
+      vectorAddress = IRQ_VECTOR_HI;
+      irqDisableFlag = true;
+    }
+    else {
+      // No interrupt yet, so we stay in the wait state.
+      idleCycle = true;
+      return 1;
+    }
+
+    programCounter = fetchWord(vectorAddress);
+    waitingForInterrupt = false;
+    return 4;
+  }
+
+  private int illegal(int opcode) {
+    System.out.println(String.format("ILLEGAL unknown instruction: %d (%02X)", opcode, opcode));
+    return 1;
+  }
+}
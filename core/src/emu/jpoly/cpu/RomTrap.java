@@ -0,0 +1,26 @@
+package emu.jpoly.cpu;
+
+/**
+ * This interface is implemented by Java versions of ROM routines, for high level emulation.
+ * When a CPU that has ROM traps enabled is about to execute the instruction at the entry 
+ * point of a routine that has a trap, it calls the trap instead, which performs the effects
+ * of the whole routine in one go and charges the number of cycles that the routine would
+ * have taken, or a close estimate of it.
+ *
+ * @author Lance Ewing
+ */
+public interface RomTrap {
+
+  /**
+   * Performs the effects of the ROM routine. The trap has to leave the registers and memory
+   * as the routine would have, including the PC, which normally means pulling the return
+   * address from the S stack as the routine's RTS would. A trap can decline to handle a
+   * call, e.g. for arguments that it doesn't support, by returning 0 without changing 
+   * anything, in which case the ROM code runs as normal.
+   *
+   * @param cpu The CPU, with the PC at the routine's entry point.
+   *
+   * @return The number of cycles that the routine takes, or 0 if the trap declined.
+   */
+  int execute(Cpu6809 cpu);
+}
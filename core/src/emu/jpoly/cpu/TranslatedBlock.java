@@ -0,0 +1,37 @@
+package emu.jpoly.cpu;
+
+/**
+ * The super class of the classes that BlockTranslator generates for hot blocks of 6809
+ * code. Each generated subclass executes a fixed run of 6809 instructions by calling
+ * back into the Cpu6809Recompiler that it was translated for.
+ *
+ * @author Lance Ewing
+ */
+public abstract class TranslatedBlock {
+
+  /**
+   * The address of the first instruction in the block.
+   */
+  int startAddress;
+
+  /**
+   * The address just after the last byte of the last instruction in the block.
+   */
+  int endAddress;
+
+  /**
+   * Constructor for TranslatedBlock.
+   */
+  protected TranslatedBlock() {
+  }
+
+  /**
+   * Executes the block of instructions. On return, the program counter holds the address
+   * of the next instruction to execute.
+   *
+   * @param cpu The CPU to execute the block on.
+   *
+   * @return The number of cycles that were executed.
+   */
+  public abstract int execute(Cpu6809Recompiler cpu);
+}
@@ -23,7 +23,9 @@
  */
 package emu.jpoly.io;
 
-import emu.jpoly.cpu.Cpu6809SingleCycle;
+import emu.jpoly.ScheduledChip;
+import emu.jpoly.Scheduler;
+import emu.jpoly.cpu.Cpu6809;
 import emu.jpoly.memory.MemoryMappedChip;
 
 /**
@@ -33,7 +35,7 @@ import emu.jpoly.memory.MemoryMappedChip;
  * buffers. It is the programmer's responsibility to check the status (full or
  * empty) for transmit and receive buffers before writing / reading.
  */
-public class Acia6850 extends MemoryMappedChip {
+public class Acia6850 extends MemoryMappedChip implements ScheduledChip {
 
   private static final int STAT_REG = 0; // read-only
   private static final int CTRL_REG = 0; // write-only
@@ -41,16 +43,26 @@ public class Acia6850 extends MemoryMappedChip {
   private static final int RX_REG = 1; // read-only
   private static final int TX_REG = 1; // write-only
 
-  private Cpu6809SingleCycle cpu;
+  private Cpu6809 cpu;
 
   private boolean receiveIrqEnabled = false;
   private boolean transmitIrqEnabled = false;
   private boolean overrun = false;
   private boolean interrupt = false;
 
-  private long lastTxWrite = 0;
-  private long lastRxRead = 0;
+  /**
+   * The clock rate of the CPU in Simple6809, i.e. the 7.3728 MHz crystal divided by 4.
+   */
+  private static final int DEFAULT_CLOCK_RATE = 1843200;
+
+  /**
+   * The CPU cycle counts at which the last character was written and read. These start
+   * far enough in the past that the first character isn't delayed.
+   */
+  private long lastTxWrite = Long.MIN_VALUE / 2;
+  private long lastRxRead = Long.MIN_VALUE / 2;
   private int baudRate = 0;
+  private int clockRate = DEFAULT_CLOCK_RATE;
   private long baudRateDelay = 0;
 
   /**
@@ -62,24 +74,61 @@ public class Acia6850 extends MemoryMappedChip {
   private boolean rxFull = false;
   private boolean txEmpty = true;
 
+  /**
+   * The size of the queues between the host and the ACIA in each direction, which is
+   * enough for a decent sized BASIC listing to be pasted in one go.
+   */
+  private static final int QUEUE_SIZE = 0x10000;
+
+  /**
+   * Characters from the host waiting to be received by the ACIA, each of which is only
+   * moved into the RX register once it is empty, as if the host were using hardware flow
+   * control.
+   */
+  private ByteRingBuffer rxQueue = new ByteRingBuffer(QUEUE_SIZE);
+
+  /**
+   * Characters from the host that have arrived on the serial line, without flow control,
+   * and that the emulation thread hasn't yet moved into the RX register.
+   */
+  private ByteRingBuffer rxLine = new ByteRingBuffer(QUEUE_SIZE);
+
+  /**
+   * Characters transmitted by the ACIA waiting to be taken by the host.
+   */
+  private ByteRingBuffer txQueue = new ByteRingBuffer(QUEUE_SIZE);
+
+  /**
+   * How often, in CPU cycles, to check the host queues when there is no baud rate delay.
+   */
+  private static final int DEFAULT_HOST_POLL_INTERVAL = 1000;
+
+  /**
+   * The Scheduler used to check the host queues regularly, or null if they are only
+   * checked when the CPU reads the status register.
+   */
+  private Scheduler scheduler;
+
   /**
    * Constructor for Acia6850.
    * 
    * @param cpu
    */
-  public Acia6850(Cpu6809SingleCycle cpu) {
+  public Acia6850(Cpu6809 cpu) {
     this.cpu = cpu;
     setBaudRate(115200);   // From Simple6809
   }
   
   /*
-   * Calculate the delay in nanoseconds between successive read/write
-   * operations, based on the configured baud rate.
+   * Calculate the delay in CPU cycles between successive read/write
+   * operations, based on the configured baud rate and the CPU clock rate.
+   * Measuring the delay in emulated cycles rather than real time means
+   * that serial throughput doesn't depend on how fast the host is.
    */
   private long calculateBaudRateDelay() {
     if (baudRate > 0) {
       // TODO: This is a pretty rough approximation based on 8 bits per character, and 1/baudRate per bit. It could certainly be improved
-      return (long) ((1.0 / baudRate) * 1000000000 * 8);
+      return ((long)clockRate * 8) / baudRate;
     } else {
       return 0;
     }
@@ -95,32 +144,197 @@ public class Acia6850 extends MemoryMappedChip {
     this.baudRateDelay = calculateBaudRateDelay();
   }
 
-  public synchronized int rxRead(boolean cpuAccess) {
+  /**
+   * Set the clock rate of the CPU that the ACIA is attached to, which is used
+   * to convert the baud rate into a number of CPU cycles.
+   * 
+   * @param rate The CPU clock rate in Hz.
+   */
+  public void setClockRate(int rate) {
+    this.clockRate = rate;
+    this.baudRateDelay = calculateBaudRateDelay();
+  }
+
+  // ---------------------------------------------------------------------------------------
+  // Host side. These can be called from a thread other than the emulation thread, as long
+  // as only one thread writes and only one thread reads.
+  // ---------------------------------------------------------------------------------------
+
+  /**
+   * Receives a character from the serial line. There is no flow control, so if the RX
+   * register still holds a character that the CPU hasn't read when this one arrives, it
+   * replaces that character and the ACIA reports an overrun, as the 6850 does. The
+   * character reaches the RX register on the emulation thread's next status read or host
+   * check. If the host gets more than 64K characters ahead of that, the rest are dropped.
+   * 
+   * @param data The character.
+   */
+  public void rxWrite(int data) {
+    rxLine.offer(data);
+  }
+
+  /**
+   * Queues as many of the given characters to be received by the ACIA as there is room
+   * for. This never blocks. Characters that don't fit are not lost, but rather are left
+   * for the caller to offer again later. Each character only moves into the RX register
+   * once the CPU has read the one before, so pasted text is never overrun.
+   * 
+   * @param data The array holding the characters.
+   * @param offset The index of the first character.
+   * @param length The number of characters.
+   * 
+   * @return The number of characters that were queued.
+   */
+  public int rxWrite(byte[] data, int offset, int length) {
+    return rxQueue.offer(data, offset, length);
+  }
+
+  /**
+   * Takes the next character that the ACIA has transmitted.
+   * 
+   * @return The character, or -1 if there isn't one.
+   */
+  public int txRead() {
+    return txQueue.poll();
+  }
+
+  /**
+   * Gets the next character that the ACIA has transmitted, taking it only if cpuAccess is
+   * true. If there isn't one, this returns the last character that the CPU wrote.
+   * 
+   * @param cpuAccess true to take the character; false to leave it for the next call.
+   * 
+   * @return The character.
+   */
+  public int txRead(boolean cpuAccess) {
+    int data = (cpuAccess ? txQueue.poll() : txQueue.peek());
+    return (data >= 0 ? data : txChar);
+  }
+
+  /**
+   * Takes up to the given number of characters that the ACIA has transmitted. This never
+   * blocks.
+   * 
+   * @param data The array to copy the characters into.
+   * @param offset The index in the array for the first character.
+   * @param length The maximum number of characters to take.
+   * 
+   * @return The number of characters taken, which is 0 if there were none.
+   */
+  public int txRead(byte[] data, int offset, int length) {
+    return txQueue.poll(data, offset, length);
+  }
+
+  /**
+   * @return true if there is character data waiting for the host to take.
+   */
+  public boolean hasTxChar() {
+    return !txQueue.isEmpty();
+  }
+
+  /**
+   * @return true if there is character data in the RX register. This is the emulation
+   *     thread's view, so should only be relied on from that thread.
+   */
+  public boolean hasRxChar() {
+    return rxFull;
+  }
+
+  // ---------------------------------------------------------------------------------------
+  // CPU side. These are only called from the emulation thread.
+  // ---------------------------------------------------------------------------------------
+
+  public int rxRead(boolean cpuAccess) {
     if (cpuAccess) {
-      lastRxRead = System.nanoTime();
+      lastRxRead = cpu.getCycleCount();
       overrun = false;
       rxFull = false;
     }
     return rxChar;
   }
 
-  public synchronized void rxWrite(int data) {
-    if (rxFull) {
-      overrun = true;
+  public void txWrite(int data) {
+    lastTxWrite = cpu.getCycleCount();
+    txChar = data;
+    txEmpty = false;
+    transmitToHost();
+  }
+
+  /**
+   * Sets the Scheduler to use to check the host queues once per character time, so that
+   * receive interrupts are raised even when the CPU isn't polling the status register.
+   * 
+   * @param scheduler The Scheduler to use, or null to only check on status reads.
+   */
+  public void setScheduler(Scheduler scheduler) {
+    if (this.scheduler != null) {
+      this.scheduler.cancel(this);
     }
+    this.scheduler = scheduler;
+    if (scheduler != null) {
+      scheduler.schedule(this, scheduler.getCurrentCycle() + getHostPollInterval());
+    }
+  }
 
+  /**
+   * Invoked by the Scheduler once per character time to check the host queues.
+   * 
+   * @param cycle The cycle that the check was scheduled for.
+   */
+  public void handleEvent(long cycle) {
+    receiveFromHost();
+    transmitToHost();
+    scheduler.schedule(this, cycle + getHostPollInterval());
+  }
+
+  private long getHostPollInterval() {
+    return (baudRateDelay > 0 ? baudRateDelay : DEFAULT_HOST_POLL_INTERVAL);
+  }
+
+  /**
+   * Moves the characters that have arrived on the serial line into the RX register, each
+   * one overrunning the last if it hasn't been read, and then the next queued character,
+   * if the register is empty. Called on each status register access. It can also be 
+   * called by the emulation loop, so that a receive interrupt is raised even when the CPU 
+   * isn't polling the status.
+   */
+  public void receiveFromHost() {
+    int data;
+    while ((data = rxLine.poll()) >= 0) {
+      if (rxFull) {
+        overrun = true;
+      }
+      receive(data);
+    }
+    if (!rxFull) {
+      data = rxQueue.poll();
+      if (data >= 0) {
+        receive(data);
+      }
+    }
+  }
+
+  /**
+   * Puts a character into the RX register.
+   * 
+   * @param data The character.
+   */
+  private void receive(int data) {
+    rxChar = data;
     rxFull = true;
 
     if (receiveIrqEnabled) {
       interrupt = true;
       cpu.signalIRQ(true);
     }
-
-    rxChar = data;
   }
 
-  public synchronized int txRead(boolean cpuAccess) {
-    if (cpuAccess) {
+  /**
+   * Moves the character in the TX register to the host queue, if there is room for it,
+   * which empties the TX register.
+   */
+  private void transmitToHost() {
+    if (!txEmpty && txQueue.offer(txChar)) {
       txEmpty = true;
 
       if (transmitIrqEnabled) {
@@ -128,27 +342,6 @@ public class Acia6850 extends MemoryMappedChip {
         cpu.signalIRQ(true);
       }
     }
-    return txChar;
-  }
-
-  public synchronized void txWrite(int data) {
-    lastTxWrite = System.nanoTime();
-    txChar = data;
-    txEmpty = false;
-  }
-
-  /**
-   * @return true if there is character data in the TX register.
-   */
-  public boolean hasTxChar() {
-    return !txEmpty;
-  }
-
-  /**
-   * @return true if there is character data in the RX register.
-   */
-  public boolean hasRxChar() {
-    return rxFull;
   }
 
   private void setCommandRegister(int data) {
@@ -168,11 +361,15 @@ public class Acia6850 extends MemoryMappedChip {
    */
   public int statusReg(boolean cpuAccess) {
     // TODO: Parity Error, Framing Error, DTR, and DSR flags.
+    receiveFromHost();
+    transmitToHost();
+    
     int stat = 0;
-    if (rxFull && System.nanoTime() >= (lastRxRead + baudRateDelay)) {
+    long cycle = cpu.getCycleCount();
+    if (rxFull && cycle >= (lastRxRead + baudRateDelay)) {
       stat |= 0x01;
     }
-    if (txEmpty && System.nanoTime() >= (lastTxWrite + baudRateDelay)) {
+    if (txEmpty && cycle >= (lastTxWrite + baudRateDelay)) {
       stat |= 0x02;
     }
     if (overrun) {
@@ -189,13 +386,37 @@ public class Acia6850 extends MemoryMappedChip {
     return stat;
   }
 
-  private synchronized void reset() {
+  private void reset() {
     overrun = false;
     rxFull = false;
     txEmpty = true;
     interrupt = false;
   }
 
+  /**
+   * Reading the receive data register clears the receive full and overrun flags.
+   * 
+   * @return true
+   */
+  @Override
+  public boolean hasReadSideEffects() {
+    return true;
+  }
+
+  /**
+   * The status register depends on the cycle count, through the baud rate delays, and on
+   * characters queued by the host, none of which is covered by an event. The receive data
+   * register only changes when the status register is read.
+   * 
+   * @param address The address of the register.
+   * 
+   * @return false for the status register, otherwise true.
+   */
+  @Override
+  public boolean isReadStable(int address) {
+    return ((address & 0x0001) != STAT_REG);
+  }
+
   @Override
   public int readMemory(int address) {
     switch (address & 0x0001) {
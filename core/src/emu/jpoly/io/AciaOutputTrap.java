@@ -0,0 +1,78 @@
+package emu.jpoly.io;
+
+import emu.jpoly.cpu.Cpu6809;
+import emu.jpoly.cpu.RomTrap;
+
+/**
+ * A ROM trap for the character output routine that Extended BASIC uses on Grant Searle's
+ * Simple6809 to send the character in A to the ACIA. The routine waits for the transmit
+ * register to be empty and then writes the character to it:
+ *
+ * <pre>
+ * TXCHAR  PSHS  B           ; 6 cycles
+ * TXWAIT  LDB   ACIASTAT    ; 5
+ *         BITB  #$02        ; 2
+ *         BEQ   TXWAIT      ; 3
+ *         STA   ACIADATA    ; 5
+ *         PULS  B,PC        ; 8
+ * </pre>
+ *
+ * The trap only handles calls where the ACIA is ready to transmit straight away, which
+ * takes 29 cycles. If it has to wait, the trap declines and the ROM code polls the status
+ * register as normal, so that the baud rate delay is still counted in CPU cycles. The
+ * character reaches the ACIA 16 cycles earlier than the STA would have written it, which
+ * brings the next character's baud rate delay forward by the same amount.
+ *
+ * @author Lance Ewing
+ */
+public class AciaOutputTrap implements RomTrap {
+
+  /**
+   * The number of cycles that the routine takes when it doesn't have to wait.
+   */
+  private static final int CYCLES = 29;
+
+  /**
+   * The ACIA that the routine writes to.
+   */
+  private Acia6850 acia;
+
+  /**
+   * The address of the ACIA's status register, as the routine uses it. The data register
+   * is at the next address.
+   */
+  private int statusAddress;
+
+  /**
+   * Constructor for AciaOutputTrap.
+   *
+   * @param acia The ACIA that the routine writes to.
+   * @param statusAddress The address of the ACIA's status register.
+   */
+  public AciaOutputTrap(Acia6850 acia, int statusAddress) {
+    this.acia = acia;
+    this.statusAddress = statusAddress;
+  }
+
+  public int execute(Cpu6809 cpu) {
+    if ((acia.statusReg(false) & 0x02) == 0) {
+      return 0;
+    }
+
+    // The PSHS B leaves B below the return address, and the LDB's read of the status
+    // register clears the interrupt flag.
+    int stackPointer = cpu.getStackPointer();
+    cpu.write((stackPointer - 1) & 0xFFFF, cpu.getAccumulatorB());
+    cpu.fetch(statusAddress);
+
+    int a = cpu.getAccumulatorA();
+    cpu.write(statusAddress + 1, a);
+    cpu.setNegativeFlag((a & 0x80) != 0);
+    cpu.setZeroFlag(a == 0);
+    cpu.setOverflowFlag(false);
+
+    cpu.setProgramCounter(cpu.fetchWord(stackPointer));
+    cpu.setStackPointer((stackPointer + 2) & 0xFFFF);
+    return CYCLES;
+  }
+}
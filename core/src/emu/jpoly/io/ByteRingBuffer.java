@@ -0,0 +1,159 @@
+package emu.jpoly.io;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded queue of bytes for passing data from one thread to one other thread, for
+ * example from the host's keyboard handling to the emulation thread. Neither side ever
+ * blocks or takes a lock. An offer to a full queue, or a poll of an empty one, simply
+ * fails, leaving the caller to decide what to do.
+ * 
+ * Exactly one thread may call the offer methods, and exactly one thread may call the poll
+ * methods. The two can be the same thread.
+ * 
+ * @author Lance Ewing
+ */
+public class ByteRingBuffer {
+
+  private final byte[] buffer;
+  private final int mask;
+
+  /**
+   * The total number of bytes that have been polled. Only the consumer writes this.
+   */
+  private final AtomicLong head = new AtomicLong();
+
+  /**
+   * The total number of bytes that have been offered. Only the producer writes this.
+   */
+  private final AtomicLong tail = new AtomicLong();
+
+  /**
+   * The producer's last view of the head, which saves reading the volatile head on every
+   * offer when there is plenty of space.
+   */
+  private long producerHead;
+
+  /**
+   * The consumer's last view of the tail, which saves reading the volatile tail on every
+   * poll when there is plenty of data.
+   */
+  private long consumerTail;
+
+  /**
+   * Constructor for ByteRingBuffer.
+   * 
+   * @param capacity The maximum number of bytes in the queue. This must be a power of two.
+   */
+  public ByteRingBuffer(int capacity) {
+    if ((capacity <= 0) || ((capacity & (capacity - 1)) != 0)) {
+      throw new IllegalArgumentException("Capacity must be a power of two.");
+    }
+    this.buffer = new byte[capacity];
+    this.mask = capacity - 1;
+  }
+
+  /**
+   * Adds a byte to the end of the queue, if there is room. Producer only.
+   * 
+   * @param value The byte to add.
+   * 
+   * @return true if the byte was added; false if the queue was full.
+   */
+  public boolean offer(int value) {
+    long currentTail = tail.get();
+    if ((currentTail - producerHead) == buffer.length) {
+      producerHead = head.get();
+      if ((currentTail - producerHead) == buffer.length) {
+        return false;
+      }
+    }
+    buffer[(int)currentTail & mask] = (byte)value;
+    tail.lazySet(currentTail + 1);
+    return true;
+  }
+
+  /**
+   * Adds as many of the given bytes to the end of the queue as there is room for. 
+   * Producer only.
+   * 
+   * @param data The array holding the bytes to add.
+   * @param offset The index of the first byte to add.
+   * @param length The number of bytes to add.
+   * 
+   * @return The number of bytes that were added, which is less than length if the queue
+   *     filled up.
+   */
+  public int offer(byte[] data, int offset, int length) {
+    long currentTail = tail.get();
+    producerHead = head.get();
+    int count = Math.min(length, buffer.length - (int)(currentTail - producerHead));
+    for (int i = 0; i < count; i++) {
+      buffer[(int)(currentTail + i) & mask] = data[offset + i];
+    }
+    tail.lazySet(currentTail + count);
+    return count;
+  }
+
+  /**
+   * Removes the byte at the front of the queue. Consumer only.
+   * 
+   * @return The byte, from 0 to 255, or -1 if the queue was empty.
+   */
+  public int poll() {
+    long currentHead = head.get();
+    if (currentHead == consumerTail) {
+      consumerTail = tail.get();
+      if (currentHead == consumerTail) {
+        return -1;
+      }
+    }
+    int value = buffer[(int)currentHead & mask] & 0xFF;
+    head.lazySet(currentHead + 1);
+    return value;
+  }
+
+  /**
+   * Gets the byte at the front of the queue without removing it. Consumer only.
+   * 
+   * @return The byte, from 0 to 255, or -1 if the queue is empty.
+   */
+  public int peek() {
+    long currentHead = head.get();
+    if (currentHead == consumerTail) {
+      consumerTail = tail.get();
+      if (currentHead == consumerTail) {
+        return -1;
+      }
+    }
+    return buffer[(int)currentHead & mask] & 0xFF;
+  }
+
+  /**
+   * Removes up to the given number of bytes from the front of the queue. Consumer only.
+   * 
+   * @param data The array to copy the bytes into.
+   * @param offset The index in the array of where to put the first byte.
+   * @param length The maximum number of bytes to remove.
+   * 
+   * @return The number of bytes that were removed, which is 0 if the queue was empty.
+   */
+  public int poll(byte[] data, int offset, int length) {
+    long currentHead = head.get();
+    consumerTail = tail.get();
+    int count = Math.min(length, (int)(consumerTail - currentHead));
+    for (int i = 0; i < count; i++) {
+      data[offset + i] = buffer[(int)(currentHead + i) & mask];
+    }
+    head.lazySet(currentHead + count);
+    return count;
+  }
+
+  /**
+   * @return true if the queue is empty. Either thread may call this, but from the
+   *     producer's point of view the answer may already be out of date.
+   */
+  public boolean isEmpty() {
+    return head.get() == tail.get();
+  }
+}
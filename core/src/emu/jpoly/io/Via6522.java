@@ -1,14 +1,24 @@
 package emu.jpoly.io;
 
-import emu.jpoly.cpu.Cpu6809SingleCycle;
+import emu.jpoly.ScheduledChip;
+import emu.jpoly.Scheduler;
+import emu.jpoly.cpu.Cpu6809;
 import emu.jpoly.memory.MemoryMappedChip;
 
 /**
  * This class emulates a 6522 VIA IO/timer chip.
  * 
+ * The VIA can be driven in one of two ways. By default, emulateCycle is expected to be
+ * called every cycle, and it counts the timers down one cycle at a time. Alternatively,
+ * if a Scheduler is set, then emulateCycle isn't called at all. The VIA instead works out
+ * the cycle at which the next timer interrupt is due and schedules an event for it, and
+ * the counter values are only brought up to date when they are needed, i.e. when a VIA
+ * register is accessed or the event is handled. The interrupts happen on exactly the
+ * same cycles either way.
+ * 
  * @author Lance Ewing
  */
-public class Via6522 extends MemoryMappedChip {
+public class Via6522 extends MemoryMappedChip implements ScheduledChip {
 
   // Constants for the 16 internal memory mapped registers.
   private static final int VIA_REG_0 = 0;
@@ -154,14 +164,25 @@ public class Via6522 extends MemoryMappedChip {
   /**
    * The CPU that is connected to the VIA. This is where the VIA IRQ signals will be sent.
    */
-  private Cpu6809SingleCycle cpu6809;
+  private Cpu6809 cpu6809;
+  
+  /**
+   * The Scheduler that drives the timers, or null if emulateCycle is called every cycle.
+   */
+  private Scheduler scheduler;
+  
+  /**
+   * When driven by a Scheduler, the cycle that the timers have been brought up to, i.e.
+   * the state of the timers is what it would be after that many calls to emulateCycle.
+   */
+  private long timersCycle;
   
   /**
    * Constructor for Via6522.
    * 
    * @param cpu6809 The CPU that the VIA is connected to. This is where VIA IRQ signals will be sent.
    */
-  public Via6522(Cpu6809SingleCycle cpu6809) {
+  public Via6522(Cpu6809 cpu6809) {
     this.autoResetIrq = true;
     this.cpu6809 = cpu6809;
   }
@@ -173,6 +194,10 @@ public class Via6522 extends MemoryMappedChip {
    * @param value The byte to write into the address.
    */
   public void writeMemory(int address, int value) {
+    if (scheduler != null) {
+      updateTimers(scheduler.getCurrentCycle());
+    }
+    
     switch (address & 0x000F) {
       case VIA_REG_0: // ORB/IRB
         outputRegisterB = value;
@@ -372,12 +397,52 @@ public class Via6522 extends MemoryMappedChip {
         updatePortAPins();
         break;
       }
+    
+    if (scheduler != null) {
+      scheduleNextEvent();
+    }
   }
   
   // 
   private static final int PORTB_INPUT_LATCHING = 0x02;
   private static final int PORTA_INPUT_LATCHING = 0x01;
 
+  /**
+   * Reading the VIA's registers can clear interrupt flags and latched port values, so
+   * even reads whose value is thrown away have to be passed on.
+   * 
+   * @return true
+   */
+  public boolean hasReadSideEffects() {
+    return true;
+  }
+
+  /**
+   * The timer counters count down on every cycle, so their values can change without an
+   * event. When a Scheduler drives the timers, the other registers only change when written
+   * or when a timer event is handled. Without one, the VIA is stepped every cycle between
+   * bursts, so none of its registers are stable.
+   * 
+   * @param address The address of the register.
+   * 
+   * @return false for the timer counters, or for any register if there is no Scheduler,
+   *         otherwise true.
+   */
+  public boolean isReadStable(int address) {
+    if (scheduler == null) {
+      return false;
+    }
+    switch (address & 0x000F) {
+      case VIA_REG_4:
+      case VIA_REG_5:
+      case VIA_REG_8:
+      case VIA_REG_9:
+        return false;
+      default:
+        return true;
+    }
+  }
+
   /**
    * Reads a value from one of the 16 VIA registers.
    * 
@@ -385,6 +450,10 @@ public class Via6522 extends MemoryMappedChip {
    */
   public int readMemory(int address) {
     int value = 0;
+    
+    if (scheduler != null) {
+      updateTimers(scheduler.getCurrentCycle());
+    }
 
     switch (address & 0x000F) {
       case VIA_REG_0: // ORB/IRB
@@ -659,6 +728,122 @@ public class Via6522 extends MemoryMappedChip {
     }
   }
   
+  /**
+   * Sets the Scheduler that is to drive the VIA's timers, in which case emulateCycle
+   * should no longer be called. Setting it to null goes back to emulateCycle being
+   * called every cycle.
+   * 
+   * @param scheduler The Scheduler to use, or null.
+   */
+  public void setScheduler(Scheduler scheduler) {
+    if (this.scheduler != null) {
+      this.scheduler.cancel(this);
+    }
+    this.scheduler = scheduler;
+    if (scheduler != null) {
+      timersCycle = scheduler.getCurrentCycle();
+      scheduleNextEvent();
+    }
+  }
+  
+  /**
+   * Invoked by the Scheduler when a timer interrupt is due.
+   * 
+   * @param cycle The cycle that the interrupt was scheduled for.
+   */
+  public void handleEvent(long cycle) {
+    updateTimers(cycle);
+    scheduleNextEvent();
+  }
+  
+  /**
+   * Brings the timers up to the given cycle, in one step, leaving them in the state that 
+   * they would be in if emulateCycle had been called for each of the cycles in between.
+   * 
+   * @param cycle The cycle to bring the timers up to.
+   */
+  private void updateTimers(long cycle) {
+    long elapsed = cycle - timersCycle;
+    if (elapsed <= 0) {
+      return;
+    }
+    timersCycle = cycle;
+    
+    // Timer 1
+    long timer1Cycles = elapsed;
+    if (timer1Loaded) {
+      timer1Loaded = false;
+      timer1Cycles--;
+    }
+    if (timer1Cycles > 0) {
+      long cyclesToInterrupt = timer1CyclesToInterrupt();
+      if (timer1Mode == ONE_SHOT) {
+        timer1Counter = (int)((timer1Counter - timer1Cycles) & 0xFFFF);
+        if (!timer1HasShot && (timer1Cycles >= cyclesToInterrupt)) {
+          interruptFlagRegister |= TIMER1_SET;
+          updateIFRTopBit();
+          timer1HasShot = true;
+        }
+      } else if (timer1Cycles < cyclesToInterrupt) {
+        timer1Counter = (int)((timer1Counter - timer1Cycles) & 0xFFFF);
+      } else {
+        // Reloaded from the latch on the interrupt cycle, and then every latch + 2 cycles.
+        long cyclesSinceReload = (timer1Cycles - cyclesToInterrupt) % (timer1Latch + 2);
+        timer1Counter = (int)((timer1Latch - cyclesSinceReload) & 0xFFFF);
+        interruptFlagRegister |= TIMER1_SET;
+        updateIFRTopBit();
+        timer1HasShot = true;
+      }
+    }
+    
+    // Timer 2
+    long timer2Cycles = elapsed;
+    if (timer2Loaded) {
+      timer2Loaded = false;
+      timer2Cycles--;
+    }
+    if ((timer2Cycles > 0) && (timer2Mode == ONE_SHOT)) {
+      if (!timer2HasShot && (timer2Cycles > timer2Counter)) {
+        interruptFlagRegister |= TIMER2_SET;
+        updateIFRTopBit();
+        timer2HasShot = true;
+      }
+      timer2Counter = (int)((timer2Counter - timer2Cycles) & 0xFFFF);
+    }
+  }
+  
+  /**
+   * Gets the number of cycles, not counting a cycle where the timer has just been loaded,
+   * until timer 1 next sets its interrupt flag, i.e. until the cycle that starts with the
+   * counter at 0xFFFF.
+   * 
+   * @return The number of cycles until timer 1 next interrupts.
+   */
+  private long timer1CyclesToInterrupt() {
+    return ((timer1Counter + 1) & 0xFFFF) + 1;
+  }
+  
+  /**
+   * Schedules an event for the cycle of the next timer interrupt, or cancels the event if
+   * neither timer is going to interrupt.
+   */
+  private void scheduleNextEvent() {
+    long nextEventCycle = Long.MAX_VALUE;
+    
+    if (!timer1HasShot || (timer1Mode != ONE_SHOT)) {
+      nextEventCycle = timersCycle + (timer1Loaded ? 1 : 0) + timer1CyclesToInterrupt();
+    }
+    if (!timer2HasShot && (timer2Mode == ONE_SHOT)) {
+      nextEventCycle = Math.min(nextEventCycle, timersCycle + (timer2Loaded ? 1 : 0) + timer2Counter + 1);
+    }
+    
+    if (nextEventCycle == Long.MAX_VALUE) {
+      scheduler.cancel(this);
+    } else {
+      scheduler.schedule(this, nextEventCycle);
+    }
+  }
+  
   /**
    * Updates the state of the Port A pins based on the current values of the 
    * ORA and DDRA.
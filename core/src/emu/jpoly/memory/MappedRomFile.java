@@ -0,0 +1,58 @@
+package emu.jpoly.memory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A ROM image file that is mapped read only into memory, rather than read into an array,
+ * so that the image isn't copied onto the heap. The file is mapped on the first call to
+ * getData, and every RomChip created from the same MappedRomFile shares that mapping.
+ *
+ * @author Lance Ewing
+ */
+public class MappedRomFile implements RomSource {
+
+  /**
+   * The ROM image file.
+   */
+  private File file;
+
+  /**
+   * The mapping of the file, or null if it hasn't been mapped yet.
+   */
+  private MappedByteBuffer mapping;
+
+  /**
+   * Constructor for MappedRomFile.
+   *
+   * @param file The ROM image file.
+   */
+  public MappedRomFile(File file) {
+    this.file = file;
+  }
+
+  /**
+   * Gets the ROM image, mapping the file if this is the first call. The mapping stays
+   * valid after the file is closed.
+   *
+   * @return The mapped ROM image.
+   *
+   * @throws IOException If the file couldn't be opened or mapped.
+   */
+  public synchronized ByteBuffer getData() throws IOException {
+    if (mapping == null) {
+      RandomAccessFile romFile = new RandomAccessFile(file, "r");
+      try {
+        FileChannel channel = romFile.getChannel();
+        mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      } finally {
+        romFile.close();
+      }
+    }
+    return mapping.duplicate();
+  }
+}
@@ -1,8 +1,10 @@
 package emu.jpoly.memory;
 
-import com.badlogic.gdx.Gdx;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 
-import emu.jpoly.cpu.Cpu6809SingleCycle;
+import emu.jpoly.cpu.Cpu6809;
 import emu.jpoly.io.Acia6850;
 import emu.jpoly.io.Via6522;
 
@@ -14,16 +16,64 @@ import emu.jpoly.io.Via6522;
 public class Memory {
 
   /**
-   * Holds an array of references to instances of MemoryMappedChip where each
-   * instance determines the behaviour of reading or writing to the given memory
-   * address.
+   * The chip mapped into each 256 byte page of memory. This is null for a page that has
+   * more than one chip mapped into it, in which case mixedPageChips holds the chip for
+   * each address in the page.
    */
-  private MemoryMappedChip memoryMap[];
+  private MemoryMappedChip[] pageChips;
+
+  /**
+   * For the pages that have more than one chip mapped into them, the chip mapped at each
+   * address in the page. Null for the other pages.
+   */
+  private MemoryMappedChip[][] mixedPageChips;
+
+  /**
+   * For each page whose chip can be read directly, the chip's memory array. Null for the
+   * pages that have to be read by calling the chip's readMemory method, such as IO pages.
+   */
+  private byte[][] readablePages;
+
+  /**
+   * For each page whose chip can be written directly, the chip's memory array. Null for the
+   * pages that have to be written by calling the chip's writeMemory method.
+   */
+  private byte[][] writablePages;
+
+  /**
+   * For each page that can be read or written directly, the index in the chip's memory
+   * array that the start of the page maps to.
+   */
+  private int[] pageOffsets;
+
+  /**
+   * For each page, whether a dummy read from it, i.e. a read whose value the CPU throws
+   * away, still has to be passed on to the chip. This is only false for pages where reading
+   * has no side effects, and only when dummy reads are being elided.
+   */
+  private boolean[] dummyReadPages;
+
+  /**
+   * Whether dummy reads from pages without read side effects are skipped.
+   */
+  private boolean elideDummyReads;
+
+  /**
+   * The page tables of the memory maps that have been set up, indexed by map number. The
+   * page table fields above refer to the arrays of the current memory map, so switching
+   * maps only has to swap those references rather than remap any addresses.
+   */
+  private PageTable[] memoryMaps;
+
+  /**
+   * The number of the memory map currently in use.
+   */
+  private int currentMap;
   
   /**
    * The Cpu6809 that will be accessing this Memory.
    */
-  private Cpu6809SingleCycle cpu;
+  private Cpu6809 cpu;
   
   /**
    * Constructor for Memory. Mainly available for unit testing.
@@ -31,8 +81,10 @@ public class Memory {
    * @param cpu The CPU that will access this Memory.
    * @param allRam true if memory should be initialised to all RAM; otherwise false.
    */
-  public Memory(Cpu6809SingleCycle cpu, boolean allRam) {
-    this.memoryMap = new MemoryMappedChip[65536];
+  public Memory(Cpu6809 cpu, boolean allRam) {
+    this.memoryMaps = new PageTable[] { new PageTable() };
+    this.currentMap = 0;
+    usePageTable(memoryMaps[0]);
     this.cpu = cpu;
     cpu.setMemory(this);
     if (allRam) {
@@ -45,7 +97,7 @@ public class Memory {
    * 
    * @param cpu The CPU that will access this Memory.
    */
-  public Memory(Cpu6809SingleCycle cpu) {
+  public Memory(Cpu6809 cpu) {
     this(cpu, false);
     initPolyMemory();
   }
@@ -56,8 +108,16 @@ public class Memory {
    * new 6809 emulation. Check out Grant's Simple6809 web page here:
    * 
    * http://searle.hostei.com/grant/6809/Simple6809.html
+   * 
+   * The ROM image is read from the given source, which the launcher provides, so that the
+   * memory can be set up without libGDX.
+   * 
+   * @param acia The ACIA for the serial interface.
+   * @param romSource The source of the 16K ROM image, i.e. Extended BASIC.
+   * 
+   * @throws IOException If the ROM image couldn't be read.
    */
-  public void initGrantSearleSimple6809Memory(Acia6850 acia) {
+  public void initGrantSearleSimple6809Memory(Acia6850 acia, RomSource romSource) throws IOException {
     //    0000-7FFF 32K RAM (A15 == 0)
     mapChipToMemory(new RamChip(0x8000), 0x0000, 0x7FFF);
     
@@ -68,13 +128,19 @@ public class Memory {
     mapChipToMemory(acia, 0xA000, 0xBFFF);
     
     //    C000-FFFF 16K ROM (BASIC from DB00 TO FFFF, so a large amount of free space suitable for a monitor etc) (A14 == 1 && A15 == 1)
-    mapChipToMemory(new RomChip(convertByteArrayToIntArray(Gdx.files.internal("roms/ExBasROM.bin").readBytes())), 0xC000, 0xFFFF);
+    mapChipToMemory(createRomChip(romSource), 0xC000, 0xFFFF);
   }
   
   /**
-   * Initialises the memory map for Vectrex emulation.
+   * Initialises the memory map for Vectrex emulation. The system ROM image is read from the
+   * given source, which the launcher provides.
+   * 
+   * @param via The VIA that the Vectrex's hardware is attached to.
+   * @param romSource The source of the 8K system ROM image.
+   * 
+   * @throws IOException If the ROM image couldn't be read.
    */
-  public void initVectrexMemory(Via6522 via) {
+  public void initVectrexMemory(Via6522 via, RomSource romSource) throws IOException {
     // 0000-7fff Cartridge ROM Space. Without a cartridge, it is unconnected.
     mapChipToMemory(new UnconnectedMemory(), 0x0000, 0x7FFF);
 
@@ -82,7 +148,7 @@ public class Memory {
     mapChipToMemory(new UnconnectedMemory(), 0x8000, 0xC7FF);
 
     // C800-CFFF Vectrex RAM Space 1Kx8, shadowed twice. (r/w)
-    RamChip ram = new RamChip(0x0400);
+    RamChip ram = new RamChip(0x0400, 0x03FF);
     mapChipToMemory(ram, 0xC800, 0xCFFF);
     
     // D000-D7FF 6522 VIA shadowed 128 times (r/w)
@@ -96,34 +162,76 @@ public class Memory {
     // E000-FFFF System ROM Space 8Kx8 (r/w)
     // E000-EFFF is ROM, the built in game MINE STORM.
     // F000-FFFF Executive (power-up / reset handler and a large selection of subroutines for drawing, calculation, game logic and / or hardware maintenance)
-    mapChipToMemory(new RomChip(convertByteArrayToIntArray(Gdx.files.internal("roms/vectrex_rom.bin").readBytes())), 0xE000, 0xFFFF);
+    mapChipToMemory(createRomChip(romSource), 0xE000, 0xFFFF);
   }
   
   /**
    * Initialise the Poly's memory.
    */
   public void initPolyMemory() {
-
-    
   }
   
   /**
-   * Converts a byte array into an int array.
+   * Creates a new memory map that starts out as a copy of the current one. The new map can
+   * then be set up by selecting it and mapping chips into it.
    * 
-   * @param data The byte array to convert.
+   * @return The number of the new memory map.
+   */
+  public int createMemoryMap() {
+    PageTable[] newMaps = new PageTable[memoryMaps.length + 1];
+    System.arraycopy(memoryMaps, 0, newMaps, 0, memoryMaps.length);
+    newMaps[memoryMaps.length] = new PageTable(memoryMaps[currentMap]);
+    memoryMaps = newMaps;
+    return memoryMaps.length - 1;
+  }
+  
+  /**
+   * Switches to the given memory map. This only swaps the page table references, so it
+   * takes the same time however much of memory the switch changes. The CPU is told about
+   * each page that has a different chip in the new map.
    * 
-   * @return The int array.
+   * @param map The number of the memory map to switch to.
    */
-  private int[] convertByteArrayToIntArray(byte[] data) {
-    int[] convertedData = new int[data.length];
-    for (int i=0; i<data.length; i++) {
-      convertedData[i] = ((int)data[i]) & 0xFF;
+  public void selectMemoryMap(int map) {
+    if (map == currentMap) {
+      return;
     }
-    return convertedData;
+    MemoryMappedChip[] oldPageChips = pageChips;
+    MemoryMappedChip[][] oldMixedPageChips = mixedPageChips;
+    usePageTable(memoryMaps[map]);
+    currentMap = map;
+    for (int page = 0; page < 256; page++) {
+      if ((pageChips[page] != oldPageChips[page]) || (mixedPageChips[page] != oldMixedPageChips[page])) {
+        cpu.pageRemapped(page);
+      }
+    }
+  }
+  
+  /**
+   * Gets the number of the memory map currently in use.
+   * 
+   * @return The number of the current memory map.
+   */
+  public int getCurrentMemoryMap() {
+    return currentMap;
+  }
+  
+  /**
+   * Points the page table fields at the arrays of the given page table.
+   * 
+   * @param pageTable The page table of the memory map to use.
+   */
+  private void usePageTable(PageTable pageTable) {
+    pageChips = pageTable.pageChips;
+    mixedPageChips = pageTable.mixedPageChips;
+    readablePages = pageTable.readablePages;
+    writablePages = pageTable.writablePages;
+    pageOffsets = pageTable.pageOffsets;
+    dummyReadPages = pageTable.dummyReadPages;
   }
   
   /**
-   * Maps the given chip instance at the given add.lengthress range.
+   * Maps the given chip instance at the given address range.
    * 
    * @param chip The chip to map at the given address range.
    * @param startAddress The start of the address range.
@@ -131,12 +239,148 @@ public class Memory {
    */
   public void mapChipToMemory(MemoryMappedChip chip, int startAddress, int endAddress) {
     // Configure the chip into the memory map between the given start and end addresses.
-    for (int i = startAddress; i <= endAddress; i++) {
-      memoryMap[i] = chip;
+    for (int page = startAddress >> 8; page <= (endAddress >> 8); page++) {
+      int pageStart = page << 8;
+      int pageEnd = pageStart + 0xFF;
+      if ((startAddress <= pageStart) && (endAddress >= pageEnd)) {
+        // The whole page belongs to the chip.
+        pageChips[page] = chip;
+        mixedPageChips[page] = null;
+      } else {
+        // Only part of the page belongs to the chip, so it is mapped address by address. The
+        // array is always replaced rather than updated, as other memory maps may share it.
+        MemoryMappedChip[] chips = new MemoryMappedChip[256];
+        for (int i = 0; i < 256; i++) {
+          chips[i] = (mixedPageChips[page] != null ? mixedPageChips[page][i] : pageChips[page]);
+        }
+        for (int address = Math.max(startAddress, pageStart); address <= Math.min(endAddress, pageEnd); address++) {
+          chips[address & 0xFF] = chip;
+        }
+        mixedPageChips[page] = chips;
+        pageChips[page] = null;
+      }
+      updateDirectAccess(page);
+      cpu.pageRemapped(page);
     }
 
     chip.setMemory(this);
   }
+
+  /**
+   * Works out whether the given page can be read and written directly, i.e. whether it
+   * belongs entirely to a chip that exposes its memory array, and that array lines up
+   * with the page.
+   * 
+   * @param page The page number.
+   */
+  private void updateDirectAccess(int page) {
+    MemoryMappedChip chip = pageChips[page];
+    byte[] readable = null;
+    byte[] writable = null;
+    
+    // A page can only be accessed directly if the chip decodes all of the bottom eight
+    // address lines, so that the page maps to a contiguous run of the chip's array.
+    if ((chip != null) && ((chip.getAddressMask() & 0xFF) == 0xFF)) {
+      readable = chip.getReadableMemory();
+      writable = chip.getWritableMemory();
+      pageOffsets[page] = (page << 8) & chip.getAddressMask();
+    }
+    
+    readablePages[page] = readable;
+    writablePages[page] = writable;
+    
+    dummyReadPages[page] = !elideDummyReads || hasReadSideEffects(page);
+  }
+
+  /**
+   * Works out again whether the pages that the given chip is mapped into, in any of the
+   * memory maps, can be read and written directly. A chip calls this when the arrays it
+   * returns from getReadableMemory or getWritableMemory change.
+   * 
+   * @param chip The chip.
+   */
+  public void updateDirectAccess(MemoryMappedChip chip) {
+    int map = currentMap;
+    for (int i = 0; i < memoryMaps.length; i++) {
+      usePageTable(memoryMaps[i]);
+      for (int page = 0; page < 256; page++) {
+        if (pageChips[page] == chip) {
+          updateDirectAccess(page);
+        }
+      }
+    }
+    usePageTable(memoryMaps[map]);
+  }
+
+  /**
+   * Checks whether reading from any of the chips mapped into the given page has side
+   * effects.
+   * 
+   * @param page The page number.
+   * 
+   * @return true if a read from the page might have side effects.
+   */
+  private boolean hasReadSideEffects(int page) {
+    MemoryMappedChip chip = pageChips[page];
+    if (chip != null) {
+      return chip.hasReadSideEffects();
+    }
+    MemoryMappedChip[] chips = mixedPageChips[page];
+    if (chips != null) {
+      for (int i = 0; i < chips.length; i++) {
+        if ((chips[i] != null) && chips[i].hasReadSideEffects()) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Sets whether dummy reads, i.e. the bus cycles where the CPU reads a value only to throw
+   * it away, are skipped for addresses where reading has no side effects. The cycle counts
+   * are the same either way. This is off by default, so that every bus cycle is seen.
+   * 
+   * @param elideDummyReads true to skip dummy reads that have no side effects.
+   */
+  public void setElideDummyReads(boolean elideDummyReads) {
+    this.elideDummyReads = elideDummyReads;
+    int map = currentMap;
+    for (int i = 0; i < memoryMaps.length; i++) {
+      usePageTable(memoryMaps[i]);
+      for (int page = 0; page < 256; page++) {
+        updateDirectAccess(page);
+      }
+    }
+    usePageTable(memoryMaps[map]);
+  }
+
+  /**
+   * Checks whether the value read from the given address can only change when memory is
+   * written or a chip event is handled.
+   * 
+   * @param address The address to check.
+   * 
+   * @return true if the value read from the address can't change in between.
+   */
+  public boolean isReadStable(int address) {
+    if (readablePages[address >> 8] != null) {
+      return true;
+    }
+    return getChip(address).isReadStable(address);
+  }
+
+  /**
+   * Checks whether a dummy read from the given address has to be performed, either because
+   * dummy reads are not being elided or because reading the address has side effects.
+   * 
+   * @param address The address of the dummy read.
+   * 
+   * @return true if the dummy read has to be performed.
+   */
+  public boolean isDummyReadNeeded(int address) {
+    return dummyReadPages[address >> 8];
+  }
   
   /**
    * Loads a ROM file from the given byte array at the given memory address.
@@ -144,36 +388,259 @@ public class Memory {
    * @param romData The byte array containing the ROM program data to load.
    */
   public void loadCustomRom(int address, byte[] romData) {
-    mapChipToMemory(new RomChip(convertByteArrayToIntArray(romData)), address, address + (romData.length - 1));
+    mapChipToMemory(new RomChip(romData), address, address + (romData.length - 1));
   }
 
   /**
-   * Gets the array of memory mapped devices. 
+   * Loads a ROM image, such as a cartridge, from the given source at the given memory
+   * address. An image in a mapped file isn't copied, so a MappedRomFile can be shared by
+   * many machines without each of them having the image on the heap, but the CPU then
+   * reads it through the RomChip rather than directly. See RomChip(ByteBuffer).
+   * 
+   * @param address The address to load the ROM at.
+   * @param romSource The source of the ROM image.
+   * 
+   * @throws IOException If the ROM image couldn't be read.
+   */
+  public void loadCustomRom(int address, RomSource romSource) throws IOException {
+    ByteBuffer romData = romSource.getData();
+    mapChipToMemory(new RomChip(romData), address, address + (romData.limit() - 1));
+  }
+
+  /**
+   * Creates a RomChip for a system ROM read from the given source. An image that is held
+   * in an array is loaded into the shared copy from RomImages, so that every machine with
+   * that ROM reads it directly from the same array. Any other image is passed on to
+   * RomChip(ByteBuffer).
+   * 
+   * @param romSource The source of the ROM image.
+   * 
+   * @return The RomChip.
+   * 
+   * @throws IOException If the ROM image couldn't be read.
+   */
+  private RomChip createRomChip(RomSource romSource) throws IOException {
+    ByteBuffer romData = romSource.getData();
+    if (romData.hasArray() && (romData.arrayOffset() == 0) && (romData.limit() == romData.array().length)) {
+      return new RomChip(RomImages.share(romData.array()));
+    } else {
+      return new RomChip(romData);
+    }
+  }
+
+  /**
+   * Gets the array of memory mapped devices, i.e. the chip mapped at each of the 65536
+   * addresses. This is built on each call, so it is a snapshot of the memory map at the
+   * time of the call. It isn't used for memory accesses, which go through the page table.
    * 
    * @return The array of memory mapped devices.
    */
   public MemoryMappedChip[] getMemoryMap() {
+    MemoryMappedChip[] memoryMap = new MemoryMappedChip[65536];
+    for (int address = 0; address < 65536; address++) {
+      memoryMap[address] = getChip(address);
+    }
     return memoryMap;
   }
   
   /**
-   * Reads the value of the given Oric memory address.
+   * Gets the chip that is mapped at the given address.
+   * 
+   * @param address The address.
+   * 
+   * @return The chip mapped at that address.
+   */
+  private MemoryMappedChip getChip(int address) {
+    MemoryMappedChip chip = pageChips[address >> 8];
+    if (chip == null) {
+      MemoryMappedChip[] chips = mixedPageChips[address >> 8];
+      if (chips != null) {
+        chip = chips[address & 0xFF];
+      }
+    }
+    return chip;
+  }
+  
+  /**
+   * Reads the value of the given memory address.
    * 
    * @param address The address to read the byte from.
    * 
    * @return The contents of the memory address.
    */
   public int readMemory(int address) {
-    return (memoryMap[address].readMemory(address));
+    int page = address >> 8;
+    byte[] data = readablePages[page];
+    if (data != null) {
+      return data[pageOffsets[page] + (address & 0xFF)] & 0xFF;
+    }
+    return getChip(address).readMemory(address);
   }
 
   /**
-   * Writes a value to the give Oric memory address.
+   * Reads the value of the given memory address without any side effects, for looking at
+   * memory from outside the emulated machine, e.g. to translate code or to debug. Chips 
+   * whose reads have side effects are not read at all.
+   * 
+   * @param address The address to read the byte from.
+   * 
+   * @return The contents of the memory address, or -1 if it can't be read without side 
+   *     effects.
+   */
+  public int peekMemory(int address) {
+    int page = address >> 8;
+    byte[] data = readablePages[page];
+    if (data != null) {
+      return data[pageOffsets[page] + (address & 0xFF)] & 0xFF;
+    }
+    MemoryMappedChip chip = getChip(address);
+    if ((chip == null) || chip.hasReadSideEffects()) {
+      return -1;
+    }
+    return chip.readMemory(address);
+  }
+
+  /**
+   * Writes a value to the given memory address.
    * 
    * @param address The address to write the value to.
    * @param value The value to write to the given address.
    */
   public void writeMemory(int address, int value) {
-    memoryMap[address].writeMemory(address, value);
+    int page = address >> 8;
+    byte[] data = writablePages[page];
+    if (data != null) {
+      data[pageOffsets[page] + (address & 0xFF)] = (byte)value;
+    } else {
+      getChip(address).writeMemory(address, value);
+    }
+  }
+
+  /**
+   * Reads a block of memory into the given array. Each page is looked up once, and pages
+   * that can be read directly are copied with System.arraycopy. Other pages, such as IO,
+   * are read a byte at a time through their chip, as readMemory would. The block wraps
+   * around from FFFF to 0000.
+   * 
+   * @param address The address of the start of the block.
+   * @param data The array to read the block into.
+   * @param offset The index in the array of the first byte.
+   * @param length The number of bytes to read.
+   */
+  public void readBlock(int address, byte[] data, int offset, int length) {
+    while (length > 0) {
+      address &= 0xFFFF;
+      int page = address >> 8;
+      int count = Math.min(length, 0x100 - (address & 0xFF));
+      byte[] pageData = readablePages[page];
+      if (pageData != null) {
+        System.arraycopy(pageData, pageOffsets[page] + (address & 0xFF), data, offset, count);
+      } else {
+        for (int i = 0; i < count; i++) {
+          data[offset + i] = (byte)getChip(address + i).readMemory(address + i);
+        }
+      }
+      address += count;
+      offset += count;
+      length -= count;
+    }
+  }
+
+  /**
+   * Writes a block of memory from the given array. Each page is looked up once, and pages
+   * that can be written directly are copied with System.arraycopy. Other pages are written
+   * a byte at a time through their chip, as writeMemory would, so writes to ROM are
+   * ignored and writes to IO reach the chip in order. The block wraps around from FFFF to
+   * 0000.
+   * 
+   * @param address The address of the start of the block.
+   * @param data The array holding the block to write.
+   * @param offset The index in the array of the first byte.
+   * @param length The number of bytes to write.
+   */
+  public void writeBlock(int address, byte[] data, int offset, int length) {
+    while (length > 0) {
+      address &= 0xFFFF;
+      int page = address >> 8;
+      int count = Math.min(length, 0x100 - (address & 0xFF));
+      byte[] pageData = writablePages[page];
+      if (pageData != null) {
+        System.arraycopy(data, offset, pageData, pageOffsets[page] + (address & 0xFF), count);
+      } else {
+        for (int i = 0; i < count; i++) {
+          getChip(address + i).writeMemory(address + i, data[offset + i] & 0xFF);
+        }
+      }
+      address += count;
+      offset += count;
+      length -= count;
+    }
+  }
+
+  /**
+   * Writes the same value to every address in a block of memory, in the same way as
+   * writeBlock.
+   * 
+   * @param address The address of the start of the block.
+   * @param length The number of bytes to write.
+   * @param value The value to write.
+   */
+  public void fill(int address, int length, int value) {
+    while (length > 0) {
+      address &= 0xFFFF;
+      int page = address >> 8;
+      int count = Math.min(length, 0x100 - (address & 0xFF));
+      byte[] pageData = writablePages[page];
+      if (pageData != null) {
+        int start = pageOffsets[page] + (address & 0xFF);
+        Arrays.fill(pageData, start, start + count, (byte)value);
+      } else {
+        for (int i = 0; i < count; i++) {
+          getChip(address + i).writeMemory(address + i, value);
+        }
+      }
+      address += count;
+      length -= count;
+    }
+  }
+
+  /**
+   * The arrays that make up the page table of one memory map.
+   */
+  private static class PageTable {
+    
+    MemoryMappedChip[] pageChips;
+    MemoryMappedChip[][] mixedPageChips;
+    byte[][] readablePages;
+    byte[][] writablePages;
+    int[] pageOffsets;
+    boolean[] dummyReadPages;
+    
+    /**
+     * Constructor for an empty PageTable.
+     */
+    PageTable() {
+      pageChips = new MemoryMappedChip[256];
+      mixedPageChips = new MemoryMappedChip[256][];
+      readablePages = new byte[256][];
+      writablePages = new byte[256][];
+      pageOffsets = new int[256];
+      dummyReadPages = new boolean[256];
+    }
+    
+    /**
+     * Constructor for a PageTable that is a copy of another. The arrays of chips for the
+     * mixed pages are shared, since mapChipToMemory never changes them in place.
+     * 
+     * @param other The PageTable to copy.
+     */
+    PageTable(PageTable other) {
+      pageChips = other.pageChips.clone();
+      mixedPageChips = other.mixedPageChips.clone();
+      readablePages = other.readablePages.clone();
+      writablePages = other.writablePages.clone();
+      pageOffsets = other.pageOffsets.clone();
+      dummyReadPages = other.dummyReadPages.clone();
+    }
   }
 }
@@ -26,4 +26,63 @@ public abstract class MemoryMappedChip extends BaseChip {
      * @param value the value to write to the given address.
      */
     public abstract void writeMemory(int address, int value);
+
+    /**
+     * Gets the array that holds this chip's memory, if reads can be served directly from
+     * it rather than by calling readMemory. The array is indexed by the address ANDed with
+     * the chip's address mask. Chips whose reads have side effects, such as IO chips, return
+     * null, which is the default.
+     *
+     * @return the array to read from directly, or null.
+     */
+    public byte[] getReadableMemory() {
+      return null;
+    }
+
+    /**
+     * Gets the array that holds this chip's memory, if writes can go directly into it
+     * rather than by calling writeMemory. The array is indexed in the same way as for
+     * getReadableMemory. Chips whose writes have side effects, or that aren't writable,
+     * return null, which is the default.
+     *
+     * @return the array to write to directly, or null.
+     */
+    public byte[] getWritableMemory() {
+      return null;
+    }
+
+    /**
+     * Gets the mask that is ANDed with an address to give the index into the arrays
+     * returned by getReadableMemory and getWritableMemory. Only meaningful for chips that
+     * return one of those arrays.
+     *
+     * @return the address mask.
+     */
+    public int getAddressMask() {
+      return 0;
+    }
+
+    /**
+     * Checks whether reading from this chip has side effects, such as clearing an interrupt
+     * flag, so that reads whose value is thrown away must still be passed on to it. This is
+     * false by default.
+     *
+     * @return true if reading from this chip has side effects.
+     */
+    public boolean hasReadSideEffects() {
+      return false;
+    }
+
+    /**
+     * Checks whether the value read from the given address can only change when memory is
+     * written or when a chip handles a scheduled event, so that a loop that keeps reading
+     * it can be skipped until then. This is true by default.
+     *
+     * @param address the address that is read.
+     *
+     * @return true if the value can't change in between.
+     */
+    public boolean isReadStable(int address) {
+      return true;
+    }
 }
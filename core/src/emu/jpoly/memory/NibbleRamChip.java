@@ -7,17 +7,20 @@ package emu.jpoly.memory;
  */
 public class NibbleRamChip extends MemoryMappedChip {
 
-  private int size;
-  private int[] mem;
+  private byte[] mem;
+  private int mask;
   
   /**
    * Constructor for NibbleRamChip.
    * 
-   * @param size The size of the RAM chip in nibbles.
+   * @param size The size of the RAM chip in nibbles. This must be a power of two.
    */
   public NibbleRamChip(int size) {
-    this.size = size;
-    this.mem = new int[size];
+    if ((size & (size - 1)) != 0) {
+      throw new IllegalArgumentException("Size must be a power of two.");
+    }
+    this.mem = new byte[size];
+    this.mask = size - 1;
   }
   
   /**
@@ -28,7 +31,7 @@ public class NibbleRamChip extends MemoryMappedChip {
    * @return the contents of the memory address.
    */
   public int readMemory(int address) {
-    return mem[address % size];
+    return mem[address & mask];
   }
 
   /**
@@ -38,6 +41,6 @@ public class NibbleRamChip extends MemoryMappedChip {
    * @param value the value to write to the given address.
    */
   public void writeMemory(int address, int value) {
-    mem[address % size] = (value & 0x0F);
+    mem[address & mask] = (byte)(value & 0x0F);
   }
 }
@@ -51,4 +51,34 @@ public class NotFullyDecodedMemory extends MemoryMappedChip {
       chips[i].writeMemory(address, value);
     }
   }
+
+  /**
+   * Reads have side effects if they do for any of the chips mapped to this memory range.
+   * 
+   * @return true if reading from any of the chips has side effects.
+   */
+  public boolean hasReadSideEffects() {
+    for (int i = 0; i < chips.length; i++) {
+      if (chips[i].hasReadSideEffects()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Reads are only stable if they are for all of the chips mapped to this memory range.
+   * 
+   * @param address The address that is read.
+   * 
+   * @return true if the value read can't change until memory is written or an event is handled.
+   */
+  public boolean isReadStable(int address) {
+    for (int i = 0; i < chips.length; i++) {
+      if (!chips[i].isReadStable(address)) {
+        return false;
+      }
+    }
+    return true;
+  }
 }
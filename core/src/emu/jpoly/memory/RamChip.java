@@ -7,20 +7,45 @@ package emu.jpoly.memory;
  */
 public class RamChip extends MemoryMappedChip {
 
-  private int size;
-  private int[] mem;
+  private byte[] mem;
   
   /**
-   * Constructor for RamChip.
+   * The mask that is ANDed with an address to give the index into mem. The address lines
+   * that are not in the mask are not decoded, so the RAM is mirrored across them.
+   */
+  private int mirrorMask;
+  
+  /**
+   * When dirty page tracking is on, a bit for each 256 byte page of the chip, which is set
+   * when the page is written to. Null when tracking is off.
+   */
+  private long[] dirtyPages;
+  
+  /**
+   * Constructor for RamChip. The RAM is mirrored at every multiple of its size.
    * 
-   * @param size
+   * @param size The size of the RAM chip in bytes. This must be a power of two.
    */
   public RamChip(int size) {
-    this.size = size;
-    this.mem = new int[size];
+    this(size, size - 1);
+  }
+  
+  /**
+   * Constructor for RamChip.
+   * 
+   * @param size The size of the RAM chip in bytes. This must be a power of two.
+   * @param mirrorMask The address lines that the RAM decodes. The RAM appears again at
+   *     every combination of the address lines that are not in the mask.
+   */
+  public RamChip(int size, int mirrorMask) {
+    if (((size & (size - 1)) != 0) || ((mirrorMask & ~(size - 1)) != 0)) {
+      throw new IllegalArgumentException("Size must be a power of two and the mirror mask must fit within it.");
+    }
+    this.mem = new byte[size];
+    this.mirrorMask = mirrorMask;
     
     for (int i = 0; i < size; i++) {
-      this.mem[i] = ((i & 128) != 0 ? 0xFF : 0);
+      this.mem[i] = (byte)((i & 128) != 0 ? 0xFF : 0);
     }
   }
   
@@ -32,7 +57,7 @@ public class RamChip extends MemoryMappedChip {
    * @return the contents of the memory address.
    */
   public int readMemory(int address) {
-    return mem[address % size];
+    return mem[address & mirrorMask] & 0xFF;
   }
 
   /**
@@ -42,6 +67,79 @@ public class RamChip extends MemoryMappedChip {
    * @param value the value to write to the given address.
    */
   public void writeMemory(int address, int value) {
-    mem[address % size] = (value & 0xFF);
+    int index = address & mirrorMask;
+    mem[index] = (byte)value;
+    if (dirtyPages != null) {
+      dirtyPages[index >> 14] |= 1L << ((index >> 8) & 63);
+    }
+  }
+
+  /**
+   * Turns the tracking of which pages have been written to on or off. While tracking is
+   * on, the Memory can't write to the chip directly, so that every write goes through
+   * writeMemory to be recorded. With it off, as it is by default, writes cost nothing
+   * extra. Turning tracking on starts with no pages dirty.
+   * 
+   * @param dirtyTracking true to track the pages that are written to.
+   */
+  public void setDirtyTracking(boolean dirtyTracking) {
+    if (dirtyTracking != (dirtyPages != null)) {
+      dirtyPages = (dirtyTracking ? new long[Math.max(1, ((mem.length >> 8) + 63) >> 6)] : null);
+      if (memory != null) {
+        memory.updateDirectAccess(this);
+      }
+    }
+  }
+
+  /**
+   * Copies the dirty page bitmap into the given array and then clears it, so that the
+   * next call only reports the pages written to since this one. Bit n of element n / 64
+   * is set if the page starting at index n * 256 in the chip has been written to.
+   * 
+   * @param pages The array to receive the bitmap. It must have at least one element for
+   *     every 64 pages of the chip, and at least one element in all.
+   * 
+   * @return true if any page has been written to.
+   */
+  public boolean collectDirtyPages(long[] pages) {
+    boolean dirty = false;
+    if (dirtyPages != null) {
+      for (int i = 0; i < dirtyPages.length; i++) {
+        pages[i] = dirtyPages[i];
+        dirty |= (dirtyPages[i] != 0);
+        dirtyPages[i] = 0;
+      }
+    }
+    return dirty;
+  }
+
+  /**
+   * Gets the array that holds the chip's memory, so that reads can go directly to it.
+   *
+   * @return the chip's memory.
+   */
+  @Override
+  public byte[] getReadableMemory() {
+    return mem;
+  }
+
+  /**
+   * Gets the array that holds the chip's memory, so that writes can go directly to it.
+   *
+   * @return the chip's memory, or null while dirty pages are being tracked.
+   */
+  @Override
+  public byte[] getWritableMemory() {
+    return (dirtyPages == null ? mem : null);
+  }
+
+  /**
+   * Gets the mask that is ANDed with an address to give the index into the chip's memory.
+   *
+   * @return the address mask.
+   */
+  @Override
+  public int getAddressMask() {
+    return mirrorMask;
   }
 }
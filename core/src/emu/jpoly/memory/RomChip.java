@@ -1,23 +1,76 @@
 package emu.jpoly.memory;
 
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
 /**
- * This class emulates a ROM chip.
+ * This class emulates a ROM chip. The ROM image is either held in an array, which the
+ * Memory can read directly, or in a direct buffer such as a mapped ROM file, which is read
+ * through readMemory.
  *
  * @author Lance Ewing
  */
 public class RomChip extends MemoryMappedChip {
 
-  private int size;
-  private int[] mem;
+  /**
+   * The ROM image, if it is held in an array. Null if it is held in the buffer.
+   */
+  private byte[] mem;
+  
+  /**
+   * The ROM image, if it is held in a buffer. Null if it is held in the array.
+   */
+  private ByteBuffer buffer;
+  
+  /**
+   * The length of the image in the buffer. Addresses beyond it read as 0xFF.
+   */
+  private int bufferLength;
   
   /**
-   * Constructor for RomChip.
+   * The mask that is ANDed with an address to give the index into the ROM image.
+   */
+  private int mask;
+  
+  /**
+   * Constructor for RomChip. The ROM image is copied, padding it up to the next power of
+   * two with 0xFF as an unprogrammed EPROM would read, so that the chip doesn't share its
+   * storage with the caller. Images from RomImages.share are the exception. They are never
+   * written to, so they are used as is and machines that load the same ROM that way share
+   * its array.
    * 
    * @param data The ROM chip data.
    */
-  public RomChip(int[] data) {
-    this.size = data.length;
-    this.mem = data;
+  public RomChip(byte[] data) {
+    this.mem = (RomImages.isShared(data) ? data : RomImages.pad(data));
+    this.mask = mem.length - 1;
+  }
+  
+  /**
+   * Constructor for RomChip that takes the ROM image from the given buffer. A buffer that
+   * is backed by an array is copied and padded as by RomChip(byte[]), so that the Memory
+   * can read it directly. Any other buffer, such as one obtained from a MappedRomFile, is
+   * read in place without being copied. That keeps the image off the heap, but costs a
+   * call to readMemory and a buffer read for every access, including every opcode fetch,
+   * so a ROM that the CPU spends most of its time in runs faster from an array. The buffer
+   * is never written to and its position is ignored.
+   * 
+   * @param data The ROM image, from index 0 up to the buffer's limit.
+   */
+  public RomChip(ByteBuffer data) {
+    if (data.hasArray()) {
+      int start = data.arrayOffset();
+      this.mem = RomImages.pad(Arrays.copyOfRange(data.array(), start, start + data.limit()));
+      this.mask = mem.length - 1;
+      return;
+    }
+    int size = Integer.highestOneBit(Math.max(data.limit(), 1));
+    if (size < data.limit()) {
+      size <<= 1;
+    }
+    this.buffer = data;
+    this.bufferLength = data.limit();
+    this.mask = size - 1;
   }
   
   /**
@@ -28,7 +81,11 @@ public class RomChip extends MemoryMappedChip {
    * @return the contents of the memory address.
    */
   public int readMemory(int address) {
-    return mem[address % size];
+    if (mem != null) {
+      return mem[address & mask] & 0xFF;
+    }
+    int index = address & mask;
+    return (index < bufferLength ? buffer.get(index) & 0xFF : 0xFF);
   }
 
   /**
@@ -40,4 +97,24 @@ public class RomChip extends MemoryMappedChip {
   public void writeMemory(int address, int value) {
     // Has no effect.
   }
+
+  /**
+   * Gets the array that holds the chip's memory, so that reads can go directly to it.
+   *
+   * @return the chip's memory, or null if the ROM image is held in a buffer.
+   */
+  @Override
+  public byte[] getReadableMemory() {
+    return mem;
+  }
+
+  /**
+   * Gets the mask that is ANDed with an address to give the index into the chip's memory.
+   *
+   * @return the address mask.
+   */
+  @Override
+  public int getAddressMask() {
+    return mask;
+  }
 }
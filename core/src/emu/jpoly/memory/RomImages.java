@@ -0,0 +1,100 @@
+package emu.jpoly.memory;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A process wide cache of ROM images, keyed by a hash of their contents, so that every
+ * machine that loads the same ROM shares one copy of it rather than each having its own.
+ * The shared images must never be written to.
+ *
+ * @author Lance Ewing
+ */
+public final class RomImages {
+
+  /**
+   * The shared ROM images, keyed by the SHA-1 hash of the image as it was loaded.
+   */
+  private static final Map<String, byte[]> images = new HashMap<String, byte[]>();
+
+  private RomImages() {
+  }
+
+  /**
+   * Gets the shared copy of the given ROM image, adding it to the cache if this is the
+   * first time it has been seen. The shared copy is already padded up to a power of two
+   * in the same way as RomChip pads it, so that RomChip can use it without copying it.
+   *
+   * @param data The ROM image as loaded.
+   *
+   * @return The shared copy of the ROM image.
+   */
+  public static synchronized byte[] share(byte[] data) {
+    String key = hash(data);
+    byte[] image = images.get(key);
+    if (image == null) {
+      image = pad(data);
+      images.put(key, image);
+    }
+    return image;
+  }
+
+  /**
+   * Tests whether the given array is one of the shared ROM images, as returned by share.
+   *
+   * @param data The array to test.
+   *
+   * @return true if the array is a shared ROM image, otherwise false.
+   */
+  static synchronized boolean isShared(byte[] data) {
+    // Arrays only equal themselves, so this looks for this exact array.
+    return images.containsValue(data);
+  }
+
+  /**
+   * Gets the number of distinct ROM images in the cache.
+   *
+   * @return The number of images.
+   */
+  public static synchronized int size() {
+    return images.size();
+  }
+
+  /**
+   * Copies the given ROM image, padding it up to the next power of two with 0xFF, as an
+   * unprogrammed EPROM would read. The copy is always a new array, even if the length is
+   * already a power of two, so later changes to the caller's array can't reach it.
+   *
+   * @param data The ROM image.
+   *
+   * @return The padded copy of the ROM image.
+   */
+  static byte[] pad(byte[] data) {
+    int size = Integer.highestOneBit(Math.max(data.length, 1));
+    if (size < data.length) {
+      size <<= 1;
+    }
+    byte[] paddedData = new byte[size];
+    System.arraycopy(data, 0, paddedData, 0, data.length);
+    for (int i = data.length; i < size; i++) {
+      paddedData[i] = (byte)0xFF;
+    }
+    return paddedData;
+  }
+
+  private static String hash(byte[] data) {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-1");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-1 is not available.", e);
+    }
+    StringBuilder key = new StringBuilder();
+    for (byte b : digest.digest(data)) {
+      key.append(Integer.toHexString((b & 0xFF) | 0x100).substring(1));
+    }
+    return key.toString();
+  }
+}
@@ -0,0 +1,23 @@
+package emu.jpoly.memory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * A source of a ROM image, such as a file, that a RomChip can read directly from.
+ *
+ * @author Lance Ewing
+ */
+public interface RomSource {
+
+  /**
+   * Gets the ROM image. The buffer holds the image from index 0 up to its limit, and must
+   * not be written to. Reads are made with the absolute get method, so the same buffer can
+   * be shared by any number of RomChips.
+   *
+   * @return The ROM image.
+   *
+   * @throws IOException If the image couldn't be read.
+   */
+  ByteBuffer getData() throws IOException;
+}
@@ -0,0 +1,141 @@
+package emu.jpoly;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import emu.jpoly.cpu.Cpu6809;
+import emu.jpoly.cpu.Cpu6809SingleCycle;
+import emu.jpoly.cpu.Cpu6809SingleInstruction;
+import emu.jpoly.io.Via6522;
+import emu.jpoly.memory.Memory;
+
+/**
+ * Checks that a machine driven by the Machine scheduler behaves exactly like one in which
+ * the CPU and VIA are both stepped every cycle, and that skipping busy-wait loops under
+ * the Machine doesn't change what the machine does.
+ */
+public class MachineTest {
+
+  private static final int[] PROGRAM = {
+      0x10, 0xCE, 0x80, 0x00,  // 1000: LDS #$8000
+      0x86, 0x40,              // 1004: LDA #$40      T1 free-running
+      0xB7, 0xD0, 0x0B,        // 1006: STA $D00B
+      0x86, 0xC0,              // 1009: LDA #$C0      Enable the T1 interrupt
+      0xB7, 0xD0, 0x0E,        // 100B: STA $D00E
+      0xCC, 0x01, 0x23,        // 100E: LDD #$0123
+      0xF7, 0xD0, 0x04,        // 1011: STB $D004
+      0xB7, 0xD0, 0x05,        // 1014: STA $D005     Start T1
+      0x1C, 0xEF,              // 1017: ANDCC #$EF
+      0x30, 0x01,              // 1019: LEAX 1,X
+      0x20, 0xFC               // 101B: BRA $1019
+  };
+
+  private static final int[] IRQ_HANDLER = {
+      0xB6, 0xD0, 0x04,        // 2000: LDA $D004     Clear the T1 interrupt
+      0x7C, 0x30, 0x00,        // 2003: INC $3000
+      0x3B                     // 2006: RTI
+  };
+
+  private static final int[] POLLING_PROGRAM = {
+      0x10, 0xCE, 0x80, 0x00,  // 1000: LDS #$8000
+      0xCC, 0x10, 0x00,        // 1004: LDD #$1000
+      0xF7, 0xD0, 0x04,        // 1007: STB $D004
+      0xB7, 0xD0, 0x05,        // 100A: STA $D005     Start T1 as a one-shot
+      0xB6, 0xD0, 0x0D,        // 100D: LDA $D00D
+      0x85, 0x40,              // 1010: BITA #$40
+      0x27, 0xF9,              // 1012: BEQ $100D     Wait for T1 to time out
+      0xB6, 0xD0, 0x04,        // 1014: LDA $D004     Clear the T1 interrupt flag
+      0x7C, 0x30, 0x00,        // 1017: INC $3000
+      0x20, 0xE8               // 101A: BRA $1004
+  };
+
+  @Test
+  public void scheduledViaMatchesPerCycleVia() {
+    Cpu6809SingleCycle steppedCpu = new Cpu6809SingleCycle();
+    Via6522 steppedVia = createMachine(steppedCpu);
+
+    Cpu6809SingleCycle scheduledCpu = new Cpu6809SingleCycle();
+    Via6522 scheduledVia = createMachine(scheduledCpu);
+    Machine machine = new Machine(scheduledCpu);
+    scheduledVia.setScheduler(machine);
+
+    for (int frame = 0; frame < 100; frame++) {
+      for (int i = 0; i < 3000; i++) {
+        steppedCpu.emulateCycle();
+        steppedVia.emulateCycle();
+      }
+      machine.emulateCycles(3000);
+
+      assertEquals(steppedCpu.getCycleCount(), scheduledCpu.getCycleCount());
+      assertEquals(steppedCpu.getProgramCounter(), scheduledCpu.getProgramCounter());
+      assertEquals(steppedCpu.getIndexRegisterX(), scheduledCpu.getIndexRegisterX());
+      assertEquals(steppedCpu.fetch(0x3000), scheduledCpu.fetch(0x3000));
+    }
+    assertTrue(scheduledCpu.fetch(0x3000) > 0);
+  }
+
+  @Test
+  public void skippingBusyWaitsMatchesRunningThem() {
+    final int[] numOfInstructions = new int[1];
+    Cpu6809SingleInstruction skippingCpu = new Cpu6809SingleInstruction() {
+      public int executeInstruction() {
+        numOfInstructions[0]++;
+        return super.executeInstruction();
+      }
+    };
+    skippingCpu.setBusyWaitDetection(true);
+    Memory skippingMemory = createPollingMachine(skippingCpu);
+    Machine skippingMachine = new Machine(skippingCpu);
+    ((Via6522)skippingMemory.getMemoryMap()[0xD000]).setScheduler(skippingMachine);
+
+    Cpu6809SingleInstruction runningCpu = new Cpu6809SingleInstruction();
+    Memory runningMemory = createPollingMachine(runningCpu);
+    Machine runningMachine = new Machine(runningCpu);
+    ((Via6522)runningMemory.getMemoryMap()[0xD000]).setScheduler(runningMachine);
+
+    for (int frame = 0; frame < 100; frame++) {
+      skippingMachine.emulateCycles(3000);
+      runningMachine.emulateCycles(3000);
+
+      assertEquals(runningCpu.getCycleCount(), skippingCpu.getCycleCount());
+      assertEquals(runningCpu.getProgramCounter(), skippingCpu.getProgramCounter());
+      assertEquals(runningCpu.getAccumulatorA(), skippingCpu.getAccumulatorA());
+      assertEquals(runningCpu.getCC(), skippingCpu.getCC());
+      assertEquals(runningMemory.readMemory(0x3000), skippingMemory.readMemory(0x3000));
+    }
+    assertTrue(runningMemory.readMemory(0x3000) > 50);
+    assertTrue(numOfInstructions[0] < 10000);
+  }
+
+  private Memory createPollingMachine(Cpu6809 cpu) {
+    Memory memory = new Memory(cpu, true);
+    memory.mapChipToMemory(new Via6522(cpu), 0xD000, 0xD0FF);
+    for (int i = 0; i < POLLING_PROGRAM.length; i++) {
+      memory.writeMemory(0x1000 + i, POLLING_PROGRAM[i]);
+    }
+    memory.writeMemory(0x3000, 0x00);
+    memory.writeMemory(0xFFFE, 0x10);
+    memory.writeMemory(0xFFFF, 0x00);
+    return memory;
+  }
+
+  private Via6522 createMachine(Cpu6809SingleCycle cpu) {
+    Memory memory = new Memory(cpu, true);
+    Via6522 via = new Via6522(cpu);
+    memory.mapChipToMemory(via, 0xD000, 0xD0FF);
+    for (int i = 0; i < PROGRAM.length; i++) {
+      memory.writeMemory(0x1000 + i, PROGRAM[i]);
+    }
+    for (int i = 0; i < IRQ_HANDLER.length; i++) {
+      memory.writeMemory(0x2000 + i, IRQ_HANDLER[i]);
+    }
+    memory.writeMemory(0x3000, 0x00);
+    memory.writeMemory(0xFFF8, 0x20);
+    memory.writeMemory(0xFFF9, 0x00);
+    memory.writeMemory(0xFFFE, 0x10);
+    memory.writeMemory(0xFFFF, 0x00);
+    return via;
+  }
+}
@@ -268,7 +268,7 @@ public class Framework {
         lastInstructionCycleNum = instructionCycleNum;
         lastProgramCounter = programCounter;
         emulateCycle();
-      } while ((instructionCycleNum > 1) || ((instructionRegister >= 0x1200) && (instructionRegister < 0x1300))); // Ignores INDEXED mode instruction change.
+      } while ((instructionCycleNum > 1) || ((instructionRegister >= INDEXED_MODE_STEPS) && (instructionRegister < FIRQ_INSTRUCTION))); // Ignores INDEXED mode instruction change.
       
       // Rollback the opcode fetch that was done at the end of the instruction so that we're 
       // at the end of the instruction we were running rather than the start of the next.
@@ -377,9 +377,11 @@ public class Framework {
     int respc = read_word(0xfffe);
     assertEquals(location, respc);
 
+    byte[] data = new byte[instructions.length];
     for (int i = 0; i < instructions.length; i++) {
-      writebyte(i + location, instructions[i]);
+      data[i] = (byte)instructions[i];
     }
+    memory.writeBlock(location, data, 0, data.length);
 
     myTestCPU.reset(); // Set's up for the hardware RESET instruction steps.
     myTestCPU.emulateCycles(7); // Executes the hardware RESET instruction
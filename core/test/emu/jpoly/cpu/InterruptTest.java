@@ -421,6 +421,51 @@ public class InterruptTest extends Framework {
         assertEquals(517, myTestCPU.s.intValue());
     }
 
+    /**
+     * SWI, SWI2, SWI3 and the undocumented RESET opcode stack DP, B and A, not the low
+     * byte of X three times.
+     */
+    @Test
+    public void softwareInterruptsStackEveryRegister() {
+        assertEveryRegisterStacked("SWI", 0xFFFA, 0x8F, 0x3F);
+        assertEveryRegisterStacked("SWI2", 0xFFF4, 0x8F, 0x10, 0x3F);
+        assertEveryRegisterStacked("SWI3", 0xFFF2, 0x8F, 0x11, 0x3F);
+        assertEveryRegisterStacked("RESET", 0xFFFE, 0x0F, 0x3E);
+    }
+
+    private void assertEveryRegisterStacked(String name, int vector, int cc, int... opcode) {
+        myTestCPU.s.set(517);
+        myTestCPU.cc.set(0x0F);
+        setA(1);
+        setB(2);
+        myTestCPU.dp.set(3);
+        setX(0x0405);
+        setY(0x0607);
+        myTestCPU.u.set(0x0809);
+        writeword(vector, 0x1234);
+        for (int i = 0; i < opcode.length; i++) {
+            myTestCPU.write(0xB00 + i, opcode[i]);
+        }
+        myTestCPU.pc.set(0xB00);
+        myTestCPU.execute();
+
+        assertEquals(name, 0x1234, myTestCPU.pc.intValue());
+        assertEquals(name, 517 - 12, myTestCPU.s.intValue());
+        int pc = 0xB00 + opcode.length;
+        assertEquals(name, pc & 0xFF, myTestCPU.read(517 - 1));
+        assertEquals(name, pc >> 8, myTestCPU.read(517 - 2));
+        assertEquals(name, 0x09, myTestCPU.read(517 - 3));
+        assertEquals(name, 0x08, myTestCPU.read(517 - 4));
+        assertEquals(name, 0x07, myTestCPU.read(517 - 5));
+        assertEquals(name, 0x06, myTestCPU.read(517 - 6));
+        assertEquals(name, 0x05, myTestCPU.read(517 - 7));
+        assertEquals(name, 0x04, myTestCPU.read(517 - 8));
+        assertEquals(name, 0x03, myTestCPU.read(517 - 9));  // DP
+        assertEquals(name, 0x02, myTestCPU.read(517 - 10)); // B
+        assertEquals(name, 0x01, myTestCPU.read(517 - 11)); // A
+        assertEquals(name, cc, myTestCPU.read(517 - 12));
+    }
+
     private class SendIRQ extends TimerTask {
         public void run() {
             myTestCPU.getBus().signalIRQ(true); // Execute a hardware interrupt
@@ -0,0 +1,430 @@
+package emu.jpoly.cpu;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import emu.jpoly.io.Via6522;
+import emu.jpoly.memory.Memory;
+import emu.jpoly.memory.RamChip;
+
+/**
+ * Runs the same randomly generated instructions through both Cpu6809SingleCycle and
+ * Cpu6809Microcoded a cycle at a time, and checks that they perform the same read or
+ * write on every cycle and end up with the same registers and the same memory.
+ */
+public class MicrocodedTest {
+
+  private static final int NUM_OF_TRIALS = 50000;
+
+  private static final int[] ILLEGAL_OPCODES = {
+      0x01, 0x02, 0x05, 0x0B, 0x14, 0x15, 0x18, 0x1B, 0x38, 0x41, 0x42, 0x45, 0x4B, 0x4E,
+      0x51, 0x52, 0x55, 0x5B, 0x5E, 0x61, 0x62, 0x65, 0x6B, 0x71, 0x72, 0x75, 0x7B, 0x87,
+      0x8F, 0xC7, 0xCD, 0xCF
+  };
+
+  private static final int[] PREFIX_10_OPCODES = {
+      0x21, 0x22, 0x23, 0x24, 0x25, 0x26, 0x27, 0x28, 0x29, 0x2A, 0x2B, 0x2C, 0x2D, 0x2E,
+      0x2F, 0x3F, 0x83, 0x8C, 0x8E, 0x93, 0x9C, 0x9E, 0x9F, 0xA3, 0xAC, 0xAE, 0xAF, 0xB3,
+      0xBC, 0xBE, 0xBF, 0xCE, 0xDE, 0xDF, 0xEE, 0xEF, 0xFE, 0xFF
+  };
+
+  private static final int[] PREFIX_11_OPCODES = {
+      0x3F, 0x83, 0x8C, 0x93, 0x9C, 0xA3, 0xAC, 0xB3, 0xBC
+  };
+
+  private static final int[] ILLEGAL_POST_BYTES = {
+      0x07, 0x0A, 0x0E, 0x0F, 0x10, 0x12, 0x17, 0x1A, 0x1E
+  };
+
+  /**
+   * A Cpu6809SingleCycle that remembers the last bus access.
+   */
+  private static class TracingSingleCycle extends Cpu6809SingleCycle {
+    String access;
+    int numOfCycles;
+
+    public void emulateCycle() {
+      super.emulateCycle();
+      numOfCycles++;
+    }
+
+    public int fetch(int address) {
+      int value = super.fetch(address);
+      access = String.format("read %04X = %02X", address, value);
+      return value;
+    }
+
+    public void write(int address, int value) {
+      super.write(address, value);
+      access = String.format("write %04X = %02X", address, value);
+    }
+  }
+
+  /**
+   * A Cpu6809Microcoded that remembers the last bus access.
+   */
+  private static class TracingMicrocoded extends Cpu6809Microcoded {
+    String access;
+    int numOfCycles;
+
+    public void emulateCycle() {
+      super.emulateCycle();
+      numOfCycles++;
+    }
+
+    public int fetch(int address) {
+      int value = super.fetch(address);
+      access = String.format("read %04X = %02X", address, value);
+      return value;
+    }
+
+    public void write(int address, int value) {
+      super.write(address, value);
+      access = String.format("write %04X = %02X", address, value);
+    }
+  }
+
+  private TracingSingleCycle cycleCpu;
+  private Memory cycleMemory;
+
+  private TracingMicrocoded microcodedCpu;
+  private Memory microcodedMemory;
+
+  private Random random;
+
+  /**
+   * Whether the Cpu6809Microcoded is allowed to skip a read that Cpu6809SingleCycle does.
+   */
+  private boolean dummyReadsElided;
+
+  /**
+   * The number of reads that the Cpu6809Microcoded skipped.
+   */
+  private int numOfElidedReads;
+
+  @Before
+  public void setUp() {
+    cycleCpu = new TracingSingleCycle();
+    cycleMemory = new Memory(cycleCpu, true);
+    microcodedCpu = new TracingMicrocoded();
+    microcodedMemory = new Memory(microcodedCpu, true);
+    random = new Random(6809);
+
+    for (int address = 0; address < 0x10000; address++) {
+      int value = random.nextInt(256);
+      cycleMemory.writeMemory(address, value);
+      microcodedMemory.writeMemory(address, value);
+    }
+  }
+
+  @Test
+  public void resetSequence() {
+    cycleCpu.reset();
+    microcodedCpu.reset();
+
+    // Both wait for the reset line to be released.
+    cycleCpu.reset = microcodedCpu.reset = false;
+    for (int i = 0; i < 5; i++) {
+      assertSameCycle("RESET held");
+    }
+    cycleCpu.reset = microcodedCpu.reset = true;
+    runInLockstep("RESET");
+    assertRegisters("RESET");
+  }
+
+  @Test
+  public void randomInstructions() {
+    for (int trial = 0; trial < NUM_OF_TRIALS; trial++) {
+      int[] instruction = randomInstruction();
+      int address = 0x0100 + random.nextInt(0xEE00);
+      for (int i = 0; i < instruction.length; i++) {
+        cycleMemory.writeMemory(address + i, instruction[i]);
+        microcodedMemory.writeMemory(address + i, instruction[i]);
+      }
+      randomiseRegisters(address);
+
+      // One in eight trials has a pending interrupt, which should be taken instead.
+      if (random.nextInt(8) == 0) {
+        boolean nmiArmed = random.nextBoolean();
+        cycleCpu.nmiArmed = microcodedCpu.nmiArmed = nmiArmed;
+        signalInterrupts(1 + random.nextInt(7));
+      }
+
+      String message = describe(trial, address, instruction);
+      runInLockstep(message);
+      signalInterrupts(0);
+
+      assertRegisters(message);
+      if ((trial % 1000) == 0) {
+        assertMemory(message);
+      }
+    }
+    assertMemory("final");
+  }
+
+  @Test
+  public void elidedDummyReadsKeepCycleCounts() {
+    microcodedMemory.setElideDummyReads(true);
+    dummyReadsElided = true;
+
+    for (int trial = 0; trial < NUM_OF_TRIALS / 10; trial++) {
+      int[] instruction = randomInstruction();
+      int address = 0x0100 + random.nextInt(0xEE00);
+      for (int i = 0; i < instruction.length; i++) {
+        cycleMemory.writeMemory(address + i, instruction[i]);
+        microcodedMemory.writeMemory(address + i, instruction[i]);
+      }
+      randomiseRegisters(address);
+
+      String message = describe(trial, address, instruction);
+      runInLockstep(message);
+      assertRegisters(message);
+    }
+    assertMemory("final");
+    assertTrue("no reads were elided", numOfElidedReads > 0);
+  }
+
+  @Test
+  public void dummyReadsFromIoAreNotElided() {
+    Via6522 via = new Via6522(microcodedCpu);
+    microcodedMemory.mapChipToMemory(via, 0xD000, 0xD0FF);
+    microcodedMemory.mapChipToMemory(via, 0xE010, 0xE01F);
+
+    // Nothing is elided until it is turned on.
+    assertTrue(microcodedMemory.isDummyReadNeeded(0x1234));
+
+    microcodedMemory.setElideDummyReads(true);
+    assertFalse(microcodedMemory.isDummyReadNeeded(0x1234));
+    assertFalse(microcodedMemory.isDummyReadNeeded(0xFFFF));
+    assertTrue(microcodedMemory.isDummyReadNeeded(0xD000));
+    assertTrue(microcodedMemory.isDummyReadNeeded(0xD0FF));
+    assertTrue(microcodedMemory.isDummyReadNeeded(0xE000));
+
+    // Mapping RAM over the VIA means its reads can be elided again.
+    microcodedMemory.mapChipToMemory(new RamChip(0x100), 0xD000, 0xD0FF);
+    assertFalse(microcodedMemory.isDummyReadNeeded(0xD000));
+  }
+
+  @Test
+  public void cwaiWaitsForInterrupt() {
+    int[] program = { 0x3C, 0xEF };  // CWAI #$EF
+    for (int i = 0; i < program.length; i++) {
+      cycleMemory.writeMemory(0x2000 + i, program[i]);
+      microcodedMemory.writeMemory(0x2000 + i, program[i]);
+    }
+    randomiseRegisters(0x2000);
+    cycleCpu.setCC(0x50);
+    microcodedCpu.setCC(0x50);
+
+    // The IRQ is masked by the CC value pushed, but not by the one that CWAI sets.
+    for (int i = 0; i < 30; i++) {
+      assertSameCycle("CWAI waiting");
+    }
+    signalInterrupts(2);
+    runInLockstep("CWAI");
+    assertRegisters("CWAI");
+    assertMemory("CWAI");
+  }
+
+  @Test
+  public void syncWaitsForInterrupt() {
+    cycleMemory.writeMemory(0x2000, 0x13);  // SYNC
+    microcodedMemory.writeMemory(0x2000, 0x13);
+    randomiseRegisters(0x2000);
+    cycleCpu.setCC(0x50);
+    microcodedCpu.setCC(0x50);
+
+    for (int i = 0; i < 30; i++) {
+      assertSameCycle("SYNC waiting");
+    }
+    signalInterrupts(4);
+    runInLockstep("SYNC");
+    assertRegisters("SYNC");
+  }
+
+  @Test
+  public void syncSkipsToEndOfBurst() {
+    cycleMemory.writeMemory(0x2000, 0x13);  // SYNC
+    microcodedMemory.writeMemory(0x2000, 0x13);
+    randomiseRegisters(0x2000);
+
+    // The Cpu6809SingleCycle skips most of the wait, while the other runs every cycle.
+    for (int i = 0; i < 5; i++) {
+      assertSameCycle("SYNC");
+    }
+    cycleCpu.numOfCycles = 0;
+    cycleCpu.emulateUntil(cycleCpu.getCycleCount() + 1000);
+    microcodedCpu.emulateCycles(1000);
+    assertEquals(cycleCpu.getCycleCount(), microcodedCpu.getCycleCount());
+    assertEquals(1, cycleCpu.numOfCycles);
+
+    signalInterrupts(2);
+    runInLockstep("SYNC");
+    assertRegisters("SYNC");
+  }
+
+  @Test
+  public void cwaiSkipsToEndOfBurst() {
+    int[] program = { 0x3C, 0xFF };  // CWAI #$FF
+    for (int i = 0; i < program.length; i++) {
+      cycleMemory.writeMemory(0x2000 + i, program[i]);
+      microcodedMemory.writeMemory(0x2000 + i, program[i]);
+    }
+    randomiseRegisters(0x2000);
+    cycleCpu.setCC(0x00);
+    microcodedCpu.setCC(0x00);
+    microcodedMemory.setElideDummyReads(true);
+    dummyReadsElided = true;
+
+    for (int i = 0; i < 30; i++) {
+      assertSameCycle("CWAI");
+    }
+    microcodedCpu.numOfCycles = 0;
+    microcodedCpu.emulateCycles(1000);
+    cycleCpu.emulateUntil(cycleCpu.getCycleCount() + 1000);
+    assertEquals(cycleCpu.getCycleCount(), microcodedCpu.getCycleCount());
+    assertEquals(1, microcodedCpu.numOfCycles);
+
+    signalInterrupts(4);
+    runInLockstep("CWAI");
+    assertRegisters("CWAI");
+    assertMemory("CWAI");
+  }
+
+  /**
+   * Runs both CPUs a cycle at a time from the opcode fetch of the next instruction until
+   * the opcode fetch of the one after it, checking that they access the bus in the same
+   * way on every cycle.
+   */
+  private void runInLockstep(String message) {
+    assertSameCycle(message);
+    int cycles = 1;
+    do {
+      assertSameCycle(message + " cycle " + cycles);
+      cycles++;
+      assertTrue("instruction did not finish", cycles < 100);
+    } while ((cycleCpu.instructionCycleNum != 1)
+        || ((cycleCpu.instructionRegister >= Cpu6809SingleCycle.INDEXED_MODE_STEPS)
+            && (cycleCpu.instructionRegister < Cpu6809SingleCycle.FIRQ_INSTRUCTION)));
+  }
+
+  private void assertSameCycle(String message) {
+    cycleCpu.access = microcodedCpu.access = "no bus access";
+    cycleCpu.emulateCycle();
+    microcodedCpu.emulateCycle();
+    if (dummyReadsElided && microcodedCpu.access.equals("no bus access") && cycleCpu.access.startsWith("read ")) {
+      numOfElidedReads++;
+    } else {
+      assertEquals(message, cycleCpu.access, microcodedCpu.access);
+    }
+    assertEquals(message + " cycle count", cycleCpu.getCycleCount(), microcodedCpu.getCycleCount());
+  }
+
+  private int[] randomInstruction() {
+    int[] instruction = new int[6];
+    for (int i = 0; i < instruction.length; i++) {
+      instruction[i] = random.nextInt(256);
+    }
+
+    int opcode;
+    int index;
+    do {
+      opcode = random.nextInt(256);
+    } while (isIn(opcode, ILLEGAL_OPCODES) || (opcode == 0x13) || (opcode == 0x3C));
+    instruction[0] = opcode;
+    index = 1;
+    if (opcode == 0x10) {
+      opcode = PREFIX_10_OPCODES[random.nextInt(PREFIX_10_OPCODES.length)];
+      instruction[index++] = opcode;
+    } else if (opcode == 0x11) {
+      opcode = PREFIX_11_OPCODES[random.nextInt(PREFIX_11_OPCODES.length)];
+      instruction[index++] = opcode;
+    }
+
+    int mode = opcode & 0xF0;
+    if ((mode == 0x60) || (mode == 0xA0) || (mode == 0xE0) || ((opcode >= 0x30) && (opcode <= 0x33))) {
+      while (((instruction[index] & 0x80) != 0) && isIn(instruction[index] & 0x1F, ILLEGAL_POST_BYTES)) {
+        instruction[index] = random.nextInt(256);
+      }
+    }
+    return instruction;
+  }
+
+  private void randomiseRegisters(int address) {
+    int cc = random.nextInt(256);
+    int a = random.nextInt(256);
+    int b = random.nextInt(256);
+    int dp = random.nextInt(256);
+    int x = random.nextInt(0x10000);
+    int y = random.nextInt(0x10000);
+    int u = 0x0100 + random.nextInt(0xFE00);
+    int s = 0x0100 + random.nextInt(0xFE00);
+    setRegisters(cycleCpu, address, cc, a, b, dp, x, y, u, s);
+    setRegisters(microcodedCpu, address, cc, a, b, dp, x, y, u, s);
+  }
+
+  private void setRegisters(Cpu6809 cpu, int pc, int cc, int a, int b, int dp, int x, int y, int u, int s) {
+    cpu.setCC(cc);
+    cpu.setAccumulatorA(a);
+    cpu.setAccumulatorB(b);
+    cpu.setDirectPageRegister(dp);
+    cpu.setIndexRegisterX(x);
+    cpu.setIndexRegisterY(y);
+    cpu.setUserStackPointer(u);
+    cpu.setStackPointer(s);
+    cpu.setProgramCounter(pc);
+  }
+
+  private void signalInterrupts(int lines) {
+    cycleCpu.signalNMI((lines & 1) != 0);
+    cycleCpu.signalIRQ((lines & 2) != 0);
+    cycleCpu.signalFIRQ((lines & 4) != 0);
+    microcodedCpu.signalNMI((lines & 1) != 0);
+    microcodedCpu.signalIRQ((lines & 2) != 0);
+    microcodedCpu.signalFIRQ((lines & 4) != 0);
+  }
+
+  private void assertRegisters(String message) {
+    assertEquals(message + " CC", cycleCpu.getCC(), microcodedCpu.getCC());
+    assertEquals(message + " A", cycleCpu.getAccumulatorA(), microcodedCpu.getAccumulatorA());
+    assertEquals(message + " B", cycleCpu.getAccumulatorB(), microcodedCpu.getAccumulatorB());
+    assertEquals(message + " DP", cycleCpu.getDirectPageRegister(), microcodedCpu.getDirectPageRegister());
+    assertEquals(message + " X", cycleCpu.getIndexRegisterX(), microcodedCpu.getIndexRegisterX());
+    assertEquals(message + " Y", cycleCpu.getIndexRegisterY(), microcodedCpu.getIndexRegisterY());
+    assertEquals(message + " U", cycleCpu.getUserStackPointer(), microcodedCpu.getUserStackPointer());
+    assertEquals(message + " S", cycleCpu.getStackPointer(), microcodedCpu.getStackPointer());
+    assertEquals(message + " PC", cycleCpu.getProgramCounter(), microcodedCpu.getProgramCounter());
+    assertEquals(message + " instruction", cycleCpu.getInstructionRegister(), microcodedCpu.getInstructionRegister());
+  }
+
+  private void assertMemory(String message) {
+    for (int address = 0; address < 0x10000; address++) {
+      assertEquals(message + " memory at " + Integer.toHexString(address),
+          cycleMemory.readMemory(address), microcodedMemory.readMemory(address));
+    }
+  }
+
+  private String describe(int trial, int address, int[] instruction) {
+    StringBuilder description = new StringBuilder();
+    description.append("trial ").append(trial).append(" at ").append(Integer.toHexString(address)).append(':');
+    for (int i = 0; i < instruction.length; i++) {
+      description.append(String.format(" %02X", instruction[i]));
+    }
+    return description.toString();
+  }
+
+  private static boolean isIn(int value, int[] values) {
+    for (int i = 0; i < values.length; i++) {
+      if (values[i] == value) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
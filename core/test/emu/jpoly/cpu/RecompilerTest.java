@@ -0,0 +1,363 @@
+package emu.jpoly.cpu;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import emu.jpoly.memory.Memory;
+import emu.jpoly.memory.MemoryMappedChip;
+import emu.jpoly.memory.RomChip;
+
+/**
+ * Runs programs on both Cpu6809Recompiler and Cpu6809SingleInstruction, and checks that
+ * every time the recompiler returns from executeInstruction, which may have run a whole
+ * translated block, the other CPU arrives at the same cycle count with the same registers.
+ */
+public class RecompilerTest {
+
+  private Cpu6809Recompiler recompiler;
+  private Memory recompilerMemory;
+  private int recompilerCycles;
+
+  private Cpu6809SingleInstruction reference;
+  private Memory referenceMemory;
+  private int referenceCycles;
+
+  private Random random;
+
+  @Before
+  public void setUp() {
+    recompiler = new Cpu6809Recompiler();
+    recompilerMemory = new Memory(recompiler, true);
+    reference = new Cpu6809SingleInstruction();
+    referenceMemory = new Memory(reference, true);
+    random = new Random(6809);
+  }
+
+  @Test
+  public void callsReturnsAndLongBranches() {
+    int[] program = new int[0x8000];
+    int[] code = {
+        0x8E, 0x00, 0x00,        // 8000: LDX #$0000
+        0x30, 0x01,              // 8003: LEAX 1,X
+        0xBD, 0x80, 0x20,        // 8005: JSR $8020
+        0x8D, 0x26,              // 8008: BSR $8030
+        0x17, 0x00, 0x10,        // 800A: LBSR $8020
+        0x8C, 0x10, 0x00,        // 800D: CMPX #$1000
+        0x10, 0x26, 0xFF, 0xEF,  // 8010: LBNE $8003
+        0x20, 0xEA               // 8014: BRA $8000
+    };
+    System.arraycopy(code, 0, program, 0, code.length);
+    int[] subroutine = {
+        0x34, 0x06,              // 8020: PSHS A,B
+        0x4C,                    // 8022: INCA
+        0xB7, 0x20, 0x00,        // 8023: STA $2000
+        0x35, 0x86               // 8026: PULS A,B,PC
+    };
+    System.arraycopy(subroutine, 0, program, 0x20, subroutine.length);
+    int[] otherSubroutine = {
+        0x5C,                    // 8030: INCB
+        0x39                     // 8031: RTS
+    };
+    System.arraycopy(otherSubroutine, 0, program, 0x30, otherSubroutine.length);
+
+    loadRom(program, 0x8000);
+    setRegisters(0x8000, 0x00, 0x3000);
+    runInLockstep(200000);
+  }
+
+  @Test
+  public void selfModifyingCode() {
+    int[] code = {
+        0xC6, 0x00,              // 1000: LDB #$00
+        0xF7, 0x20, 0x00,        // 1002: STB $2000
+        0x7C, 0x10, 0x01,        // 1005: INC $1001
+        0x20, 0xF6               // 1008: BRA $1000
+    };
+    for (int i = 0; i < code.length; i++) {
+      recompilerMemory.writeMemory(0x1000 + i, code[i]);
+      referenceMemory.writeMemory(0x1000 + i, code[i]);
+    }
+    setRegisters(0x1000, 0x00, 0x3000);
+    runInLockstep(200000);
+  }
+
+  @Test
+  public void randomStraightLineCode() {
+    int[] program = new int[0x8000];
+    for (int i = 0; i < program.length; i++) {
+      program[i] = random.nextInt(256);
+    }
+    int address = 0;
+    while (address < 0x0400) {
+      address = randomInstruction(program, address);
+    }
+    // LBRA $8000
+    program[address] = 0x16;
+    program[address + 1] = ((-(address + 3)) >> 8) & 0xFF;
+    program[address + 2] = (-(address + 3)) & 0xFF;
+
+    // Both IRQ and FIRQ go to an RTI.
+    program[0x7F00] = 0x3B;
+    program[0x7FF6] = 0xFF;
+    program[0x7FF7] = 0x00;
+    program[0x7FF8] = 0xFF;
+    program[0x7FF9] = 0x00;
+    loadRom(program, 0x8000);
+
+    for (int i = 0; i < 0x8000; i++) {
+      int value = random.nextInt(256);
+      recompilerMemory.writeMemory(i, value);
+      referenceMemory.writeMemory(i, value);
+    }
+    setRegisters(0x8000, 0x00, 0x4000);
+    runInLockstep(2000000);
+  }
+
+  @Test
+  public void burstsEndInsideTranslatedBlocks() {
+    int[] code = {
+        0x4C,                    // 1000: INCA
+        0x5C,                    // 1001: INCB
+        0x30, 0x01,              // 1002: LEAX 1,X
+        0x31, 0x21,              // 1004: LEAY 1,Y
+        0x4C,                    // 1006: INCA
+        0x3A,                    // 1007: ABX
+        0x5A,                    // 1008: DECB
+        0xB7, 0x20, 0x00,        // 1009: STA $2000
+        0x20, 0xF3               // 100C: BRA $1000
+    };
+    for (int i = 0; i < code.length; i++) {
+      recompilerMemory.writeMemory(0x1000 + i, code[i]);
+      referenceMemory.writeMemory(0x1000 + i, code[i]);
+    }
+    setRegisters(0x1000, 0x00, 0x3000);
+
+    // The bursts are short and of varying lengths, so that most of them end part way
+    // through the loop's block, which has to stop at the same instruction as the
+    // reference does rather than run on to its end.
+    long cycle = 0;
+    for (int burst = 0; burst < 2000; burst++) {
+      cycle += 1 + random.nextInt(40);
+      recompiler.emulateUntil(cycle);
+      reference.emulateUntil(cycle);
+      recompilerCycles = (int)recompiler.getCycleCount();
+      assertEquals("cycles", reference.getCycleCount(), recompiler.getCycleCount());
+      assertRegisters();
+    }
+  }
+
+  @Test
+  public void codeIsNotReadForTranslationFromChipsWithReadSideEffects() {
+    int[] code = {
+        0x4C,                    // 1000: INCA
+        0x5C,                    // 1001: INCB
+        0x20, 0xFC               // 1002: BRA $1000
+    };
+    CountingRam recompilerRam = new CountingRam();
+    CountingRam referenceRam = new CountingRam();
+    recompilerMemory.mapChipToMemory(recompilerRam, 0x1000, 0x10FF);
+    referenceMemory.mapChipToMemory(referenceRam, 0x1000, 0x10FF);
+    for (int i = 0; i < code.length; i++) {
+      recompilerMemory.writeMemory(0x1000 + i, code[i]);
+      referenceMemory.writeMemory(0x1000 + i, code[i]);
+    }
+    setRegisters(0x1000, 0x00, 0x3000);
+    runInLockstep(20000);
+    assertEquals(referenceRam.numOfReads, recompilerRam.numOfReads);
+  }
+
+  /**
+   * Adds a random instruction that doesn't change the flow of control, apart from a short
+   * branch to the next instruction, or change the S register other than by a matching
+   * push and pull.
+   */
+  private int randomInstruction(int[] program, int address) {
+    while (true) {
+      int opcode = random.nextInt(256);
+      int postByte = random.nextInt(256);
+      switch (opcode) {
+        case 0x01: case 0x02: case 0x05: case 0x0B: case 0x14: case 0x15: case 0x18: case 0x1B:
+        case 0x38: case 0x41: case 0x42: case 0x45: case 0x4B: case 0x4E: case 0x51: case 0x52:
+        case 0x55: case 0x5B: case 0x5E: case 0x61: case 0x62: case 0x65: case 0x6B: case 0x71:
+        case 0x72: case 0x75: case 0x7B: case 0x87: case 0x8F: case 0xC7: case 0xCD: case 0xCF:
+          // Illegal.
+          continue;
+        case 0x0E: case 0x6E: case 0x7E: case 0x16: case 0x17: case 0x8D: case 0x9D: case 0xAD:
+        case 0xBD: case 0x39: case 0x3B: case 0x3E: case 0x3F: case 0x10: case 0x11: case 0x13:
+        case 0x3C: case 0x32: case 0x35: case 0x36: case 0x37:
+          // Changes the flow of control or the S register, waits, or has a prefix.
+          continue;
+        case 0x1E:
+        case 0x1F:
+          if (((postByte & 0xF0) == 0x40) || ((postByte & 0xF0) == 0x50)
+              || ((postByte & 0x0F) == 0x04) || ((postByte & 0x0F) == 0x05)) {
+            continue;
+          }
+          break;
+        case 0x34:
+          // PSHS then the matching PULS.
+          postByte &= 0x7F;
+          program[address++] = 0x34;
+          program[address++] = postByte;
+          program[address++] = 0x35;
+          program[address++] = postByte;
+          return address;
+        default:
+          break;
+      }
+      if ((opcode >= 0x20) && (opcode < 0x30)) {
+        postByte = 0;
+      }
+
+      program[address] = opcode;
+      program[address + 1] = postByte;
+      int mode = (opcode >> 4) & 0xF;
+      boolean indexed = (mode == 0x6) || (mode == 0xA) || (mode == 0xE) || ((opcode >= 0x30) && (opcode <= 0x33));
+      if (indexed) {
+        while (((postByte & 0x80) != 0) && isIllegalPostByte(postByte & 0x1F)) {
+          postByte = random.nextInt(256);
+        }
+        program[address + 1] = postByte;
+      }
+      return address + instructionLength(opcode, postByte);
+    }
+  }
+
+  private int instructionLength(int opcode, int postByte) {
+    int offsetBytes = 0;
+    if ((postByte & 0x80) != 0) {
+      switch (postByte & 0x1F) {
+        case 0x08: case 0x0C: case 0x18: case 0x1C:
+          offsetBytes = 1;
+          break;
+        case 0x09: case 0x0D: case 0x19: case 0x1D: case 0x1F:
+          offsetBytes = 2;
+          break;
+        default:
+          break;
+      }
+    }
+    if (opcode >= 0x80) {
+      switch ((opcode >> 4) & 3) {
+        case 0:
+          int operation = opcode & 0x0F;
+          return ((operation == 0x3) || (operation == 0xC) || (operation == 0xE) ? 3 : 2);
+        case 1:
+          return 2;
+        case 2:
+          return 2 + offsetBytes;
+        default:
+          return 3;
+      }
+    }
+    if ((opcode >= 0x60) && (opcode < 0x70)) {
+      return 2 + offsetBytes;
+    }
+    if ((opcode >= 0x30) && (opcode <= 0x33)) {
+      return 2 + offsetBytes;
+    }
+    if (opcode >= 0x70) {
+      return 3;
+    }
+    if ((opcode >= 0x40) || (opcode == 0x12) || (opcode == 0x19) || (opcode == 0x1D)
+        || (opcode == 0x3A) || (opcode == 0x3D)) {
+      return 1;
+    }
+    return 2;
+  }
+
+  private boolean isIllegalPostByte(int mode) {
+    return (mode == 0x07) || (mode == 0x0A) || (mode == 0x0E) || (mode == 0x0F) || (mode == 0x10)
+        || (mode == 0x12) || (mode == 0x17) || (mode == 0x1A) || (mode == 0x1E);
+  }
+
+  private void loadRom(int[] program, int address) {
+    byte[] data = new byte[program.length];
+    for (int i = 0; i < program.length; i++) {
+      data[i] = (byte) program[i];
+    }
+    recompilerMemory.mapChipToMemory(new RomChip(data), address, 0xFFFF);
+    referenceMemory.mapChipToMemory(new RomChip(data.clone()), address, 0xFFFF);
+  }
+
+  private void setRegisters(int pc, int dp, int s) {
+    recompiler.setProgramCounter(pc);
+    recompiler.setDirectPageRegister(dp);
+    recompiler.setStackPointer(s);
+    reference.setProgramCounter(pc);
+    reference.setDirectPageRegister(dp);
+    reference.setStackPointer(s);
+  }
+
+  /**
+   * Runs both CPUs for the given number of cycles, checking the registers at the end of every
+   * translated block. An IRQ or FIRQ is occasionally signalled for a short time.
+   */
+  private void runInLockstep(int numOfCycles) {
+    int interruptLines = 0;
+    while (recompilerCycles < numOfCycles) {
+      recompilerCycles += recompiler.executeInstruction();
+      while (referenceCycles < recompilerCycles) {
+        referenceCycles += reference.executeInstruction();
+      }
+      assertEquals("cycles", referenceCycles, recompilerCycles);
+      assertRegisters();
+
+      if (interruptLines != 0) {
+        interruptLines = 0;
+      } else if (random.nextInt(500) == 0) {
+        interruptLines = 1 + random.nextInt(3);
+      }
+      recompiler.signalIRQ((interruptLines & 1) != 0);
+      reference.signalIRQ((interruptLines & 1) != 0);
+      recompiler.signalFIRQ((interruptLines & 2) != 0);
+      reference.signalFIRQ((interruptLines & 2) != 0);
+    }
+
+    for (int address = 0; address < 0x10000; address++) {
+      assertEquals("memory at " + Integer.toHexString(address),
+          referenceMemory.readMemory(address), recompilerMemory.readMemory(address));
+    }
+  }
+
+  private void assertRegisters() {
+    String message = "after " + recompilerCycles + " cycles";
+    assertEquals(message + " PC", reference.getProgramCounter(), recompiler.getProgramCounter());
+    assertEquals(message + " CC", reference.getCC(), recompiler.getCC());
+    assertEquals(message + " A", reference.getAccumulatorA(), recompiler.getAccumulatorA());
+    assertEquals(message + " B", reference.getAccumulatorB(), recompiler.getAccumulatorB());
+    assertEquals(message + " DP", reference.getDirectPageRegister(), recompiler.getDirectPageRegister());
+    assertEquals(message + " X", reference.getIndexRegisterX(), recompiler.getIndexRegisterX());
+    assertEquals(message + " Y", reference.getIndexRegisterY(), recompiler.getIndexRegisterY());
+    assertEquals(message + " U", reference.getUserStackPointer(), recompiler.getUserStackPointer());
+    assertEquals(message + " S", reference.getStackPointer(), recompiler.getStackPointer());
+  }
+
+  /**
+   * RAM that counts its reads, and says that they have side effects, as an IO chip would.
+   */
+  private static class CountingRam extends MemoryMappedChip {
+
+    private byte[] mem = new byte[0x100];
+
+    private int numOfReads;
+
+    public int readMemory(int address) {
+      numOfReads++;
+      return mem[address & 0xFF] & 0xFF;
+    }
+
+    public void writeMemory(int address, int value) {
+      mem[address & 0xFF] = (byte)value;
+    }
+
+    @Override
+    public boolean hasReadSideEffects() {
+      return true;
+    }
+  }
+}
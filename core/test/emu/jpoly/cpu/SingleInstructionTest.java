@@ -0,0 +1,496 @@
+package emu.jpoly.cpu;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import emu.jpoly.io.Acia6850;
+import emu.jpoly.io.Via6522;
+import emu.jpoly.memory.Memory;
+
+/**
+ * Runs the same randomly generated instructions through both Cpu6809SingleCycle and
+ * Cpu6809SingleInstruction and checks that they end up with the same registers, the
+ * same memory and the same cycle count.
+ */
+public class SingleInstructionTest {
+
+  private static final int NUM_OF_TRIALS = 50000;
+
+  private static final int[] ILLEGAL_OPCODES = {
+      0x01, 0x02, 0x05, 0x0B, 0x14, 0x15, 0x18, 0x1B, 0x38, 0x41, 0x42, 0x45, 0x4B, 0x4E,
+      0x51, 0x52, 0x55, 0x5B, 0x5E, 0x61, 0x62, 0x65, 0x6B, 0x71, 0x72, 0x75, 0x7B, 0x87,
+      0x8F, 0xC7, 0xCD, 0xCF
+  };
+
+  private static final int[] PREFIX_10_OPCODES = {
+      0x21, 0x22, 0x23, 0x24, 0x25, 0x26, 0x27, 0x28, 0x29, 0x2A, 0x2B, 0x2C, 0x2D, 0x2E,
+      0x2F, 0x3F, 0x83, 0x8C, 0x8E, 0x93, 0x9C, 0x9E, 0x9F, 0xA3, 0xAC, 0xAE, 0xAF, 0xB3,
+      0xBC, 0xBE, 0xBF, 0xCE, 0xDE, 0xDF, 0xEE, 0xEF, 0xFE, 0xFF
+  };
+
+  private static final int[] PREFIX_11_OPCODES = {
+      0x3F, 0x83, 0x8C, 0x93, 0x9C, 0xA3, 0xAC, 0xB3, 0xBC
+  };
+
+  private static final int[] ILLEGAL_POST_BYTES = {
+      0x07, 0x0A, 0x0E, 0x0F, 0x10, 0x12, 0x17, 0x1A, 0x1E
+  };
+
+  private Cpu6809SingleCycle cycleCpu;
+  private Memory cycleMemory;
+
+  private Cpu6809SingleInstruction instructionCpu;
+  private Memory instructionMemory;
+
+  private Random random;
+
+  @Before
+  public void setUp() {
+    cycleCpu = new Cpu6809SingleCycle();
+    cycleMemory = new Memory(cycleCpu, true);
+    instructionCpu = new Cpu6809SingleInstruction();
+    instructionMemory = new Memory(instructionCpu, true);
+    random = new Random(6809);
+
+    for (int address = 0; address < 0x10000; address++) {
+      int value = random.nextInt(256);
+      cycleMemory.writeMemory(address, value);
+      instructionMemory.writeMemory(address, value);
+    }
+  }
+
+  @Test
+  public void resetSequence() {
+    cycleCpu.reset();
+    instructionCpu.reset();
+    assertEquals(countCycles(), instructionCpu.executeInstruction());
+    assertRegisters("RESET");
+  }
+
+  @Test
+  public void randomInstructions() {
+    for (int trial = 0; trial < NUM_OF_TRIALS; trial++) {
+      int[] instruction = randomInstruction();
+      int address = 0x0100 + random.nextInt(0xEE00);
+      for (int i = 0; i < instruction.length; i++) {
+        cycleMemory.writeMemory(address + i, instruction[i]);
+        instructionMemory.writeMemory(address + i, instruction[i]);
+      }
+      randomiseRegisters(address);
+
+      // One in eight trials has a pending interrupt, which should be taken instead.
+      if (random.nextInt(8) == 0) {
+        boolean nmiArmed = random.nextBoolean();
+        cycleCpu.nmiArmed = instructionCpu.nmiArmed = nmiArmed;
+        int lines = 1 + random.nextInt(7);
+        signalInterrupts(lines);
+      }
+
+      String message = describe(trial, address, instruction);
+      int expectedCycles = countCycles();
+      int actualCycles = instructionCpu.executeInstruction();
+      signalInterrupts(0);
+
+      assertEquals(message + " cycles", expectedCycles, actualCycles);
+      assertRegisters(message);
+      if ((trial % 1000) == 0) {
+        assertMemory(message);
+      }
+    }
+    assertMemory("final");
+  }
+
+  @Test
+  public void cwaiWaitsForInterrupt() {
+    int[] program = { 0x3C, 0xEF };  // CWAI #$EF
+    for (int i = 0; i < program.length; i++) {
+      cycleMemory.writeMemory(0x2000 + i, program[i]);
+      instructionMemory.writeMemory(0x2000 + i, program[i]);
+    }
+    randomiseRegisters(0x2000);
+    cycleCpu.setCC(0x10);
+    instructionCpu.setCC(0x10);
+    signalInterrupts(2);
+
+    int expectedCycles = countCycles();
+    int actualCycles = instructionCpu.executeInstruction();
+    actualCycles += instructionCpu.executeInstruction();
+    assertEquals(20, expectedCycles);
+    assertEquals(expectedCycles, actualCycles);
+    assertRegisters("CWAI");
+    assertMemory("CWAI");
+  }
+
+  @Test
+  public void syncWaitsForInterrupt() {
+    int[] program = { 0x13 };  // SYNC
+    cycleMemory.writeMemory(0x2000, program[0]);
+    instructionMemory.writeMemory(0x2000, program[0]);
+    randomiseRegisters(0x2000);
+    cycleCpu.setCC(0x50);
+    instructionCpu.setCC(0x50);
+
+    // Nothing happens until an interrupt line goes active, even if it is masked.
+    instructionCpu.executeInstruction();
+    for (int i = 0; i < 10; i++) {
+      assertEquals(1, instructionCpu.executeInstruction());
+    }
+    assertEquals(0x2001, instructionCpu.getProgramCounter());
+
+    signalInterrupts(4);
+    assertEquals(2, instructionCpu.executeInstruction());
+    assertEquals(0x2001, instructionCpu.getProgramCounter());
+  }
+
+  @Test
+  public void maskedIrqIsTakenOnceUnmasked() {
+    // NOP, NOP, ANDCC #$EF, NOP, with the IRQ vector pointing at $3000.
+    int[] program = { 0x12, 0x12, 0x1C, 0xEF, 0x12 };
+    for (int i = 0; i < program.length; i++) {
+      instructionMemory.writeMemory(0x2000 + i, program[i]);
+    }
+    instructionMemory.writeMemory(0xFFF8, 0x30);
+    instructionMemory.writeMemory(0xFFF9, 0x00);
+    instructionCpu.setProgramCounter(0x2000);
+    instructionCpu.setStackPointer(0x1000);
+    instructionCpu.setCC(0x10);
+    instructionCpu.signalIRQ(true);
+
+    assertEquals(2, instructionCpu.executeInstruction());
+    assertEquals(2, instructionCpu.executeInstruction());
+    assertEquals(3, instructionCpu.executeInstruction());
+    assertEquals(0x2004, instructionCpu.getProgramCounter());
+
+    // The IRQ is taken instead of the last NOP.
+    assertEquals(19, instructionCpu.executeInstruction());
+    assertEquals(0x3000, instructionCpu.getProgramCounter());
+  }
+
+  @Test
+  public void heldNmiIsTakenOnceArmed() {
+    // NOP, LDS #$1000, NOP, with the NMI vector pointing at $3000, where there are NOPs.
+    int[] program = { 0x12, 0x10, 0xCE, 0x10, 0x00, 0x12 };
+    for (int i = 0; i < program.length; i++) {
+      instructionMemory.writeMemory(0x2000 + i, program[i]);
+    }
+    for (int i = 0; i < 4; i++) {
+      instructionMemory.writeMemory(0x3000 + i, 0x12);
+    }
+    instructionMemory.writeMemory(0xFFFC, 0x30);
+    instructionMemory.writeMemory(0xFFFD, 0x00);
+    instructionCpu.setProgramCounter(0x2000);
+    instructionCpu.signalNMI(true);
+
+    // Until LDS arms NMI, the held line doesn't leave an interrupt pending.
+    assertFalse(instructionCpu.interruptPending);
+    assertEquals(2, instructionCpu.executeInstruction());
+    assertEquals(4, instructionCpu.executeInstruction());
+    assertTrue(instructionCpu.interruptPending);
+    assertEquals(19, instructionCpu.executeInstruction());
+    assertEquals(0x3000, instructionCpu.getProgramCounter());
+
+    // The line is still held, but NMI is edge triggered, so it isn't taken again.
+    instructionCpu.signalNMI(true);
+    assertEquals(2, instructionCpu.executeInstruction());
+    assertFalse(instructionCpu.interruptPending);
+    assertEquals(2, instructionCpu.executeInstruction());
+    assertEquals(0x3002, instructionCpu.getProgramCounter());
+
+    // A new edge is.
+    instructionCpu.signalNMI(false);
+    instructionCpu.signalNMI(true);
+    assertEquals(19, instructionCpu.executeInstruction());
+    assertEquals(0x3000, instructionCpu.getProgramCounter());
+  }
+
+  @Test
+  public void romTrapReplacesRoutine() {
+    // JSR $4000, then NOP. The routine at $4000 doubles A, taking 2+2+5 cycles.
+    int[] program = { 0xBD, 0x40, 0x00, 0x12 };
+    int[] routine = { 0x48, 0x12, 0x39 };
+    Cpu6809SingleInstruction[] cpus = { instructionCpu, new Cpu6809Recompiler() };
+    for (int i = 0; i < cpus.length; i++) {
+      Cpu6809SingleInstruction cpu = cpus[i];
+      Memory memory = (i == 0 ? instructionMemory : new Memory(cpu, true));
+      for (int j = 0; j < program.length; j++) {
+        memory.writeMemory(0x2000 + j, program[j]);
+      }
+      for (int j = 0; j < routine.length; j++) {
+        memory.writeMemory(0x4000 + j, routine[j]);
+      }
+      cpu.addRomTrap(0x4000, new RomTrap() {
+        public int execute(Cpu6809 cpu) {
+          cpu.setAccumulatorA((cpu.getAccumulatorA() << 1) & 0xFF);
+          cpu.setProgramCounter(cpu.fetchWord(cpu.getStackPointer()));
+          cpu.setStackPointer(cpu.getStackPointer() + 2);
+          return 9;
+        }
+      });
+
+      // Without traps, and then with them, the routine has the same effect.
+      for (int pass = 0; pass < 2; pass++) {
+        cpu.setRomTrapsEnabled(pass == 1);
+        cpu.setProgramCounter(0x2000);
+        cpu.setStackPointer(0x1000);
+        cpu.setAccumulatorA(0x21);
+        int cycles = 0;
+        for (int j = 0; j < (pass == 0 ? 4 : 2); j++) {
+          cycles += cpu.executeInstruction();
+        }
+        assertEquals(0x2003, cpu.getProgramCounter());
+        assertEquals(0x1000, cpu.getStackPointer());
+        assertEquals(0x42, cpu.getAccumulatorA());
+        assertEquals(17, cycles);
+      }
+    }
+  }
+
+  @Test
+  public void emulateCyclesCarriesOverrun() {
+    // Three NOPs and an LBRA back to the start, i.e. 11 cycles per loop.
+    int[] program = { 0x12, 0x12, 0x12, 0x16, 0xFF, 0xFA };
+    for (int i = 0; i < program.length; i++) {
+      instructionMemory.writeMemory(0x2000 + i, program[i]);
+    }
+    instructionCpu.setProgramCounter(0x2000);
+    instructionCpu.emulateCycles(3);
+    assertEquals(0x2002, instructionCpu.getProgramCounter());
+    instructionCpu.emulateCycles(8);
+    assertEquals(0x2000, instructionCpu.getProgramCounter());
+  }
+
+  @Test
+  public void busyWaitLoopIsSkipped() {
+    final int[] numOfInstructions = new int[1];
+    Cpu6809SingleInstruction cpu = new Cpu6809SingleInstruction() {
+      public int executeInstruction() {
+        numOfInstructions[0]++;
+        return super.executeInstruction();
+      }
+    };
+    Memory memory = new Memory(cpu, true);
+    cpu.setBusyWaitDetection(true);
+    Cpu6809SingleInstruction reference = new Cpu6809SingleInstruction();
+    Memory referenceMemory = new Memory(reference, true);
+
+    // Waits for bit 0 of $3000 to be set, taking 9 cycles per loop.
+    int[] program = { 0xB6, 0x30, 0x00, 0x85, 0x01, 0x27, 0xF9, 0x4C };
+    for (int i = 0; i < program.length; i++) {
+      memory.writeMemory(0x2000 + i, program[i]);
+      referenceMemory.writeMemory(0x2000 + i, program[i]);
+    }
+    cpu.setProgramCounter(0x2000);
+    reference.setProgramCounter(0x2000);
+
+    cpu.emulateUntil(100000);
+    reference.emulateUntil(100000);
+    assertEquals(reference.getCycleCount(), cpu.getCycleCount());
+    assertEquals(reference.getProgramCounter(), cpu.getProgramCounter());
+    assertEquals(reference.getCC(), cpu.getCC());
+    assertTrue(numOfInstructions[0] < 20);
+
+    // Once the bit is set, both leave the loop on the same cycle.
+    memory.writeMemory(0x3000, 0x01);
+    referenceMemory.writeMemory(0x3000, 0x01);
+    cpu.emulateCycles(20);
+    reference.emulateCycles(20);
+    assertEquals(reference.getCycleCount(), cpu.getCycleCount());
+    assertEquals(reference.getProgramCounter(), cpu.getProgramCounter());
+    assertEquals(reference.getAccumulatorA(), cpu.getAccumulatorA());
+  }
+
+  @Test
+  public void timerPollingLoopIsNotSkipped() {
+    final int[] numOfInstructions = new int[1];
+    Cpu6809SingleInstruction cpu = new Cpu6809SingleInstruction() {
+      public int executeInstruction() {
+        numOfInstructions[0]++;
+        return super.executeInstruction();
+      }
+    };
+    Memory memory = new Memory(cpu, true);
+    cpu.setBusyWaitDetection(true);
+    memory.mapChipToMemory(new Via6522(cpu), 0xD000, 0xD0FF);
+
+    // Polls the timer 2 high-order counter, which counts down without any event, taking
+    // 8 cycles per loop.
+    int[] program = { 0xB6, 0xD0, 0x09, 0x27, 0xFB };
+    for (int i = 0; i < program.length; i++) {
+      memory.writeMemory(0x2000 + i, program[i]);
+    }
+    cpu.setProgramCounter(0x2000);
+    cpu.emulateUntil(8000);
+    assertEquals(8000, cpu.getCycleCount());
+    assertEquals(2000, numOfInstructions[0]);
+  }
+
+  @Test
+  public void aciaPollingLoopIsNotSkipped() {
+    final int[] numOfInstructions = new int[1];
+    Cpu6809SingleInstruction cpu = new Cpu6809SingleInstruction() {
+      public int executeInstruction() {
+        numOfInstructions[0]++;
+        return super.executeInstruction();
+      }
+    };
+    Memory memory = new Memory(cpu, true);
+    cpu.setBusyWaitDetection(true);
+    Acia6850 acia = new Acia6850(cpu);
+    memory.mapChipToMemory(acia, 0xA000, 0xA001);
+
+    // Waits for RDRF, as BASIC's input routine does, taking 10 cycles per loop, then
+    // stores the character at $3000. The host queues the character before the burst, but
+    // it is only seen once the baud rate delay from the last character has gone by.
+    int[] program = {
+        0xB6, 0xA0, 0x00,        // 2000: LDA $A000
+        0x84, 0x01,              // 2003: ANDA #$01
+        0x27, 0xF9,              // 2005: BEQ $2000
+        0xB6, 0xA0, 0x01,        // 2007: LDA $A001
+        0xB7, 0x30, 0x00,        // 200A: STA $3000
+        0x20, 0xFE               // 200D: BRA $200D
+    };
+    for (int i = 0; i < program.length; i++) {
+      memory.writeMemory(0x2000 + i, program[i]);
+    }
+    acia.rxWrite('A');
+    acia.readMemory(0x0000);
+    acia.readMemory(0x0001);
+    acia.rxWrite('B');
+    cpu.setProgramCounter(0x2000);
+    cpu.emulateUntil(20000);
+    assertEquals('B', memory.readMemory(0x3000));
+    assertTrue(numOfInstructions[0] > 10);
+  }
+
+  /**
+   * Runs the cycle engine from the opcode fetch of the next instruction until the
+   * opcode fetch of the one after it.
+   *
+   * @return The number of cycles that the instruction took.
+   */
+  private int countCycles() {
+    cycleCpu.emulateCycle();
+    int cycles = 1;
+    do {
+      cycleCpu.emulateCycle();
+      cycles++;
+      assertTrue("instruction did not finish", cycles < 100);
+    } while ((cycleCpu.instructionCycleNum != 1)
+        || ((cycleCpu.instructionRegister >= Cpu6809SingleCycle.INDEXED_MODE_STEPS)
+            && (cycleCpu.instructionRegister < Cpu6809SingleCycle.FIRQ_INSTRUCTION)));
+    return cycles - 1;
+  }
+
+  private int[] randomInstruction() {
+    int[] instruction = new int[6];
+    for (int i = 0; i < instruction.length; i++) {
+      instruction[i] = random.nextInt(256);
+    }
+
+    int opcode;
+    int index;
+    do {
+      opcode = random.nextInt(256);
+    } while (isIn(opcode, ILLEGAL_OPCODES) || (opcode == 0x13) || (opcode == 0x3C));
+    instruction[0] = opcode;
+    index = 1;
+    if (opcode == 0x10) {
+      opcode = PREFIX_10_OPCODES[random.nextInt(PREFIX_10_OPCODES.length)];
+      instruction[index++] = opcode;
+    } else if (opcode == 0x11) {
+      opcode = PREFIX_11_OPCODES[random.nextInt(PREFIX_11_OPCODES.length)];
+      instruction[index++] = opcode;
+    }
+
+    int mode = opcode & 0xF0;
+    if ((mode == 0x60) || (mode == 0xA0) || (mode == 0xE0) || ((opcode >= 0x30) && (opcode <= 0x33))) {
+      while (((instruction[index] & 0x80) != 0) && isIn(instruction[index] & 0x1F, ILLEGAL_POST_BYTES)) {
+        instruction[index] = random.nextInt(256);
+      }
+    }
+    return instruction;
+  }
+
+  private void randomiseRegisters(int address) {
+    int cc = random.nextInt(256);
+    int a = random.nextInt(256);
+    int b = random.nextInt(256);
+    int dp = random.nextInt(256);
+    int x = random.nextInt(0x10000);
+    int y = random.nextInt(0x10000);
+    int u = 0x0100 + random.nextInt(0xFE00);
+    int s = 0x0100 + random.nextInt(0xFE00);
+    setRegisters(cycleCpu, address, cc, a, b, dp, x, y, u, s);
+    setRegisters(instructionCpu, address, cc, a, b, dp, x, y, u, s);
+  }
+
+  private void setRegisters(Cpu6809 cpu, int pc, int cc, int a, int b, int dp, int x, int y, int u, int s) {
+    cpu.setCC(cc);
+    cpu.setAccumulatorA(a);
+    cpu.setAccumulatorB(b);
+    cpu.setDirectPageRegister(dp);
+    cpu.setIndexRegisterX(x);
+    cpu.setIndexRegisterY(y);
+    cpu.setUserStackPointer(u);
+    cpu.setStackPointer(s);
+    cpu.setProgramCounter(pc);
+  }
+
+  private void signalInterrupts(int lines) {
+    cycleCpu.signalNMI((lines & 1) != 0);
+    cycleCpu.signalIRQ((lines & 2) != 0);
+    cycleCpu.signalFIRQ((lines & 4) != 0);
+    instructionCpu.signalNMI((lines & 1) != 0);
+    instructionCpu.signalIRQ((lines & 2) != 0);
+    instructionCpu.signalFIRQ((lines & 4) != 0);
+  }
+
+  private void assertRegisters(String message) {
+    assertEquals(message + " CC", cycleCpu.getCC(), instructionCpu.getCC());
+    assertEquals(message + " A", cycleCpu.getAccumulatorA(), instructionCpu.getAccumulatorA());
+    assertEquals(message + " B", cycleCpu.getAccumulatorB(), instructionCpu.getAccumulatorB());
+    assertEquals(message + " DP", cycleCpu.getDirectPageRegister(), instructionCpu.getDirectPageRegister());
+    assertEquals(message + " X", cycleCpu.getIndexRegisterX(), instructionCpu.getIndexRegisterX());
+    assertEquals(message + " Y", cycleCpu.getIndexRegisterY(), instructionCpu.getIndexRegisterY());
+    assertEquals(message + " U", cycleCpu.getUserStackPointer(), instructionCpu.getUserStackPointer());
+    assertEquals(message + " S", cycleCpu.getStackPointer(), instructionCpu.getStackPointer());
+    // The cycle engine has already started the following instruction, and unless that is an
+    // interrupt sequence, it will have fetched its opcode.
+    int pc = cycleCpu.getProgramCounter();
+    if (cycleCpu.instructionRegister < Cpu6809SingleCycle.FIRQ_INSTRUCTION) {
+      pc = (pc - 1) & 0xFFFF;
+    }
+    assertEquals(message + " PC", pc, instructionCpu.getProgramCounter());
+  }
+
+  private void assertMemory(String message) {
+    for (int address = 0; address < 0x10000; address++) {
+      assertEquals(message + " memory at " + Integer.toHexString(address),
+          cycleMemory.readMemory(address), instructionMemory.readMemory(address));
+    }
+  }
+
+  private String describe(int trial, int address, int[] instruction) {
+    StringBuilder description = new StringBuilder();
+    description.append("trial ").append(trial).append(" at ").append(Integer.toHexString(address)).append(':');
+    for (int i = 0; i < instruction.length; i++) {
+      description.append(String.format(" %02X", instruction[i]));
+    }
+    return description.toString();
+  }
+
+  private static boolean isIn(int value, int[] values) {
+    for (int i = 0; i < values.length; i++) {
+      if (values[i] == value) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,86 @@
+package emu.jpoly.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import emu.jpoly.cpu.Cpu6809SingleInstruction;
+import emu.jpoly.memory.Memory;
+
+/**
+ * Checks that the ACIA's baud rate delays are measured in CPU cycles.
+ */
+public class Acia6850Test {
+
+  @Test
+  public void transmitDelayIsCountedInCpuCycles() {
+    Cpu6809SingleInstruction cpu = new Cpu6809SingleInstruction();
+    Memory memory = new Memory(cpu, true);
+    for (int address = 0; address < 0x10000; address++) {
+      memory.writeMemory(address, 0x12);   // NOP
+    }
+    cpu.setProgramCounter(0x0000);
+
+    // 115200 baud at 1.8432 MHz is 128 cycles per character.
+    Acia6850 acia = new Acia6850(cpu);
+    assertEquals(0x02, acia.readMemory(0) & 0x02);
+    acia.writeMemory(1, 'A');
+    assertEquals('A', acia.txRead());
+    assertEquals(0x00, acia.readMemory(0) & 0x02);
+    cpu.emulateCycles(126);
+    assertEquals(0x00, acia.readMemory(0) & 0x02);
+    cpu.emulateCycles(2);
+    assertEquals(0x02, acia.readMemory(0) & 0x02);
+  }
+
+  @Test
+  public void pastedTextIsReceivedOneCharacterAtATime() {
+    Cpu6809SingleInstruction cpu = new Cpu6809SingleInstruction();
+    new Memory(cpu, true);
+    Acia6850 acia = new Acia6850(cpu);
+    acia.setBaudRate(0);
+
+    byte[] text = "10 PRINT \"HELLO\"\r20 GOTO 10\r".getBytes();
+    assertEquals(text.length, acia.rxWrite(text, 0, text.length));
+    for (int i = 0; i < text.length; i++) {
+      assertEquals(0x01, acia.readMemory(0) & 0x01);
+      assertEquals(text[i], acia.readMemory(1));
+      assertEquals(0x00, acia.readMemory(0) & 0x20);
+    }
+    assertEquals(0x00, acia.readMemory(0) & 0x01);
+  }
+
+  @Test
+  public void characterArrivingWhileRxIsFullIsAnOverrun() {
+    Cpu6809SingleInstruction cpu = new Cpu6809SingleInstruction();
+    new Memory(cpu, true);
+    Acia6850 acia = new Acia6850(cpu);
+    acia.setBaudRate(0);
+
+    acia.rxWrite('A');
+    assertEquals(0x01, acia.readMemory(0) & 0x21);
+    acia.rxWrite('B');
+    assertEquals(0x21, acia.readMemory(0) & 0x21);
+    assertEquals('B', acia.readMemory(1));
+    assertEquals(0x00, acia.readMemory(0) & 0x21);
+
+    // Once the register has been read, the next character is received normally.
+    acia.rxWrite('C');
+    assertEquals(0x01, acia.readMemory(0) & 0x21);
+    assertEquals('C', acia.readMemory(1));
+  }
+
+  @Test
+  public void transmittedCharacterCanBeLookedAtBeforeBeingTaken() {
+    Cpu6809SingleInstruction cpu = new Cpu6809SingleInstruction();
+    new Memory(cpu, true);
+    Acia6850 acia = new Acia6850(cpu);
+    acia.writeMemory(1, 'X');
+    assertEquals('X', acia.txRead(false));
+    assertTrue(acia.hasTxChar());
+    assertEquals('X', acia.txRead(true));
+    assertFalse(acia.hasTxChar());
+  }
+}
@@ -0,0 +1,98 @@
+package emu.jpoly.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import org.junit.Test;
+
+import emu.jpoly.cpu.Cpu6809SingleInstruction;
+import emu.jpoly.memory.Memory;
+
+/**
+ * Checks that the ACIA output trap has the same effects and cycle charge as running the
+ * ROM routine that it replaces.
+ */
+public class AciaOutputTrapTest {
+
+  /**
+   * JSR $4000, then BRA to itself.
+   */
+  private static final int[] PROGRAM = { 0xBD, 0x40, 0x00, 0x20, 0xFE };
+
+  /**
+   * The character output routine, with the ACIA at $A000.
+   */
+  private static final int[] ROUTINE = {
+      0x34, 0x04,           // 4000: PSHS B
+      0xF6, 0xA0, 0x00,     // 4002: LDB  $A000
+      0xC5, 0x02,           // 4005: BITB #$02
+      0x27, 0xF9,           // 4007: BEQ  $4002
+      0xB7, 0xA0, 0x01,     // 4009: STA  $A001
+      0x35, 0x84            // 400C: PULS B,PC
+  };
+
+  @Test
+  public void trapMatchesRoutine() {
+    int[] rom = callRoutine(false, false);
+    int[] trap = callRoutine(true, false);
+    for (int i = 0; i < rom.length; i++) {
+      assertEquals("result " + i, rom[i], trap[i]);
+    }
+    assertEquals(8 + 29, trap[0]);
+  }
+
+  @Test
+  public void trapLeavesWaitingToRoutine() {
+    int[] rom = callRoutine(false, true);
+    int[] trap = callRoutine(true, true);
+    for (int i = 0; i < rom.length; i++) {
+      assertEquals("result " + i, rom[i], trap[i]);
+    }
+    assertFalse(trap[0] == 8 + 29);
+  }
+
+  /**
+   * Calls the character output routine to send 0x8D, with B holding 0x55.
+   *
+   * @param romTraps true to call the routine's trap rather than running the ROM code.
+   * @param busy true if the ACIA has only just been given a character, so that the
+   *     routine has to wait out the baud rate delay.
+   *
+   * @return The cycles taken, the character sent, then A, B, CC, S, the byte below the
+   *     return address, and the interrupt flag in the status register.
+   */
+  private int[] callRoutine(boolean romTraps, boolean busy) {
+    Cpu6809SingleInstruction cpu = new Cpu6809SingleInstruction();
+    Memory memory = new Memory(cpu, true);
+    Acia6850 acia = new Acia6850(cpu);
+    memory.mapChipToMemory(acia, 0xA000, 0xA001);
+    for (int i = 0; i < PROGRAM.length; i++) {
+      memory.writeMemory(0x2000 + i, PROGRAM[i]);
+    }
+    for (int i = 0; i < ROUTINE.length; i++) {
+      memory.writeMemory(0x4000 + i, ROUTINE[i]);
+    }
+    cpu.addRomTrap(0x4000, new AciaOutputTrap(acia, 0xA000));
+    cpu.setRomTrapsEnabled(romTraps);
+
+    // The transmit interrupt flag is raised by the last character, if there was one.
+    acia.writeMemory(0xA000, 0x20);
+    if (busy) {
+      acia.writeMemory(0xA001, 'X');
+      acia.txRead();
+    }
+
+    cpu.setProgramCounter(0x2000);
+    cpu.setStackPointer(0x1000);
+    cpu.setAccumulatorA(0x8D);
+    cpu.setAccumulatorB(0x55);
+    cpu.setCC(0x57);
+    while (cpu.getProgramCounter() != 0x2003) {
+      cpu.emulateUntil(cpu.getCycleCount() + 1);
+    }
+    return new int[] {
+        (int)cpu.getCycleCount(), acia.txRead(), cpu.getAccumulatorA(), cpu.getAccumulatorB(), cpu.getCC(),
+        cpu.getStackPointer(), memory.readMemory(0x0FFD), acia.statusReg(false) & 0x80
+    };
+  }
+}
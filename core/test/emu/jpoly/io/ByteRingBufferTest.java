@@ -0,0 +1,68 @@
+package emu.jpoly.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Tests for ByteRingBuffer.
+ */
+public class ByteRingBufferTest {
+
+  @Test
+  public void offerFailsWhenFull() {
+    ByteRingBuffer queue = new ByteRingBuffer(4);
+    assertEquals(-1, queue.poll());
+    assertEquals(3, queue.offer(new byte[] { 1, 2, 3 }, 0, 3));
+    assertTrue(queue.offer(0xFF));
+    assertFalse(queue.offer(5));
+    assertEquals(1, queue.poll());
+    assertEquals(1, queue.offer(new byte[] { 6, 7 }, 0, 2));
+
+    byte[] data = new byte[8];
+    assertEquals(4, queue.poll(data, 0, data.length));
+    assertEquals(2, data[0]);
+    assertEquals(3, data[1]);
+    assertEquals((byte) 0xFF, data[2]);
+    assertEquals(6, data[3]);
+    assertTrue(queue.isEmpty());
+  }
+
+  @Test
+  public void bytesArriveInOrderAcrossThreads() throws InterruptedException {
+    final ByteRingBuffer queue = new ByteRingBuffer(64);
+    final int count = 200000;
+    Thread producer = new Thread() {
+      public void run() {
+        byte[] chunk = new byte[17];
+        int next = 0;
+        while (next < count) {
+          int length = Math.min(chunk.length, count - next);
+          for (int i = 0; i < length; i++) {
+            chunk[i] = (byte) (next + i);
+          }
+          int offered = queue.offer(chunk, 0, length);
+          if (offered == 0) {
+            Thread.yield();
+          }
+          next += offered;
+        }
+      }
+    };
+    producer.start();
+
+    for (int expected = 0; expected < count; ) {
+      int value = queue.poll();
+      if (value >= 0) {
+        assertEquals(expected & 0xFF, value);
+        expected++;
+      } else {
+        Thread.yield();
+      }
+    }
+    producer.join();
+    assertTrue(queue.isEmpty());
+  }
+}
@@ -0,0 +1,313 @@
+package emu.jpoly.memory;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import emu.jpoly.cpu.Cpu6809Recompiler;
+import emu.jpoly.cpu.Cpu6809SingleInstruction;
+import emu.jpoly.io.Acia6850;
+import emu.jpoly.io.Via6522;
+
+/**
+ * Checks the switching between memory maps, the block read and write operations, ROMs
+ * and machines loaded from a RomSource, shared ROM images, and the tracking of dirty RAM
+ * pages.
+ */
+public class MemoryTest {
+
+  @Test
+  public void mapsShareAllButTheRemappedPages() {
+    Memory memory = new Memory(new Cpu6809SingleInstruction(), true);
+    int otherMap = createOtherMap(memory);
+    assertEquals(0, memory.getCurrentMemoryMap());
+    memory.writeMemory(0x1000, 0x11);
+    memory.writeMemory(0xC000, 0x22);
+    memory.writeMemory(0xE800, 0x33);
+
+    memory.selectMemoryMap(otherMap);
+    assertEquals(otherMap, memory.getCurrentMemoryMap());
+    assertEquals(0x11, memory.readMemory(0x1000));
+    assertEquals(0x00, memory.readMemory(0xC000));
+    assertEquals(0x33, memory.readMemory(0xE800));
+    memory.writeMemory(0xC000, 0x44);
+
+    memory.selectMemoryMap(0);
+    assertEquals(0x22, memory.readMemory(0xC000));
+    memory.selectMemoryMap(otherMap);
+    assertEquals(0x44, memory.readMemory(0xC000));
+  }
+
+  @Test
+  public void mixedPagesAreNotSharedOnceRemapped() {
+    Memory memory = new Memory(new Cpu6809SingleInstruction(), true);
+    memory.mapChipToMemory(new RamChip(0x80), 0x2000, 0x207F);
+    memory.writeMemory(0x2080, 0x77);
+    int otherMap = memory.createMemoryMap();
+    memory.selectMemoryMap(otherMap);
+    memory.mapChipToMemory(new RamChip(0x40), 0x2080, 0x20BF);
+    memory.writeMemory(0x2080, 0x55);
+
+    memory.selectMemoryMap(0);
+    assertEquals(0x77, memory.readMemory(0x2080));
+    memory.writeMemory(0x2000, 0x66);
+    memory.selectMemoryMap(otherMap);
+    assertEquals(0x66, memory.readMemory(0x2000));
+    assertEquals(0x55, memory.readMemory(0x2080));
+  }
+
+  @Test
+  public void switchingMapsDiscardsTranslatedCode() {
+    Cpu6809Recompiler cpu = new Cpu6809Recompiler();
+    Memory memory = new Memory(cpu, true);
+    int otherMap = createOtherMap(memory);
+    int[] code = {
+        0x4C,                    // C000: INCA
+        0x20, 0xFD               // C001: BRA $C000
+    };
+    int[] otherCode = {
+        0x5C,                    // C000: INCB
+        0x20, 0xFD               // C001: BRA $C000
+    };
+    for (int i = 0; i < code.length; i++) {
+      memory.writeMemory(0xC000 + i, code[i]);
+    }
+    memory.selectMemoryMap(otherMap);
+    for (int i = 0; i < otherCode.length; i++) {
+      memory.writeMemory(0xC000 + i, otherCode[i]);
+    }
+    memory.selectMemoryMap(0);
+
+    cpu.setProgramCounter(0xC000);
+    cpu.emulateCycles(5000);
+    int a = cpu.getAccumulatorA();
+
+    memory.selectMemoryMap(otherMap);
+    cpu.setProgramCounter(0xC000);
+    cpu.emulateCycles(5000);
+    assertEquals(a, cpu.getAccumulatorA());
+    assertEquals(1000 & 0xFF, cpu.getAccumulatorB());
+  }
+
+  @Test
+  public void blocksMatchByteAtATimeAccess() {
+    Memory memory = new Memory(new Cpu6809SingleInstruction(), true);
+    memory.mapChipToMemory(new RomChip(new byte[0x100]), 0x3000, 0x30FF);
+    memory.mapChipToMemory(new RamChip(0x10), 0x3100, 0x317F);
+    byte[] data = new byte[0x300];
+    for (int i = 0; i < data.length; i++) {
+      data[i] = (byte)(i * 7);
+    }
+
+    // Crosses a ROM page, a page of mirrored RAM and a page of the all RAM chip.
+    memory.writeBlock(0x2F80, data, 0, data.length);
+    for (int i = 0; i < data.length; i++) {
+      int address = 0x2F80 + i;
+      int expected;
+      if ((address >= 0x3000) && (address < 0x3100)) {
+        expected = 0;
+      } else if ((address >= 0x3100) && (address < 0x3180)) {
+        expected = data[0x3170 - 0x2F80 + (address & 0x0F)] & 0xFF;
+      } else {
+        expected = data[i] & 0xFF;
+      }
+      assertEquals("address " + Integer.toHexString(address), expected, memory.readMemory(address));
+    }
+
+    byte[] block = new byte[data.length + 2];
+    memory.readBlock(0x2F80, block, 2, data.length);
+    for (int i = 0; i < data.length; i++) {
+      assertEquals((byte)memory.readMemory(0x2F80 + i), block[i + 2]);
+    }
+  }
+
+  @Test
+  public void blocksWrapAroundAndReachIo() {
+    Cpu6809SingleInstruction cpu = new Cpu6809SingleInstruction();
+    Memory memory = new Memory(cpu, true);
+    Via6522 via = new Via6522(cpu);
+    memory.mapChipToMemory(via, 0xD000, 0xD00F);
+    memory.fill(0xFFF0, 0x20, 0xAA);
+    byte[] block = new byte[0x20];
+    memory.readBlock(0xFFF0, block, 0, block.length);
+    byte[] expected = new byte[0x20];
+    Arrays.fill(expected, (byte)0xAA);
+    assertArrayEquals(expected, block);
+
+    // Writes ORB, ORA and then DDRB, each of which has to go through the VIA.
+    memory.writeBlock(0xD000, new byte[] { 0x5A, 0x00, (byte)0xFF }, 0, 3);
+    assertEquals(0xFF, memory.readMemory(0xD002));
+    assertEquals(0x5A, memory.readMemory(0xD000));
+  }
+
+  @Test
+  public void mappedRomIsReadFromTheFile() throws IOException {
+    File romFile = File.createTempFile("rom", ".bin");
+    romFile.deleteOnExit();
+    byte[] image = new byte[0x300];
+    for (int i = 0; i < image.length; i++) {
+      image[i] = (byte)(i ^ (i >> 8));
+    }
+    FileOutputStream out = new FileOutputStream(romFile);
+    try {
+      out.write(image);
+    } finally {
+      out.close();
+    }
+
+    Memory memory = new Memory(new Cpu6809SingleInstruction(), true);
+    memory.loadCustomRom(0x8000, new MappedRomFile(romFile));
+    for (int i = 0; i < image.length; i++) {
+      assertEquals(image[i] & 0xFF, memory.readMemory(0x8000 + i));
+    }
+    memory.writeMemory(0x8000, 0x99);
+    assertEquals(image[0] & 0xFF, memory.readMemory(0x8000));
+
+    // The image is padded to 1K, which reads as 0xFF, and mirrored above that.
+    RomChip rom = new RomChip(new MappedRomFile(romFile).getData());
+    assertEquals(0xFF, rom.readMemory(0x3FF));
+    assertEquals(image[0x123] & 0xFF, rom.readMemory(0x523));
+  }
+
+  @Test
+  public void romsInHeapBuffersAreReadDirectly() {
+    byte[] image = new byte[0x500];
+    for (int i = 0; i < image.length; i++) {
+      image[i] = (byte)(i * 3);
+    }
+    ByteBuffer buffer = ByteBuffer.wrap(image, 0x100, 0x400).slice();
+    RomChip rom = new RomChip(buffer);
+    byte[] readable = rom.getReadableMemory();
+    assertEquals(0x400, readable.length);
+    assertEquals(image[0x100] & 0xFF, rom.readMemory(0x000));
+    assertEquals(image[0x4FF] & 0xFF, rom.readMemory(0x3FF));
+
+    int first = rom.readMemory(0x000);
+    image[0x100] ^= 0xFF;
+    assertEquals(first, rom.readMemory(0x000));
+  }
+
+  @Test
+  public void identicalRomImagesAreShared() {
+    byte[] image = new byte[0x1800];
+    for (int i = 0; i < image.length; i++) {
+      image[i] = (byte)(i * 13);
+    }
+    byte[] shared = RomImages.share(image);
+    assertEquals(0x2000, shared.length);
+    assertEquals(0xFF, shared[0x1800] & 0xFF);
+    assertSame(shared, RomImages.share(image.clone()));
+
+    byte[] otherImage = image.clone();
+    otherImage[0] ^= 1;
+    assertNotSame(shared, RomImages.share(otherImage));
+
+    RomChip first = new RomChip(RomImages.share(image.clone()));
+    RomChip second = new RomChip(RomImages.share(image.clone()));
+    assertSame(first.getReadableMemory(), second.getReadableMemory());
+  }
+
+  @Test
+  public void romImagesAreCopiedFromTheCallersArray() {
+    byte[] image = new byte[0x400];
+    for (int i = 0; i < image.length; i++) {
+      image[i] = (byte)(i * 29);
+    }
+    byte[] original = image.clone();
+    byte[] shared = RomImages.share(image);
+    RomChip rom = new RomChip(image);
+    assertNotSame(image, shared);
+    assertNotSame(image, rom.getReadableMemory());
+
+    image[0x10] ^= 0xFF;
+    assertArrayEquals(original, shared);
+    assertArrayEquals(original, rom.getReadableMemory());
+    assertSame(shared, RomImages.share(original.clone()));
+  }
+
+  @Test
+  public void machinesCanBeBuiltFromAnyRomSource() throws IOException {
+    final byte[] basic = new byte[0x4000];
+    for (int i = 0; i < basic.length; i++) {
+      basic[i] = (byte)(i * 17);
+    }
+    RomSource basicSource = new RomSource() {
+      public ByteBuffer getData() {
+        return ByteBuffer.wrap(basic);
+      }
+    };
+    Cpu6809SingleInstruction cpu = new Cpu6809SingleInstruction();
+    Memory memory = new Memory(cpu, false);
+    memory.initGrantSearleSimple6809Memory(new Acia6850(cpu), basicSource);
+    assertEquals(basic[0x1234] & 0xFF, memory.readMemory(0xD234));
+    assertSame(RomImages.share(basic), memory.getMemoryMap()[0xC000].getReadableMemory());
+
+    File romFile = File.createTempFile("rom", ".bin");
+    romFile.deleteOnExit();
+    FileOutputStream out = new FileOutputStream(romFile);
+    try {
+      out.write(basic, 0, 0x2000);
+    } finally {
+      out.close();
+    }
+    cpu = new Cpu6809SingleInstruction();
+    memory = new Memory(cpu, false);
+    memory.initVectrexMemory(new Via6522(cpu), new MappedRomFile(romFile));
+    assertEquals(basic[0x1FFE] & 0xFF, memory.readMemory(0xFFFE));
+  }
+
+  @Test
+  public void writtenRamPagesAreCollectedOnce() {
+    Memory memory = new Memory(new Cpu6809SingleInstruction(), false);
+    RamChip ram = new RamChip(0x8000);
+    memory.mapChipToMemory(ram, 0x0000, 0x7FFF);
+    memory.mapChipToMemory(new RamChip(0x8000), 0x8000, 0xFFFF);
+    long[] pages = new long[2];
+
+    // Writes before tracking is turned on aren't recorded.
+    memory.writeMemory(0x0100, 0x01);
+    ram.setDirtyTracking(true);
+    assertFalse(ram.collectDirtyPages(pages));
+
+    memory.writeMemory(0x0100, 0x02);
+    memory.writeMemory(0x41FF, 0x03);
+    memory.fill(0x7F00, 0x200, 0x04);
+    assertTrue(ram.collectDirtyPages(pages));
+    assertEquals((1L << 0x01), pages[0]);
+    assertEquals((1L << (0x41 - 64)) | (1L << (0x7F - 64)), pages[1]);
+    assertEquals(0x02, memory.readMemory(0x0100));
+    assertEquals(0x04, memory.readMemory(0x8000));
+
+    assertFalse(ram.collectDirtyPages(pages));
+    assertEquals(0, pages[0] | pages[1]);
+
+    // With tracking off again, writes go straight to the array.
+    ram.setDirtyTracking(false);
+    memory.writeMemory(0x0200, 0x05);
+    assertEquals(0x05, memory.readMemory(0x0200));
+    assertFalse(ram.collectDirtyPages(pages));
+  }
+
+  /**
+   * Creates a second memory map, the same as the first apart from having a RAM chip of its
+   * own at C000-DFFF.
+   */
+  private int createOtherMap(Memory memory) {
+    int otherMap = memory.createMemoryMap();
+    memory.selectMemoryMap(otherMap);
+    memory.mapChipToMemory(new RamChip(0x2000), 0xC000, 0xDFFF);
+    memory.selectMemoryMap(0);
+    return otherMap;
+  }
+}